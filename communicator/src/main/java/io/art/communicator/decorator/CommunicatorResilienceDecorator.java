@@ -43,6 +43,7 @@
 import static io.art.logging.module.LoggingModule.*;
 import static io.art.resilience.module.ResilienceModule.*;
 import static java.util.Objects.*;
+import static java.util.function.Function.*;
 import static lombok.AccessLevel.*;
 import static reactor.core.publisher.Flux.*;
 import java.util.function.*;
@@ -51,17 +52,24 @@ public class CommunicatorResilienceDecorator implements UnaryOperator<Flux<Objec
     @Getter(lazy = true, value = PRIVATE)
     private static final Logger logger = logger(CommunicatorResilienceDecorator.class);
     private final Property<ResilienceConfiguration> resilienceConfiguration;
-    private final CommunicatorActionIdentifier communicatorAction;
+    private final Property<Function<Publisher<Object>, Publisher<Object>>> pipeline;
+    private final String id;
 
     public CommunicatorResilienceDecorator(CommunicatorAction action) {
-        communicatorAction = communicatorAction(action.getCommunicatorId(), action.getActionId());
-        this.resilienceConfiguration = property(resilienceConfiguration(communicatorAction)).listenConsumer(() -> configuration()
+        CommunicatorActionIdentifier communicatorAction = communicatorAction(action.getCommunicatorId(), action.getActionId());
+        id = communicatorAction.toString();
+        resilienceConfiguration = property(resilienceConfiguration(communicatorAction)).listenConsumer(() -> configuration()
                 .getConsumer()
                 .resilienceConsumer());
+        pipeline = property(this::createPipeline, ignore -> resilienceModule().state().reset(id)).listenProperties(resilienceConfiguration);
     }
 
     @Override
     public Flux<Object> apply(Flux<Object> input) {
+        return from(pipeline.get().apply(input));
+    }
+
+    private Function<Publisher<Object>, Publisher<Object>> createPipeline() {
         ResilienceConfiguration configuration = resilienceConfiguration.get();
 
         RetryConfig retry = configuration.getRetry();
@@ -70,29 +78,29 @@ public Flux<Object> apply(Flux<Object> input) {
         CircuitBreakerConfig circuitBreaker = configuration.getCircuitBreaker();
         BulkheadConfig bulkhead = configuration.getBulkhead();
 
-        Publisher<Object> decorated = input;
+        Function<Publisher<Object>, Publisher<Object>> decorator = identity();
 
         if (nonNull(rateLimiter)) {
-            decorated = RateLimiterOperator.of(rateLimiter(communicatorAction.toString(), rateLimiter)).apply(input);
+            decorator = decorator.andThen(RateLimiterOperator.of(rateLimiter(id, rateLimiter)));
         }
 
         if (nonNull(timeLimiter)) {
-            decorated = TimeLimiterOperator.of(timeLimiter(communicatorAction.toString(), timeLimiter)).apply(input);
+            decorator = decorator.andThen(TimeLimiterOperator.of(timeLimiter(id, timeLimiter)));
         }
 
         if (nonNull(bulkhead)) {
-            decorated = BulkheadOperator.of(bulkhead(communicatorAction.toString(), bulkhead)).apply(input);
+            decorator = decorator.andThen(BulkheadOperator.of(bulkhead(id, bulkhead)));
         }
 
         if (nonNull(circuitBreaker)) {
-            decorated = CircuitBreakerOperator.of(circuitBreaker(communicatorAction.toString(), circuitBreaker)).apply(input);
+            decorator = decorator.andThen(CircuitBreakerOperator.of(circuitBreaker(id, circuitBreaker)));
         }
 
         if (nonNull(retry)) {
-            decorated = RetryOperator.of(retry(communicatorAction.toString(), retry)).apply(input);
+            decorator = decorator.andThen(RetryOperator.of(retry(id, retry)));
         }
 
-        return from(decorated);
+        return decorator;
     }
 
     private CommunicatorModuleConfiguration configuration() {
@@ -0,0 +1,35 @@
+/*
+ * ART
+ *
+ * Copyright 2019-2021 ART
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.art.json.descriptor;
+
+import com.fasterxml.jackson.core.*;
+import java.io.*;
+
+public interface JsonEntityCodec<T> {
+    /**
+     * Writes the entity fields only: the enclosing START_OBJECT and END_OBJECT are written by the caller.
+     */
+    void writeFields(JsonGenerator generator, T value) throws IOException;
+
+    /**
+     * Called with the parser positioned on the entity START_OBJECT.
+     * Must consume exactly one value and return with the matching END_OBJECT as the current token.
+     */
+    T read(JsonParser parser) throws IOException;
+}
@@ -21,9 +21,12 @@
 import com.fasterxml.jackson.core.*;
 import io.art.core.collection.*;
 import io.art.core.exception.*;
+import io.art.core.stream.*;
 import io.art.json.exception.*;
+import io.art.meta.exception.*;
 import io.art.meta.descriptor.Reader;
 import io.art.meta.model.*;
+import io.art.meta.schema.*;
 import io.art.meta.schema.MetaCreatorTemplate.*;
 import io.art.meta.transformer.*;
 import lombok.*;
@@ -31,13 +34,13 @@
 import static io.art.core.caster.Caster.*;
 import static io.art.core.checker.EmptinessChecker.*;
 import static io.art.core.checker.NullityChecker.*;
-import static io.art.core.factory.ListFactory.*;
-import static io.art.core.factory.MapFactory.*;
 import static io.art.json.constants.JsonModuleConstants.Errors.*;
+import static io.art.meta.constants.MetaConstants.Errors.*;
 import static io.art.meta.constants.MetaConstants.MetaTypeExternalKind.*;
 import static java.text.MessageFormat.*;
 import static java.util.Objects.*;
 import java.io.*;
+import java.nio.*;
 import java.util.*;
 
 
@@ -48,56 +51,84 @@ public class JsonModelReader implements Reader {
     @Override
     public <T> T read(MetaType<T> type, InputStream json) {
         if (isNull(json)) return null;
-        MetaTransformer<T> transformer = type.inputTransformer();
         try (JsonParser parser = jsonFactory.createParser(json)) {
-            JsonToken nextToken = parser.nextToken();
-            if (isNull(nextToken) || nextToken == VALUE_NULL) return null;
-            switch (type.externalKind()) {
-                case LAZY:
-                    return transformer.fromLazy(() -> read(type.parameters().get(0), json));
-                case STRING:
-                    return transformer.fromString(parser.getText());
-                case LONG:
-                    return transformer.fromLong(parser.getLongValue());
-                case DOUBLE:
-                    return transformer.fromDouble(parser.getDoubleValue());
-                case FLOAT:
-                    return transformer.fromFloat(parser.getFloatValue());
-                case INTEGER:
-                    return transformer.fromInteger(parser.getIntValue());
-                case BOOLEAN:
-                    return transformer.fromBoolean(parser.getBooleanValue());
-                case CHARACTER:
-                    String text = parser.getText();
-                    if (isEmpty(text)) return null;
-                    return transformer.fromCharacter(text.charAt(0));
-                case SHORT:
-                    return transformer.fromShort(parser.getShortValue());
-                case BYTE:
-                    return transformer.fromByte(parser.getByteValue());
-                case BINARY:
-                    return transformer.fromByteArray(parser.getBinaryValue());
-                case MAP:
-                case LAZY_MAP:
-                    return transformer.fromMap(parseMap(type, parser));
-                case ARRAY:
-                case LAZY_ARRAY:
-                    return transformer.fromArray(parseArray(type, parser));
-                case ENTITY:
-                    return cast(parseEntity(type, parser));
-            }
-            throw new ImpossibleSituationException();
+            return read(type, parser);
+        } catch (Throwable throwable) {
+            throw new JsonException(throwable);
+        }
+    }
+
+    @Override
+    public <T> T read(MetaType<T> type, byte[] json, int offset, int length) {
+        try (JsonParser parser = jsonFactory.createParser(json, offset, length)) {
+            return read(type, parser);
         } catch (Throwable throwable) {
             throw new JsonException(throwable);
         }
     }
 
+    @Override
+    public <T> T read(MetaType<T> type, ByteBuffer nioBuffer) {
+        if (!nioBuffer.hasArray()) {
+            return read(type, new NioByteBufferInputStream(nioBuffer));
+        }
+        int length = nioBuffer.remaining();
+        T result = read(type, nioBuffer.array(), nioBuffer.arrayOffset() + nioBuffer.position(), length);
+        nioBuffer.position(nioBuffer.position() + length);
+        return result;
+    }
+
+    private static <T> T read(MetaType<T> type, JsonParser parser) throws IOException {
+        MetaTransformer<T> transformer = type.inputTransformer();
+        JsonToken nextToken = parser.nextToken();
+        if (isNull(nextToken) || nextToken == VALUE_NULL) return null;
+        switch (type.externalKind()) {
+            case LAZY:
+                return cast(parseValue(type, parser));
+            case STRING:
+                return transformer.fromString(parser.getText());
+            case LONG:
+                return transformer.fromLong(parser.getLongValue());
+            case DOUBLE:
+                return transformer.fromDouble(parser.getDoubleValue());
+            case FLOAT:
+                return transformer.fromFloat(parser.getFloatValue());
+            case INTEGER:
+                return transformer.fromInteger(parser.getIntValue());
+            case BOOLEAN:
+                return transformer.fromBoolean(parser.getBooleanValue());
+            case CHARACTER:
+                String text = parser.getText();
+                if (isEmpty(text)) return null;
+                return transformer.fromCharacter(text.charAt(0));
+            case SHORT:
+                return transformer.fromShort(parser.getShortValue());
+            case BYTE:
+                return transformer.fromByte(parser.getByteValue());
+            case BINARY:
+                return transformer.fromByteArray(parser.getBinaryValue());
+            case MAP:
+            case LAZY_MAP:
+                return cast(parseMap(type, parser));
+            case ARRAY:
+            case LAZY_ARRAY:
+                return cast(parseArray(type, parser));
+            case ENTITY:
+                return cast(parseEntity(type, parser));
+        }
+        throw new ImpossibleSituationException();
+    }
+
 
     private static Object parseEntity(MetaType<?> type, JsonParser parser) throws IOException {
-        JsonToken currentToken = parser.nextToken();
         MetaClass<?> definition = type.declaration();
-        MetaCreatorInstance creator = definition.creator().instantiate();
-        ImmutableMap<String, MetaProperty<?>> properties = creator.properties();
+        JsonEntityCodec<?> codec = definition.codec(JsonEntityCodec.class);
+        if (nonNull(codec)) {
+            return codec.read(parser);
+        }
+        JsonToken currentToken = parser.nextToken();
+        MetaCreatorInstance creator = definition.creator().acquire();
+        MetaPropertyIndex properties = creator.propertyIndex();
         do {
             if (currentToken == END_OBJECT) {
                 return creator.create();
@@ -111,7 +142,7 @@ private static Object parseEntity(MetaType<?> type, JsonParser parser) throws IO
                 currentToken = parser.nextToken();
                 continue;
             }
-            MetaProperty<?> property = properties.get(field);
+            MetaProperty<?> property = properties.find(field);
             if (isNull(property)) {
                 currentToken = parser.nextToken();
                 continue;
@@ -133,14 +164,15 @@ private static Object parseEntity(MetaType<?> type, JsonParser parser) throws IO
         return creator.create();
     }
 
-    private static Map<?, ?> parseMap(MetaType<?> type, JsonParser parser) throws IOException {
+    private static Object parseMap(MetaType<?> type, JsonParser parser) throws IOException {
         JsonToken currentToken = parser.nextToken();
         MetaType<?> keyType = type.parameters().get(0);
         MetaType<?> valueType = type.parameters().get(1);
-        Map<Object, Object> map = map();
+        MetaTransformer<?> keyTransformer = keyType.inputTransformer();
+        MetaMapBuilder<?> map = type.inputTransformer().mapBuilder();
         do {
             if (currentToken == END_OBJECT) {
-                return map;
+                return map.build();
             }
             if (currentToken != FIELD_NAME) {
                 currentToken = parser.nextToken();
@@ -151,7 +183,6 @@ private static Object parseEntity(MetaType<?> type, JsonParser parser) throws IO
                 currentToken = parser.nextToken();
                 continue;
             }
-            MetaTransformer<?> keyTransformer = keyType.inputTransformer();
             switch (currentToken = parser.nextToken()) {
                 case NOT_AVAILABLE:
                 case END_OBJECT:
@@ -167,16 +198,32 @@ private static Object parseEntity(MetaType<?> type, JsonParser parser) throws IO
                     break;
             }
         } while (!parser.isClosed());
-        return map;
+        return map.build();
     }
 
-    private static List<?> parseArray(MetaType<?> type, JsonParser parser) throws IOException {
+    private static Object parseArray(MetaType<?> type, JsonParser parser) throws IOException {
+        switch (type.internalKind()) {
+            case LONG_ARRAY:
+                return parseLongArray(parser);
+            case INTEGER_ARRAY:
+                return parseIntegerArray(parser);
+            case SHORT_ARRAY:
+                return parseShortArray(parser);
+            case DOUBLE_ARRAY:
+                return parseDoubleArray(parser);
+            case FLOAT_ARRAY:
+                return parseFloatArray(parser);
+            case BOOLEAN_ARRAY:
+                return parseBooleanArray(parser);
+            case CHARACTER_ARRAY:
+                return parseCharacterArray(parser);
+        }
         JsonToken currentToken = parser.currentToken();
         MetaType<?> elementsType = orElse(type.arrayComponentType(), () -> type.parameters().get(0));
-        List<Object> array = linkedList();
+        MetaArrayBuilder<?> array = type.inputTransformer().arrayBuilder();
         do {
             if (currentToken == END_ARRAY) {
-                return array;
+                return array.build();
             }
             switch (currentToken = parser.nextToken()) {
                 case NOT_AVAILABLE:
@@ -193,7 +240,89 @@ private static List<?> parseArray(MetaType<?> type, JsonParser parser) throws IO
                     break;
             }
         } while (!parser.isClosed());
-        return array;
+        return array.build();
+    }
+
+    private static long[] parseLongArray(JsonParser parser) throws IOException {
+        LongArrayBuilder array = new LongArrayBuilder();
+        for (JsonToken token = parser.nextToken(); nonNull(token) && token != END_ARRAY; token = parser.nextToken()) {
+            if (token == VALUE_NULL) {
+                throw nullElement(long[].class);
+            }
+            array.add(parser.getLongValue());
+        }
+        return array.build();
+    }
+
+    private static int[] parseIntegerArray(JsonParser parser) throws IOException {
+        IntegerArrayBuilder array = new IntegerArrayBuilder();
+        for (JsonToken token = parser.nextToken(); nonNull(token) && token != END_ARRAY; token = parser.nextToken()) {
+            if (token == VALUE_NULL) {
+                throw nullElement(int[].class);
+            }
+            array.add(parser.getIntValue());
+        }
+        return array.build();
+    }
+
+    private static short[] parseShortArray(JsonParser parser) throws IOException {
+        ShortArrayBuilder array = new ShortArrayBuilder();
+        for (JsonToken token = parser.nextToken(); nonNull(token) && token != END_ARRAY; token = parser.nextToken()) {
+            if (token == VALUE_NULL) {
+                throw nullElement(short[].class);
+            }
+            array.add(parser.getShortValue());
+        }
+        return array.build();
+    }
+
+    private static double[] parseDoubleArray(JsonParser parser) throws IOException {
+        DoubleArrayBuilder array = new DoubleArrayBuilder();
+        for (JsonToken token = parser.nextToken(); nonNull(token) && token != END_ARRAY; token = parser.nextToken()) {
+            if (token == VALUE_NULL) {
+                throw nullElement(double[].class);
+            }
+            array.add(parser.getDoubleValue());
+        }
+        return array.build();
+    }
+
+    private static float[] parseFloatArray(JsonParser parser) throws IOException {
+        FloatArrayBuilder array = new FloatArrayBuilder();
+        for (JsonToken token = parser.nextToken(); nonNull(token) && token != END_ARRAY; token = parser.nextToken()) {
+            if (token == VALUE_NULL) {
+                throw nullElement(float[].class);
+            }
+            array.add(parser.getFloatValue());
+        }
+        return array.build();
+    }
+
+    private static boolean[] parseBooleanArray(JsonParser parser) throws IOException {
+        BooleanArrayBuilder array = new BooleanArrayBuilder();
+        for (JsonToken token = parser.nextToken(); nonNull(token) && token != END_ARRAY; token = parser.nextToken()) {
+            if (token == VALUE_NULL) {
+                throw nullElement(boolean[].class);
+            }
+            array.add(parser.getBooleanValue());
+        }
+        return array.build();
+    }
+
+    private static char[] parseCharacterArray(JsonParser parser) throws IOException {
+        CharacterArrayBuilder array = new CharacterArrayBuilder();
+        for (JsonToken token = parser.nextToken(); nonNull(token) && token != END_ARRAY; token = parser.nextToken()) {
+            if (token == VALUE_NULL) {
+                throw nullElement(char[].class);
+            }
+            String text = parser.getText();
+            array.add(isEmpty(text) ? (char) 0 : text.charAt(0));
+        }
+        return array.build();
+    }
+
+    private static TransformationException nullElement(Class<?> arrayType) {
+        return new TransformationException(format(NULL_PRIMITIVE_ARRAY_ELEMENT, arrayType.getSimpleName()));
     }
 
     private static Object parseField(MetaType<?> type, String field, JsonParser parser) throws IOException {
@@ -212,12 +341,12 @@ private static Object parseField(MetaType<?> type, String field, JsonParser pars
                 if (type.externalKind() != MAP && type.externalKind() != LAZY_MAP) {
                     throw new JsonException(format(JSON_OBJECT_FIELD_EXCEPTION, field, type));
                 }
-                return transformer.fromMap(parseMap(type, parser));
+                return parseMap(type, parser);
             case START_ARRAY:
                 if (type.externalKind() != ARRAY && type.externalKind() != LAZY_ARRAY) {
                     throw new JsonException(format(JSON_ARRAY_FIELD_EXCEPTION, field, type));
                 }
-                return transformer.fromArray(parseArray(type, parser));
+                return parseArray(type, parser);
             case VALUE_STRING:
                 if (type.externalKind() == BINARY) {
                     return transformer.fromByteArray(parser.getBinaryValue());
@@ -234,7 +363,7 @@ private static Object parseField(MetaType<?> type, String field, JsonParser pars
         throw new ImpossibleSituationException();
     }
 
-    private static Object parseValue(MetaType<?> type, JsonParser parser) throws IOException {
+    public static Object parseValue(MetaType<?> type, JsonParser parser) throws IOException {
         MetaTransformer<?> transformer = type.inputTransformer();
         if (type.externalKind() == LAZY) {
             Object value = parseValue(type.parameters().get(0), parser);
@@ -250,12 +379,12 @@ private static Object parseValue(MetaType<?> type, JsonParser parser) throws IOE
                 if (type.externalKind() != MAP && type.externalKind() != LAZY_MAP) {
                     throw new JsonException(format(JSON_OBJECT_IN_ARRAY_EXCEPTION, type));
                 }
-                return transformer.fromMap(parseMap(type, parser));
+                return parseMap(type, parser);
             case START_ARRAY:
                 if (type.externalKind() != ARRAY && type.externalKind() != LAZY_ARRAY) {
                     throw new JsonException(format(JSON_ARRAY_IN_ARRAY_EXCEPTION, type));
                 }
-                return transformer.fromArray(parseArray(type, parser));
+                return parseArray(type, parser);
             case VALUE_STRING:
                 if (type.externalKind() == BINARY) {
                     return transformer.fromByteArray(parser.getBinaryValue());
@@ -23,6 +23,7 @@
 import io.art.json.exception.*;
 import io.art.meta.descriptor.Writer;
 import io.art.meta.model.*;
+import io.art.meta.schema.*;
 import io.art.meta.schema.MetaProviderTemplate.*;
 import io.art.meta.transformer.*;
 import io.netty.buffer.*;
@@ -77,21 +78,56 @@ private static void writeEntity(JsonGenerator generator, String name, MetaType<?
     }
 
 
-    private static void writeArray(JsonGenerator generator, String name, MetaType<?> type, List<?> value) throws IOException {
-        generator.writeArrayFieldStart(name);
-        MetaType<?> elementType = orElse(type.arrayComponentType(), () -> type.parameters().get(0));
-        for (Object element : value) {
-            if (isNull(element)) {
-                generator.writeNull();
-                continue;
-            }
-            writeValue(generator, elementType, element);
-        }
-        generator.writeEndArray();
+    private static void writeArray(JsonGenerator generator, String name, MetaType<?> type, Object value) throws IOException {
+        generator.writeFieldName(name);
+        writeArray(generator, type, value);
     }
 
 
     private static void writeArray(JsonGenerator generator, MetaType<?> type, Object value) throws IOException {
+        switch (type.internalKind()) {
+            case LONG_ARRAY:
+                long[] longs = cast(value);
+                generator.writeArray(longs, 0, longs.length);
+                return;
+            case INTEGER_ARRAY:
+                int[] integers = cast(value);
+                generator.writeArray(integers, 0, integers.length);
+                return;
+            case DOUBLE_ARRAY:
+                double[] doubles = cast(value);
+                generator.writeArray(doubles, 0, doubles.length);
+                return;
+            case SHORT_ARRAY:
+                generator.writeStartArray();
+                for (short element : (short[]) value) {
+                    generator.writeNumber(element);
+                }
+                generator.writeEndArray();
+                return;
+            case FLOAT_ARRAY:
+                generator.writeStartArray();
+                for (float element : (float[]) value) {
+                    generator.writeNumber(element);
+                }
+                generator.writeEndArray();
+                return;
+            case BOOLEAN_ARRAY:
+                generator.writeStartArray();
+                for (boolean element : (boolean[]) value) {
+                    generator.writeBoolean(element);
+                }
+                generator.writeEndArray();
+                return;
+            case CHARACTER_ARRAY:
+                char[] characters = cast(value);
+                generator.writeStartArray();
+                for (int index = 0; index < characters.length; index++) {
+                    generator.writeString(characters, index, 1);
+                }
+                generator.writeEndArray();
+                return;
+        }
         generator.writeStartArray();
         MetaType<?> elementType = orElse(type.arrayComponentType(), () -> type.parameters().get(0));
         List<?> array = type.outputTransformer().toArray(cast(value));
@@ -106,12 +142,54 @@ private static void writeArray(JsonGenerator generator, MetaType<?> type, Object
     }
 
     private static void writeFields(JsonGenerator generator, MetaType<?> type, Object value) throws IOException {
-        MetaProviderInstance provider = type.declaration().provider().instantiate(value);
+        JsonEntityCodec<Object> codec = cast(type.declaration().codec(JsonEntityCodec.class));
+        if (nonNull(codec)) {
+            codec.writeFields(generator, value);
+            return;
+        }
+        MetaProviderTemplate template = type.declaration().provider();
+        MetaProviderInstance provider = template.acquire(value);
         for (MetaProperty<?> property : provider.properties().values()) {
+            if (property.type().type().isPrimitive()) {
+                writePrimitiveField(generator, provider, property);
+                continue;
+            }
             Object field = provider.getValue(property);
             if (isNull(field)) continue;
             writeField(generator, property.name(), property.type(), field);
         }
+        template.release(provider);
+    }
+
+    private static void writePrimitiveField(JsonGenerator generator, MetaProviderInstance provider, MetaProperty<?> property) throws IOException {
+        String name = property.name();
+        switch (property.type().internalKind()) {
+            case INTEGER:
+                generator.writeNumberField(name, provider.getIntegerValue(property));
+                return;
+            case LONG:
+                generator.writeNumberField(name, provider.getLongValue(property));
+                return;
+            case DOUBLE:
+                generator.writeNumberField(name, provider.getDoubleValue(property));
+                return;
+            case FLOAT:
+                generator.writeNumberField(name, provider.getFloatValue(property));
+                return;
+            case SHORT:
+                generator.writeNumberField(name, provider.getShortValue(property));
+                return;
+            case BYTE:
+                generator.writeNumberField(name, provider.getByteValue(property));
+                return;
+            case BOOLEAN:
+                generator.writeBooleanField(name, provider.getBooleanValue(property));
+                return;
+            case CHARACTER:
+                generator.writeStringField(name, String.valueOf(provider.getCharacterValue(property)));
+                return;
+        }
+        throw new ImpossibleSituationException();
     }
 
     private static void writeMap(JsonGenerator generator, MetaType<?> keyType, MetaType<?> valueType, Map<String, ?> map) throws IOException {
@@ -186,12 +264,12 @@ private static void writeValue(JsonGenerator generator, MetaType<?> type, Object
         throw new ImpossibleSituationException();
     }
 
-    private static void writeField(JsonGenerator generator, String name, MetaType<?> type, Object value) throws IOException {
+    public static void writeField(JsonGenerator generator, String name, MetaType<?> type, Object value) throws IOException {
         MetaTransformer<?> transformer = type.outputTransformer();
         switch (type.externalKind()) {
             case ARRAY:
             case LAZY_ARRAY:
-                writeArray(generator, name, type, transformer.toArray(cast(value)));
+                writeArray(generator, name, type, value);
                 return;
             case LAZY:
                 writeField(generator, name, type.parameters().get(0), transformer.toLazy(cast(value)).get());
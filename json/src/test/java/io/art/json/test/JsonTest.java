@@ -1,14 +1,24 @@
 package io.art.json.test;
 
 
+import com.fasterxml.jackson.core.*;
+import io.art.core.collection.*;
 import io.art.json.descriptor.*;
 import io.art.json.module.*;
+import io.art.json.test.meta.*;
 import io.art.json.test.model.*;
+import io.art.meta.exception.*;
+import io.art.meta.model.*;
+import io.art.meta.schema.*;
+import io.art.meta.schema.MetaProviderTemplate.*;
+import io.art.meta.transformer.*;
 import meta.*;
 import org.junit.jupiter.api.*;
 import reactor.core.publisher.*;
+import static com.fasterxml.jackson.core.JsonToken.*;
 import static io.art.core.context.TestingContext.*;
 import static io.art.core.factory.ArrayFactory.*;
+import static io.art.json.descriptor.JsonModelReader.*;
 import static io.art.json.module.JsonModule.*;
 import static io.art.json.test.generator.ModelGenerator.*;
 import static io.art.meta.model.TypedObject.*;
@@ -16,6 +26,7 @@
 import static io.art.meta.module.MetaModule.*;
 import static java.util.Objects.*;
 import static org.assertj.core.api.Assertions.*;
+import java.io.*;
 import java.time.*;
 import java.time.chrono.*;
 import java.util.*;
@@ -26,7 +37,7 @@ public class JsonTest {
     @BeforeAll
     public static void setup() {
         testing(
-                meta(MetaJsonTest::new).getFactory(),
+                meta(() -> new MetaJsonTest(new MetaCodecLibrary(), new MetaPrimitiveLibrary())).getFactory(),
                 JsonModule::new
         );
     }
@@ -48,4 +59,105 @@ public void testJsonRead() {
                 .isEqualTo(model);
     }
 
+    @Test
+    public void testPrimitiveAccessors() {
+        Model model = generateModel();
+        MetaProviderTemplate provider = declaration(Model.class).provider();
+        MetaProviderInstance instance = provider.instantiate(model);
+        ImmutableMap<String, MetaProperty<?>> properties = provider.propertyMap();
+        assertThat(instance.getIntegerValue(properties.get("f1"))).isEqualTo(model.getF1());
+        assertThat(instance.getShortValue(properties.get("f2"))).isEqualTo(model.getF2());
+        assertThat(instance.getDoubleValue(properties.get("f3"))).isEqualTo(model.getF3());
+        assertThat(instance.getFloatValue(properties.get("f4"))).isEqualTo(model.getF4());
+        assertThat(instance.getLongValue(properties.get("f5"))).isEqualTo(model.getF5());
+        assertThat(instance.getBooleanValue(properties.get("f6"))).isEqualTo(model.isF6());
+        assertThat(instance.getCharacterValue(properties.get("f7"))).isEqualTo(model.getF7());
+        assertThat(instance.getByteValue(properties.get("f8"))).isEqualTo(model.getF8());
+    }
+
+    @Test
+    public void testPrimitiveAccessorsWithoutBoxing() {
+        PrimitiveModel model = new PrimitiveModel(1, (short) 2, 3.5, 4.5f, 5L, true, 'c', (byte) 8);
+        MetaProviderTemplate provider = declaration(PrimitiveModel.class).provider();
+        MetaProviderInstance instance = provider.instantiate(model);
+        ImmutableMap<String, MetaProperty<?>> properties = provider.propertyMap();
+        assertThat(instance.getIntegerValue(properties.get("f1"))).isEqualTo(model.getF1());
+        assertThat(instance.getShortValue(properties.get("f2"))).isEqualTo(model.getF2());
+        assertThat(instance.getDoubleValue(properties.get("f3"))).isEqualTo(model.getF3());
+        assertThat(instance.getFloatValue(properties.get("f4"))).isEqualTo(model.getF4());
+        assertThat(instance.getLongValue(properties.get("f5"))).isEqualTo(model.getF5());
+        assertThat(instance.getBooleanValue(properties.get("f6"))).isEqualTo(model.isF6());
+        assertThat(instance.getCharacterValue(properties.get("f7"))).isEqualTo(model.getF7());
+        assertThat(instance.getByteValue(properties.get("f8"))).isEqualTo(model.getF8());
+    }
+
+    @Test
+    public void testEntityCodec() throws IOException {
+        JsonModelWriter writer = jsonModule().configuration().getWriter();
+        JsonModelReader reader = jsonModule().configuration().getReader();
+        MetaType<CodecModel> type = declaration(CodecModel.class).definition();
+        CodecModel model = new CodecModel(1, "first");
+        String json = writer.writeToString(typed(type, model));
+        assertThat(json).isEqualTo("{\"i\":1,\"n\":\"first\"}");
+        assertThat(reader.read(type, json)).isEqualTo(model);
+        assertThat(reader.read(type, "{\"i\":2,\"x\":{\"y\":[1,2]},\"n\":null}")).isEqualTo(new CodecModel(2, null));
+
+        try (JsonParser parser = jsonModule().configuration().getObjectMapper().getFactory().createParser("[{\"i\":1,\"n\":\"first\"},{\"i\":2,\"n\":\"second\"}]")) {
+            assertThat(parser.nextToken()).isEqualTo(START_ARRAY);
+            parser.nextToken();
+            assertThat(parseValue(type, parser)).isEqualTo(model);
+            parser.nextToken();
+            assertThat(parseValue(type, parser)).isEqualTo(new CodecModel(2, "second"));
+            assertThat(parser.nextToken()).isEqualTo(END_ARRAY);
+        }
+    }
+
+    @Test
+    public void testPrimitiveArrays() {
+        MetaClass<Model> model = declaration(Model.class);
+        MetaType<int[]> integers = model.<int[]>field("f17").type();
+        MetaType<long[]> longs = model.<long[]>field("f21").type();
+        MetaType<char[]> characters = model.<char[]>field("f23").type();
+        int[] largeIntegers = new int[100];
+        long[] largeLongs = new long[100];
+        char[] largeCharacters = new char[100];
+        for (int index = 0; index < 100; index++) {
+            largeIntegers[index] = index - 50;
+            largeLongs[index] = Long.MAX_VALUE - index;
+            largeCharacters[index] = (char) ('a' + index % 26);
+        }
+        assertRoundTrip(integers, new int[0]);
+        assertRoundTrip(integers, largeIntegers);
+        assertRoundTrip(longs, new long[0]);
+        assertRoundTrip(longs, largeLongs);
+        assertRoundTrip(characters, new char[0]);
+        assertRoundTrip(characters, largeCharacters);
+
+        JsonModelReader reader = jsonModule().configuration().getReader();
+        assertThatThrownBy(() -> reader.read(integers, "[1,null]")).hasCauseInstanceOf(TransformationException.class);
+        assertThatThrownBy(() -> reader.read(longs, "[null]")).hasCauseInstanceOf(TransformationException.class);
+        assertThatThrownBy(() -> reader.read(characters, "[\"a\",null]")).hasCauseInstanceOf(TransformationException.class);
+    }
+
+    @Test
+    public void testPrimitiveArrayBuildersRejectNull() {
+        List<MetaArrayBuilder<?>> builders = dynamicArrayOf(
+                new IntegerArrayBuilder(),
+                new LongArrayBuilder(),
+                new ShortArrayBuilder(),
+                new DoubleArrayBuilder(),
+                new FloatArrayBuilder(),
+                new BooleanArrayBuilder(),
+                new CharacterArrayBuilder()
+        );
+        for (MetaArrayBuilder<?> builder : builders) {
+            assertThatThrownBy(() -> builder.add(null)).isInstanceOf(TransformationException.class);
+        }
+    }
+
+    private static <T> void assertRoundTrip(MetaType<T> type, T value) {
+        JsonModelWriter writer = jsonModule().configuration().getWriter();
+        JsonModelReader reader = jsonModule().configuration().getReader();
+        assertThat(reader.read(type, writer.writeToString(typed(type, value)))).isEqualTo(value);
+    }
 }
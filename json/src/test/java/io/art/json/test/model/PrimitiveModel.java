@@ -0,0 +1,16 @@
+package io.art.json.test.model;
+
+import lombok.*;
+
+@Getter
+@AllArgsConstructor
+public class PrimitiveModel {
+    int f1;
+    short f2;
+    double f3;
+    float f4;
+    long f5;
+    boolean f6;
+    char f7;
+    byte f8;
+}
@@ -18,8 +18,12 @@
 
 dependencies {
     val sl4jVersion: String by project
+    val jacksonVersion: String by project
+    val messagePackVersion: String by project
 
     implementation(project(":core"))
+    implementation("com.fasterxml.jackson.core", "jackson-core", jacksonVersion)
+    implementation("org.msgpack", "msgpack-core", messagePackVersion)
 
     api("org.slf4j", "slf4j-api", sl4jVersion)
 }
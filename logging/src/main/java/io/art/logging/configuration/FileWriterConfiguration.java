@@ -19,6 +19,7 @@
 package io.art.logging.configuration;
 
 import io.art.core.source.*;
+import io.art.logging.exception.*;
 import lombok.*;
 import static io.art.core.checker.NullityChecker.*;
 import static io.art.core.constants.StringConstants.*;
@@ -26,6 +27,8 @@
 import static io.art.core.handler.ExceptionHandler.*;
 import static io.art.logging.constants.LoggingModuleConstants.ConfigurationKeys.*;
 import static io.art.logging.constants.LoggingModuleConstants.Defaults.*;
+import static io.art.logging.constants.LoggingModuleConstants.Errors.*;
+import static java.text.MessageFormat.*;
 import static java.time.format.DateTimeFormatter.*;
 import java.nio.file.*;
 import java.time.*;
@@ -49,6 +52,18 @@ public class FileWriterConfiguration {
     @Builder.Default
     private final Duration rotationPeriod = DEFAULT_LOG_FILE_ROTATION_PERIOD;
 
+    @Builder.Default
+    private final int bufferSize = DEFAULT_LOG_FILE_BUFFER_SIZE;
+
+    @Builder.Default
+    private final int flushCount = DEFAULT_LOG_FILE_FLUSH_COUNT;
+
+    @Builder.Default
+    private final Duration flushInterval = DEFAULT_LOG_FILE_FLUSH_INTERVAL;
+
+    @Builder.Default
+    private final boolean syncOnFlush = DEFAULT_LOG_FILE_SYNC_ON_FLUSH;
+
     public static FileWriterConfiguration from(ConfigurationSource source, FileWriterConfiguration fallback) {
         FileWriterConfigurationBuilder builder = FileWriterConfiguration.builder();
         builder.directory(let(source.getString(DIRECTORY_KEY), Paths::get, fallback.directory));
@@ -59,6 +74,14 @@ public static FileWriterConfiguration from(ConfigurationSource source, FileWrite
                 pattern -> handleException(ignore -> DEFAULT_LOG_FILE_TIME_STAMP_FORMAT).call(() -> ofPattern(pattern)),
                 fallback.timestampFormat
         ));
+        int bufferSize = orElse(source.getInt(BUFFER_SIZE_KEY), fallback.bufferSize);
+        if (bufferSize <= 0) {
+            throw new LoggingModuleException(format(INVALID_LOG_FILE_BUFFER_SIZE, String.valueOf(bufferSize)));
+        }
+        builder.bufferSize(bufferSize);
+        builder.flushCount(orElse(source.getInt(FLUSH_COUNT_KEY), fallback.flushCount));
+        builder.flushInterval(orElse(source.getDuration(FLUSH_INTERVAL_KEY), fallback.flushInterval));
+        builder.syncOnFlush(orElse(source.getBool(SYNC_ON_FLUSH_KEY), fallback.syncOnFlush));
         return builder.build();
     }
 
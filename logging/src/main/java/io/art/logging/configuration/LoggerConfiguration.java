@@ -30,6 +30,8 @@
 import static io.art.core.collection.ImmutableArray.*;
 import static io.art.logging.constants.LoggingLevel.*;
 import static io.art.logging.constants.LoggingModuleConstants.ConfigurationKeys.*;
+import static io.art.logging.constants.LoggingModuleConstants.Defaults.*;
+import java.time.*;
 import java.util.function.*;
 
 @Getter
@@ -41,6 +43,15 @@ public class LoggerConfiguration {
     @Builder.Default
     private final Boolean enabled = true;
 
+    @Builder.Default
+    private final Integer rateLimit = DEFAULT_RATE_LIMIT;
+
+    @Builder.Default
+    private final Duration rateLimitPeriod = DEFAULT_RATE_LIMIT_PERIOD;
+
+    @Builder.Default
+    private final Duration deduplicationWindow = DEFAULT_DEDUPLICATION_WINDOW;
+
     @Builder.Default
     private final ImmutableArray<LoggerWriterConfiguration> configurableWriters = emptyImmutableArray();
 
@@ -51,6 +62,9 @@ public static LoggerConfiguration from(ConfigurationSource source, LoggerConfigu
         LoggerConfigurationBuilder builder = LoggerConfiguration.builder();
         builder.level(LoggingLevel.parse(source.getString(LEVEL_KEY), fallback.level));
         builder.enabled(orElse(source.getBool(ENABLED_KEY), fallback.enabled));
+        builder.rateLimit(orElse(source.getInt(RATE_LIMIT_KEY), fallback.rateLimit));
+        builder.rateLimitPeriod(orElse(source.getDuration(RATE_LIMIT_PERIOD_KEY), fallback.rateLimitPeriod));
+        builder.deduplicationWindow(orElse(source.getDuration(DEDUPLICATION_WINDOW_KEY), fallback.deduplicationWindow));
         builder.configurableWriters(ifEmpty(
                 source.getNestedArray(WRITERS_SECTION, writer -> LoggerWriterConfiguration.from(writer, LoggerWriterConfiguration.defaults())),
                 fallback.configurableWriters
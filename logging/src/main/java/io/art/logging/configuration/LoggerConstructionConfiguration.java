@@ -31,4 +31,5 @@ public class LoggerConstructionConfiguration {
     private final LoggerConfiguration loggerConfiguration;
     private final LoggerProducer producer;
     private final ImmutableArray<LoggerWriter> writers;
+    private final ImmutableMap<LoggerWriter, Object> writerSources;
 }
@@ -18,8 +18,10 @@
 
 package io.art.logging.configuration;
 
+import io.art.core.collection.*;
 import io.art.core.source.*;
 import io.art.logging.constants.*;
+import io.art.logging.layout.*;
 import lombok.*;
 import static io.art.core.checker.NullityChecker.*;
 import static io.art.core.context.Context.*;
@@ -27,6 +29,7 @@
 import static io.art.logging.constants.LoggingModuleConstants.ConfigurationKeys.*;
 import static io.art.logging.constants.LoggingModuleConstants.Defaults.*;
 import static io.art.logging.constants.LoggingWriterType.*;
+import static io.art.logging.layout.LoggingLayout.*;
 import static java.nio.charset.Charset.*;
 import java.nio.charset.*;
 import java.time.format.*;
@@ -46,6 +49,9 @@ public class LoggerWriterConfiguration {
     @Builder.Default
     private final FileWriterConfiguration file = FileWriterConfiguration.defaults();
 
+    @Builder.Default
+    private final MappedFileWriterConfiguration mappedFile = MappedFileWriterConfiguration.defaults();
+
     @Builder.Default
     private final TcpWriterConfiguration tcp = TcpWriterConfiguration.defaults();
 
@@ -55,14 +61,30 @@ public class LoggerWriterConfiguration {
     @Builder.Default
     private final DateTimeFormatter dateTimeFormatter = DEFAULT_LOG_DATE_TIME_FORMAT;
 
+    @Builder.Default
+    private final String layoutPattern = DEFAULT_LOG_LAYOUT;
+
+    @Builder.Default
+    private final LoggingFormat format = DEFAULT_LOG_FORMAT;
+
+    @Builder.Default
+    private final ImmutableMap<String, String> context = ImmutableMap.emptyImmutableMap();
+
+    @Getter(lazy = true)
+    private final LoggingLayout layout = compileLayout(layoutPattern, dateTimeFormatter);
+
     public static LoggerWriterConfiguration from(ConfigurationSource source, LoggerWriterConfiguration fallback) {
         LoggerWriterConfigurationBuilder builder = LoggerWriterConfiguration.builder();
         builder.type(LoggingWriterType.parse(source.getString(TYPE_KEY), fallback.type));
         builder.console(ConsoleWriterConfiguration.from(source, fallback.console));
         builder.file(FileWriterConfiguration.from(source, fallback.file));
+        builder.mappedFile(MappedFileWriterConfiguration.from(source, fallback.mappedFile));
         builder.tcp(TcpWriterConfiguration.from(source, fallback.tcp));
         builder.udp(UdpWriterConfiguration.from(source, fallback.udp));
         builder.dateTimeFormatter(let(source.getString(DATE_TIME_FORMAT_KEY), DateTimeFormatter::ofPattern, fallback.dateTimeFormatter));
+        builder.layoutPattern(orElse(source.getString(LAYOUT_KEY), fallback.layoutPattern));
+        builder.format(LoggingFormat.parse(source.getString(FORMAT_KEY), fallback.format));
+        builder.context(source.has(CONTEXT_KEY) ? source.getNestedMap(CONTEXT_KEY, NestedConfiguration::asString) : fallback.context);
         builder.charset(ignoreException(() -> forName(source.getString(CHARSET_KEY)), ignored -> fallback.charset));
         return builder.build();
     }
@@ -21,12 +21,14 @@
 import io.art.core.collection.*;
 import io.art.core.module.*;
 import io.art.core.source.*;
+import io.art.logging.constants.*;
 import lombok.*;
 import static io.art.core.checker.NullityChecker.*;
 import static io.art.core.collection.ImmutableMap.*;
 import static io.art.core.factory.ArrayFactory.*;
 import static io.art.logging.constants.LoggingModuleConstants.ConfigurationKeys.*;
 import static io.art.logging.constants.LoggingModuleConstants.Defaults.*;
+import java.time.*;
 
 @Getter
 public class LoggingModuleConfiguration implements ModuleConfiguration {
@@ -34,6 +36,20 @@ public class LoggingModuleConfiguration implements ModuleConfiguration {
 
     private final int queueCapacity = DEFAULT_QUEUE_CAPACITY;
 
+    private int consumingBatchSize = DEFAULT_CONSUMING_BATCH_SIZE;
+
+    private LoggingQueueTopology queueTopology = DEFAULT_QUEUE_TOPOLOGY;
+
+    private int shardsCount = DEFAULT_SHARDS_COUNT;
+
+    private LoggingOverflowPolicy overflowPolicy = DEFAULT_OVERFLOW_POLICY;
+
+    private LoggingLevel overflowLevel = DEFAULT_OVERFLOW_LEVEL;
+
+    private Duration overflowTimeout = DEFAULT_OVERFLOW_TIMEOUT;
+
+    private int overflowSamplingRate = DEFAULT_OVERFLOW_SAMPLING_RATE;
+
     private LoggerConfiguration defaultLogger = LoggerConfiguration.defaults()
             .toBuilder()
             .configurableWriters(immutableArrayOf(LoggerWriterConfiguration.defaults()))
@@ -53,6 +69,13 @@ public Configurator initialize(LoggingModuleConfiguration configuration) {
             this.configuration.defaultLogger = configuration.getDefaultLogger();
             this.configuration.loggers = configuration.getLoggers();
             this.configuration.fallbackWriter = configuration.getFallbackWriter();
+            this.configuration.consumingBatchSize = configuration.getConsumingBatchSize();
+            this.configuration.queueTopology = configuration.getQueueTopology();
+            this.configuration.shardsCount = configuration.getShardsCount();
+            this.configuration.overflowPolicy = configuration.getOverflowPolicy();
+            this.configuration.overflowLevel = configuration.getOverflowLevel();
+            this.configuration.overflowTimeout = configuration.getOverflowTimeout();
+            this.configuration.overflowSamplingRate = configuration.getOverflowSamplingRate();
             return this;
         }
 
@@ -66,6 +89,13 @@ public Configurator from(ConfigurationSource source) {
                     source.getNested(LOGGING_FALLBACK_SECTION, fallback -> LoggerWriterConfiguration.from(fallback, configuration.fallbackWriter)),
                     configuration.fallbackWriter
             );
+            configuration.consumingBatchSize = orElse(source.getInt(LOGGING_CONSUMING_BATCH_SIZE_KEY), configuration.consumingBatchSize);
+            configuration.queueTopology = LoggingQueueTopology.parse(source.getString(LOGGING_QUEUE_TOPOLOGY_KEY), configuration.queueTopology);
+            configuration.shardsCount = orElse(source.getInt(LOGGING_SHARDS_COUNT_KEY), configuration.shardsCount);
+            configuration.overflowPolicy = LoggingOverflowPolicy.parse(source.getString(LOGGING_OVERFLOW_POLICY_KEY), configuration.overflowPolicy);
+            configuration.overflowLevel = LoggingLevel.parse(source.getString(LOGGING_OVERFLOW_LEVEL_KEY), configuration.overflowLevel);
+            configuration.overflowTimeout = orElse(source.getDuration(LOGGING_OVERFLOW_TIMEOUT_KEY), configuration.overflowTimeout);
+            configuration.overflowSamplingRate = orElse(source.getInt(LOGGING_OVERFLOW_SAMPLING_RATE_KEY), configuration.overflowSamplingRate);
             configuration.loggers = source.getNestedMap(LOGGING_LOGGERS_SECTION, logger -> LoggerConfiguration.from(logger, configuration.defaultLogger));
             return this;
         }
@@ -0,0 +1,95 @@
+/*
+ * ART
+ *
+ * Copyright 2019-2021 ART
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.art.logging.configuration;
+
+import io.art.core.source.*;
+import io.art.logging.exception.*;
+import lombok.*;
+import static io.art.core.checker.NullityChecker.*;
+import static io.art.core.constants.StringConstants.*;
+import static io.art.core.context.Context.*;
+import static io.art.core.handler.ExceptionHandler.*;
+import static io.art.logging.constants.LoggingModuleConstants.ConfigurationKeys.*;
+import static io.art.logging.constants.LoggingModuleConstants.Defaults.*;
+import static io.art.logging.constants.LoggingModuleConstants.Errors.*;
+import static java.text.MessageFormat.*;
+import static java.time.format.DateTimeFormatter.*;
+import java.nio.file.*;
+import java.time.*;
+import java.time.format.*;
+
+@Getter
+@Builder(toBuilder = true)
+public class MappedFileWriterConfiguration {
+    @Builder.Default
+    private final String prefix = context().configuration().getMainModuleId() + DASH;
+
+    @Builder.Default
+    private final Path directory = context().configuration().getWorkingDirectory();
+
+    @Builder.Default
+    private final String extension = DEFAULT_LOG_FILE_NAME_EXTENSION;
+
+    @Builder.Default
+    private final DateTimeFormatter timestampFormat = DEFAULT_LOG_FILE_TIME_STAMP_FORMAT;
+
+    @Builder.Default
+    private final Duration rotationPeriod = DEFAULT_LOG_SEGMENT_ROTATION_PERIOD;
+
+    @Builder.Default
+    private final int segmentSize = DEFAULT_LOG_SEGMENT_SIZE;
+
+    @Builder.Default
+    private final int maxFiles = DEFAULT_LOG_MAX_FILES;
+
+    @Builder.Default
+    private final long maxTotalSize = DEFAULT_LOG_MAX_TOTAL_SIZE;
+
+    @Builder.Default
+    private final boolean compress = DEFAULT_LOG_SEGMENT_COMPRESS;
+
+    @Builder.Default
+    private final boolean syncOnFlush = DEFAULT_LOG_FILE_SYNC_ON_FLUSH;
+
+    public static MappedFileWriterConfiguration from(ConfigurationSource source, MappedFileWriterConfiguration fallback) {
+        MappedFileWriterConfigurationBuilder builder = MappedFileWriterConfiguration.builder();
+        builder.directory(let(source.getString(DIRECTORY_KEY), Paths::get, fallback.directory));
+        builder.rotationPeriod(orElse(source.getDuration(ROTATION_PERIOD_KEY), fallback.rotationPeriod));
+        builder.prefix(orElse(source.getString(PREFIX_KEY), fallback.prefix));
+        builder.extension(orElse(source.getString(SUFFIX_KEY), fallback.extension));
+        builder.timestampFormat(let(source.getString(TIMESTAMP_FORMAT_KEY),
+                pattern -> handleException(ignore -> DEFAULT_LOG_FILE_TIME_STAMP_FORMAT).call(() -> ofPattern(pattern)),
+                fallback.timestampFormat
+        ));
+        int segmentSize = orElse(source.getInt(SEGMENT_SIZE_KEY), fallback.segmentSize);
+        if (segmentSize <= 0) {
+            throw new LoggingModuleException(format(INVALID_LOG_SEGMENT_SIZE, String.valueOf(segmentSize)));
+        }
+        builder.segmentSize(segmentSize);
+        builder.maxFiles(orElse(source.getInt(MAX_FILES_KEY), fallback.maxFiles));
+        builder.maxTotalSize(orElse(source.getLong(MAX_TOTAL_SIZE_KEY), fallback.maxTotalSize));
+        builder.compress(orElse(source.getBool(COMPRESS_KEY), fallback.compress));
+        builder.syncOnFlush(orElse(source.getBool(SYNC_ON_FLUSH_KEY), fallback.syncOnFlush));
+        return builder.build();
+    }
+
+    public static MappedFileWriterConfiguration defaults() {
+        return MappedFileWriterConfiguration.builder().build();
+    }
+}
@@ -22,6 +22,8 @@
 import lombok.*;
 import static io.art.core.checker.NullityChecker.*;
 import static io.art.logging.constants.LoggingModuleConstants.ConfigurationKeys.*;
+import static io.art.logging.constants.LoggingModuleConstants.Defaults.*;
+import java.time.*;
 
 @Getter
 @Builder(toBuilder = true)
@@ -29,10 +31,26 @@ public class TcpWriterConfiguration {
     private final String host;
     private final int port;
 
+    @Builder.Default
+    private final int bufferSize = DEFAULT_TCP_BUFFER_SIZE;
+
+    @Builder.Default
+    private final Duration connectTimeout = DEFAULT_TCP_CONNECT_TIMEOUT;
+
+    @Builder.Default
+    private final Duration reconnectInitialDelay = DEFAULT_TCP_RECONNECT_INITIAL_DELAY;
+
+    @Builder.Default
+    private final Duration reconnectMaxDelay = DEFAULT_TCP_RECONNECT_MAX_DELAY;
+
     public static TcpWriterConfiguration from(ConfigurationSource source, TcpWriterConfiguration fallback) {
         TcpWriterConfigurationBuilder builder = TcpWriterConfiguration.builder();
         builder.host(orElse(source.getString(HOST_KEY), fallback.host));
         builder.port(orElse(source.getInt(PORT_KEY), fallback.port));
+        builder.bufferSize(orElse(source.getInt(BUFFER_SIZE_KEY), fallback.bufferSize));
+        builder.connectTimeout(orElse(source.getDuration(CONNECT_TIMEOUT_KEY), fallback.connectTimeout));
+        builder.reconnectInitialDelay(orElse(source.getDuration(RECONNECT_INITIAL_DELAY_KEY), fallback.reconnectInitialDelay));
+        builder.reconnectMaxDelay(orElse(source.getDuration(RECONNECT_MAX_DELAY_KEY), fallback.reconnectMaxDelay));
         return builder.build();
     }
 
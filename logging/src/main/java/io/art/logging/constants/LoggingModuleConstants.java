@@ -18,6 +18,7 @@
 
 package io.art.logging.constants;
 
+import static io.art.core.constants.BufferConstants.*;
 import static io.art.core.constants.DateTimeConstants.*;
 import static io.art.core.constants.QueueConstants.*;
 import static java.time.Duration.*;
@@ -29,11 +30,24 @@ interface ConfigurationKeys {
         String LOGGING_LOGGERS_SECTION = "logging.loggers";
         String LOGGING_DEFAULT_SECTION = "logging.default";
         String LOGGING_FALLBACK_SECTION = "logging.fallback";
+        String LOGGING_CONSUMING_BATCH_SIZE_KEY = "logging.consumingBatchSize";
+        String LOGGING_QUEUE_TOPOLOGY_KEY = "logging.queueTopology";
+        String LOGGING_SHARDS_COUNT_KEY = "logging.shardsCount";
+        String LOGGING_OVERFLOW_POLICY_KEY = "logging.overflow.policy";
+        String LOGGING_OVERFLOW_LEVEL_KEY = "logging.overflow.level";
+        String LOGGING_OVERFLOW_TIMEOUT_KEY = "logging.overflow.timeout";
+        String LOGGING_OVERFLOW_SAMPLING_RATE_KEY = "logging.overflow.samplingRate";
         String WRITERS_SECTION = "writers";
         String LEVEL_KEY = "level";
         String ENABLED_KEY = "enabled";
+        String RATE_LIMIT_KEY = "rateLimit";
+        String RATE_LIMIT_PERIOD_KEY = "rateLimitPeriod";
+        String DEDUPLICATION_WINDOW_KEY = "deduplicationWindow";
         String TYPE_KEY = "type";
         String DATE_TIME_FORMAT_KEY = "dateTimeFormat";
+        String LAYOUT_KEY = "layout";
+        String FORMAT_KEY = "format";
+        String CONTEXT_KEY = "context";
         String CHARSET_KEY = "charset";
         String COLORED_KEY = "colored";
         String DIRECTORY_KEY = "directory";
@@ -41,6 +55,17 @@ interface ConfigurationKeys {
         String SUFFIX_KEY = "suffix";
         String TIMESTAMP_FORMAT_KEY = "timestampFormat";
         String ROTATION_PERIOD_KEY = "rotationPeriod";
+        String BUFFER_SIZE_KEY = "bufferSize";
+        String FLUSH_COUNT_KEY = "flushCount";
+        String FLUSH_INTERVAL_KEY = "flushInterval";
+        String SYNC_ON_FLUSH_KEY = "syncOnFlush";
+        String SEGMENT_SIZE_KEY = "segmentSize";
+        String MAX_FILES_KEY = "maxFiles";
+        String MAX_TOTAL_SIZE_KEY = "maxTotalSize";
+        String COMPRESS_KEY = "compress";
+        String CONNECT_TIMEOUT_KEY = "connectTimeout";
+        String RECONNECT_INITIAL_DELAY_KEY = "reconnectInitialDelay";
+        String RECONNECT_MAX_DELAY_KEY = "reconnectMaxDelay";
         String HOST_KEY = "host";
         String PORT_KEY = "port";
     }
@@ -48,16 +73,71 @@ interface ConfigurationKeys {
     interface Defaults {
         String DEFAULT_LOG_FILE_NAME_EXTENSION = ".log";
         DateTimeFormatter DEFAULT_LOG_DATE_TIME_FORMAT = DEFAULT_FORMATTER;
+        String DEFAULT_LOG_LAYOUT = "{date} {level} [{thread}]: {logger} - {message}";
+        LoggingFormat DEFAULT_LOG_FORMAT = LoggingFormat.TEXT;
+        int MESSAGE_PACK_FRAME_LENGTH_SIZE = Integer.BYTES;
         DateTimeFormatter DEFAULT_LOG_FILE_TIME_STAMP_FORMAT = DD_MM_YYYY_DASH_FORMAT;
         Duration DEFAULT_LOG_FILE_ROTATION_PERIOD = ofSeconds(10);
+        int DEFAULT_LOG_FILE_BUFFER_SIZE = DEFAULT_BUFFER_SIZE;
+        int DEFAULT_LOG_FILE_FLUSH_COUNT = 1024;
+        Duration DEFAULT_LOG_FILE_FLUSH_INTERVAL = ofSeconds(1);
+        boolean DEFAULT_LOG_FILE_SYNC_ON_FLUSH = false;
+        Duration DEFAULT_LOG_SEGMENT_ROTATION_PERIOD = ofDays(1);
+        int DEFAULT_LOG_SEGMENT_SIZE = 64 * 1024 * 1024;
+        int DEFAULT_LOG_MAX_FILES = 30;
+        long DEFAULT_LOG_MAX_TOTAL_SIZE = 1024L * 1024 * 1024;
+        boolean DEFAULT_LOG_SEGMENT_COMPRESS = false;
+        String COMPRESSED_LOG_FILE_EXTENSION = ".gz";
+        int DEFAULT_TCP_BUFFER_SIZE = 4 * 1024 * 1024;
+        Duration DEFAULT_TCP_CONNECT_TIMEOUT = ofSeconds(5);
+        Duration DEFAULT_TCP_RECONNECT_INITIAL_DELAY = ofMillis(100);
+        Duration DEFAULT_TCP_RECONNECT_MAX_DELAY = ofSeconds(30);
+        long TCP_SENDER_IDLE_NANOS = ofMillis(100).toNanos();
+        int TCP_FRAME_HEADER_SIZE = Integer.BYTES;
+        int TCP_MAX_DRAIN_SEGMENTS = 64;
+        int DEFAULT_LOG_MESSAGE_BUFFER_SIZE = 512;
+        int MAX_INLINE_ARGUMENTS = 4;
+        int DEFAULT_RATE_LIMIT = 0;
+        Duration DEFAULT_RATE_LIMIT_PERIOD = ofSeconds(1);
+        Duration DEFAULT_DEDUPLICATION_WINDOW = Duration.ZERO;
+        long CONSUMER_IDLE_NANOS = ofSeconds(1).toNanos();
         int DEFAULT_QUEUE_CAPACITY = DEFAULT_MPSC_BLOCKING_QUEUE_CAPACITY;
+        int DEFAULT_CONSUMING_BATCH_SIZE = 256;
+        LoggingQueueTopology DEFAULT_QUEUE_TOPOLOGY = LoggingQueueTopology.SHARED;
+        int DEFAULT_SHARDS_COUNT = 2;
+        String SHARED_SHARD_KEY = "shared";
+        LoggingOverflowPolicy DEFAULT_OVERFLOW_POLICY = LoggingOverflowPolicy.DROP_BELOW_LEVEL;
+        LoggingLevel DEFAULT_OVERFLOW_LEVEL = LoggingLevel.WARN;
+        Duration DEFAULT_OVERFLOW_TIMEOUT = ofMillis(10);
+        int DEFAULT_OVERFLOW_SAMPLING_RATE = 10;
+        long OVERFLOW_PARK_NANOS = 10_000;
     }
 
 
     interface Errors {
         String UNABLE_TO_CREATE_LOG_DIRECTORY = "Unable to createLogger log directory ''{0}''";
+        String INVALID_LOG_FILE_BUFFER_SIZE = "Log file buffer size must be positive, but was {0}";
+        String INVALID_LOG_SEGMENT_SIZE = "Log segment size must be positive, but was {0}";
+        String UNABLE_TO_COMPRESS_LOG_FILE = "Unable to compress log file ''{0}''";
+    }
+
+    interface Messages {
+        String LOG_COLLECTOR_RECONNECTED = "Reconnected to log collector {0}:{1}. {2} bytes are buffered, {3} bytes were dropped while it was unreachable";
+        String RATE_LIMITED_MESSAGES = "Logger rate limit exceeded: {} messages were suppressed";
+        String REPEATED_MESSAGE = "{} (repeated {} times)";
+    }
+
+    interface LayoutFields {
+        String DATE_FIELD = "date";
+        String LEVEL_FIELD = "level";
+        String THREAD_FIELD = "thread";
+        String LOGGER_FIELD = "logger";
+        String MESSAGE_FIELD = "message";
+        String EXCEPTION_FIELD = "exception";
+        String CONTEXT_FIELD = "context";
     }
 
-    String LOGGING_FORMAT = "{0} {1} {2}: {3} - {4}";
     String CONSUMER_THREAD = "logging-consumer";
+    String COMPRESSOR_THREAD = "logging-compressor";
+    String TCP_SENDER_THREAD = "logging-tcp-sender";
 }
@@ -24,7 +24,8 @@ public enum LoggingWriterType {
     CONSOLE,
     TCP,
     UDP,
-    FILE;
+    FILE,
+    MAPPED_FILE;
 
     public static LoggingWriterType parse(String type, LoggingWriterType defaultType) {
         return stream(LoggingWriterType.values())
@@ -0,0 +1,104 @@
+/*
+ * ART
+ *
+ * Copyright 2019-2021 ART
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.art.logging.encoder;
+
+import com.fasterxml.jackson.core.*;
+import io.art.logging.configuration.*;
+import io.art.logging.exception.*;
+import io.art.logging.layout.*;
+import io.art.logging.model.*;
+import static com.fasterxml.jackson.core.JsonEncoding.*;
+import static com.google.common.base.Throwables.*;
+import static io.art.core.constants.CharacterConstants.*;
+import static io.art.core.wrapper.ExceptionWrapper.*;
+import static io.art.logging.constants.LoggingModuleConstants.Defaults.*;
+import static io.art.logging.constants.LoggingModuleConstants.LayoutFields.*;
+import static io.art.logging.layout.MessageLayoutField.*;
+import static java.util.Objects.*;
+import java.nio.*;
+
+public class JsonMessageEncoder implements LoggingMessageEncoder {
+    private final JsonFactory factory = new JsonFactory().setRootValueSeparator(null);
+    private final LoggingOutputBuffer output = new LoggingOutputBuffer(DEFAULT_LOG_MESSAGE_BUFFER_SIZE);
+    private final StringBuilder text = new StringBuilder(DEFAULT_LOG_MESSAGE_BUFFER_SIZE);
+    private final DateLayoutField date;
+    private final String[] contextKeys;
+    private final String[] contextValues;
+    private char[] characters = new char[DEFAULT_LOG_MESSAGE_BUFFER_SIZE];
+    private JsonGenerator generator;
+
+    public JsonMessageEncoder(LoggerWriterConfiguration configuration) {
+        this.date = new DateLayoutField(configuration.getDateTimeFormatter());
+        this.contextKeys = configuration.getContext().keySet().toArray(new String[0]);
+        this.contextValues = new String[contextKeys.length];
+        for (int index = 0; index < contextKeys.length; index++) {
+            contextValues[index] = configuration.getContext().get(contextKeys[index]);
+        }
+        this.generator = createGenerator();
+    }
+
+    @Override
+    public ByteBuffer encode(LoggingMessage message) {
+        output.reset();
+        try {
+            generator.writeStartObject();
+            text.setLength(0);
+            date.render(message, text);
+            writeText(DATE_FIELD);
+            generator.writeStringField(LEVEL_FIELD, message.getLevel().name());
+            generator.writeStringField(THREAD_FIELD, message.getThread().getName());
+            generator.writeStringField(LOGGER_FIELD, message.getLogger());
+            text.setLength(0);
+            formatMessage(message, text);
+            writeText(MESSAGE_FIELD);
+            Throwable error = message.getError();
+            if (nonNull(error)) {
+                generator.writeStringField(EXCEPTION_FIELD, getStackTraceAsString(error));
+            }
+            if (contextKeys.length > 0) {
+                generator.writeObjectFieldStart(CONTEXT_FIELD);
+                for (int index = 0; index < contextKeys.length; index++) {
+                    generator.writeStringField(contextKeys[index], contextValues[index]);
+                }
+                generator.writeEndObject();
+            }
+            generator.writeEndObject();
+            generator.writeRaw(NEW_LINE);
+            generator.flush();
+        } catch (Throwable throwable) {
+            generator = createGenerator();
+            throw new LoggingModuleException(throwable);
+        }
+        return output.toByteBuffer();
+    }
+
+    private void writeText(String field) throws Exception {
+        int length = text.length();
+        if (characters.length < length) {
+            characters = new char[length];
+        }
+        text.getChars(0, length, characters, 0);
+        generator.writeFieldName(field);
+        generator.writeString(characters, 0, length);
+    }
+
+    private JsonGenerator createGenerator() {
+        return wrapExceptionCall(() -> factory.createGenerator(output, UTF8), LoggingModuleException::new);
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * ART
+ *
+ * Copyright 2019-2021 ART
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.art.logging.encoder;
+
+import static java.lang.Math.*;
+import static java.lang.System.*;
+import static java.nio.ByteBuffer.*;
+import static java.util.Arrays.*;
+import java.io.*;
+import java.nio.*;
+
+public class LoggingOutputBuffer extends OutputStream {
+    private byte[] bytes;
+    private ByteBuffer buffer;
+    private int size;
+
+    public LoggingOutputBuffer(int capacity) {
+        bytes = new byte[capacity];
+        buffer = wrap(bytes);
+    }
+
+    @Override
+    public void write(int value) {
+        ensureCapacity(size + 1);
+        bytes[size++] = (byte) value;
+    }
+
+    @Override
+    public void write(byte[] source, int offset, int length) {
+        ensureCapacity(size + length);
+        arraycopy(source, offset, bytes, size, length);
+        size += length;
+    }
+
+    public void skip(int count) {
+        ensureCapacity(size + count);
+        size += count;
+    }
+
+    public void reset() {
+        size = 0;
+    }
+
+    public ByteBuffer toByteBuffer() {
+        buffer.clear();
+        buffer.limit(size);
+        return buffer;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= bytes.length) {
+            return;
+        }
+        bytes = copyOf(bytes, max(capacity, bytes.length << 1));
+        buffer = wrap(bytes);
+    }
+}
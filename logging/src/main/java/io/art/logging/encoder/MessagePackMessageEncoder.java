@@ -0,0 +1,125 @@
+/*
+ * ART
+ *
+ * Copyright 2019-2021 ART
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.art.logging.encoder;
+
+import io.art.logging.configuration.*;
+import io.art.logging.exception.*;
+import io.art.logging.layout.*;
+import io.art.logging.model.*;
+import org.msgpack.core.*;
+import static com.google.common.base.Throwables.*;
+import static io.art.logging.constants.LoggingModuleConstants.Defaults.*;
+import static io.art.logging.constants.LoggingModuleConstants.LayoutFields.*;
+import static io.art.logging.layout.MessageLayoutField.*;
+import static java.nio.ByteBuffer.*;
+import static java.nio.charset.CodingErrorAction.*;
+import static java.nio.charset.StandardCharsets.*;
+import static java.util.Objects.*;
+import java.nio.*;
+import java.nio.charset.*;
+
+public class MessagePackMessageEncoder implements LoggingMessageEncoder {
+    private static final int REQUIRED_FIELDS_COUNT = 5;
+
+    private final LoggingOutputBuffer output = new LoggingOutputBuffer(DEFAULT_LOG_MESSAGE_BUFFER_SIZE);
+    private final MessagePacker packer = MessagePack.newDefaultPacker(output);
+    private final StringBuilder text = new StringBuilder(DEFAULT_LOG_MESSAGE_BUFFER_SIZE);
+    private final CharsetEncoder encoder = UTF_8.newEncoder()
+            .onMalformedInput(REPLACE)
+            .onUnmappableCharacter(REPLACE);
+    private final DateLayoutField date;
+    private final String[] contextKeys;
+    private final String[] contextValues;
+    private ByteBuffer textBytes = allocate(DEFAULT_LOG_MESSAGE_BUFFER_SIZE);
+
+    public MessagePackMessageEncoder(LoggerWriterConfiguration configuration) {
+        this.date = new DateLayoutField(configuration.getDateTimeFormatter());
+        this.contextKeys = configuration.getContext().keySet().toArray(new String[0]);
+        this.contextValues = new String[contextKeys.length];
+        for (int index = 0; index < contextKeys.length; index++) {
+            contextValues[index] = configuration.getContext().get(contextKeys[index]);
+        }
+    }
+
+    @Override
+    public ByteBuffer encode(LoggingMessage message) {
+        output.reset();
+        output.skip(MESSAGE_PACK_FRAME_LENGTH_SIZE);
+        try {
+            Throwable error = message.getError();
+            int fieldsCount = REQUIRED_FIELDS_COUNT;
+            if (nonNull(error)) fieldsCount++;
+            if (contextKeys.length > 0) fieldsCount++;
+            packer.packMapHeader(fieldsCount);
+            text.setLength(0);
+            date.render(message, text);
+            packer.packString(DATE_FIELD);
+            packText();
+            packer.packString(LEVEL_FIELD).packString(message.getLevel().name());
+            packer.packString(THREAD_FIELD).packString(message.getThread().getName());
+            packer.packString(LOGGER_FIELD);
+            if (isNull(message.getLogger())) {
+                packer.packNil();
+            } else {
+                packer.packString(message.getLogger());
+            }
+            text.setLength(0);
+            formatMessage(message, text);
+            packer.packString(MESSAGE_FIELD);
+            packText();
+            if (nonNull(error)) {
+                packer.packString(EXCEPTION_FIELD).packString(getStackTraceAsString(error));
+            }
+            if (contextKeys.length > 0) {
+                packer.packString(CONTEXT_FIELD).packMapHeader(contextKeys.length);
+                for (int index = 0; index < contextKeys.length; index++) {
+                    packer.packString(contextKeys[index]).packString(contextValues[index]);
+                }
+            }
+            packer.flush();
+        } catch (Throwable throwable) {
+            packer.clear();
+            throw new LoggingModuleException(throwable);
+        }
+        ByteBuffer frame = output.toByteBuffer();
+        frame.putInt(0, frame.remaining() - MESSAGE_PACK_FRAME_LENGTH_SIZE);
+        return frame;
+    }
+
+    private void packText() throws Exception {
+        CharBuffer characters = CharBuffer.wrap(text);
+        textBytes.clear();
+        encoder.reset();
+        while (encoder.encode(characters, textBytes, true).isOverflow()) {
+            growTextBytes();
+        }
+        while (encoder.flush(textBytes).isOverflow()) {
+            growTextBytes();
+        }
+        packer.packRawStringHeader(textBytes.position());
+        packer.writePayload(textBytes.array(), 0, textBytes.position());
+    }
+
+    private void growTextBytes() {
+        ByteBuffer newBuffer = allocate(textBytes.capacity() << 1);
+        textBytes.flip();
+        newBuffer.put(textBytes);
+        textBytes = newBuffer;
+    }
+}
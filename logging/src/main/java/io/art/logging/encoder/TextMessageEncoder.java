@@ -0,0 +1,85 @@
+/*
+ * ART
+ *
+ * Copyright 2019-2021 ART
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.art.logging.encoder;
+
+import io.art.logging.configuration.*;
+import io.art.logging.layout.*;
+import io.art.logging.model.*;
+import static io.art.logging.constants.LoggingModuleConstants.Defaults.*;
+import static java.nio.ByteBuffer.*;
+import static java.nio.charset.CodingErrorAction.*;
+import java.nio.*;
+import java.nio.charset.*;
+
+public class TextMessageEncoder implements LoggingMessageEncoder {
+    private final LoggingLayout layout;
+    private final String delimiter;
+    private final CharsetEncoder encoder;
+    private final StringBuilder text = new StringBuilder(DEFAULT_LOG_MESSAGE_BUFFER_SIZE);
+    private char[] characters = new char[DEFAULT_LOG_MESSAGE_BUFFER_SIZE];
+    private CharBuffer characterBuffer = CharBuffer.wrap(characters);
+    private ByteBuffer byteBuffer = allocate(DEFAULT_LOG_MESSAGE_BUFFER_SIZE);
+
+    public TextMessageEncoder(LoggerWriterConfiguration configuration, String delimiter) {
+        this.layout = configuration.getLayout();
+        this.delimiter = delimiter;
+        this.encoder = configuration.getCharset()
+                .newEncoder()
+                .onMalformedInput(REPLACE)
+                .onUnmappableCharacter(REPLACE);
+    }
+
+    private CharBuffer render(LoggingMessage message) {
+        text.setLength(0);
+        layout.render(message, text);
+        text.append(delimiter);
+
+        int length = text.length();
+        if (characters.length < length) {
+            characters = new char[length];
+            characterBuffer = CharBuffer.wrap(characters);
+        }
+        text.getChars(0, length, characters, 0);
+        characterBuffer.clear();
+        characterBuffer.limit(length);
+        return characterBuffer;
+    }
+
+    @Override
+    public ByteBuffer encode(LoggingMessage message) {
+        CharBuffer characters = render(message);
+        byteBuffer.clear();
+        encoder.reset();
+        while (encoder.encode(characters, byteBuffer, true).isOverflow()) {
+            growByteBuffer();
+        }
+        while (encoder.flush(byteBuffer).isOverflow()) {
+            growByteBuffer();
+        }
+        byteBuffer.flip();
+        return byteBuffer;
+    }
+
+    private void growByteBuffer() {
+        ByteBuffer newBuffer = allocate(byteBuffer.capacity() << 1);
+        byteBuffer.flip();
+        newBuffer.put(byteBuffer);
+        byteBuffer = newBuffer;
+    }
+}
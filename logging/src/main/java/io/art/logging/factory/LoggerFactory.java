@@ -18,34 +18,38 @@
 
 package io.art.logging.factory;
 
+import io.art.core.collection.*;
 import io.art.logging.configuration.*;
 import io.art.logging.logger.*;
 import io.art.logging.manager.*;
 import io.art.logging.writer.*;
 import lombok.experimental.*;
 import static io.art.core.collection.ImmutableArray.*;
+import static io.art.core.collection.ImmutableMap.*;
 import static io.art.logging.factory.LoggerWriterFactory.*;
 
 @UtilityClass
 public class LoggerFactory {
     public static Logger createLogger(String name, LoggerConfiguration configuration, LoggingManager manager) {
-        Builder<LoggerWriter> writers = immutableArrayBuilder();
-        configuration
-                .getConfigurableWriters()
-                .stream()
-                .map(writerConfiguration -> loggerWriter(manager, writerConfiguration))
-                .forEach(writers::add);
+        ImmutableArray.Builder<LoggerWriter> writers = immutableArrayBuilder();
+        ImmutableMap.Builder<LoggerWriter, Object> writerSources = immutableMapBuilder();
+        configuration.getConfigurableWriters().forEach(writerConfiguration -> {
+            LoggerWriter writer = loggerWriter(manager, writerConfiguration);
+            writers.add(writer);
+            writerSources.put(writer, writerConfiguration);
+        });
 
-        configuration
-                .getCustomWriters()
-                .stream()
-                .map(writer -> writer.apply(manager))
-                .forEach(writers::add);
+        configuration.getCustomWriters().forEach(factory -> {
+            LoggerWriter writer = factory.apply(manager);
+            writers.add(writer);
+            writerSources.put(writer, factory);
+        });
 
         LoggerConstructionConfiguration constructionConfiguration = LoggerConstructionConfiguration.builder()
                 .name(name)
                 .loggerConfiguration(configuration)
                 .writers(writers.build())
+                .writerSources(writerSources.build())
                 .build();
 
         return new LoggerImplementation(constructionConfiguration, manager.register(constructionConfiguration).getProducer());
@@ -36,6 +36,8 @@ public static LoggerWriter loggerWriter(LoggingManager manager, LoggerWriterConf
                 return new UdpWriter(manager, writerConfiguration);
             case FILE:
                 return new FileWriter(manager, writerConfiguration);
+            case MAPPED_FILE:
+                return new MappedFileWriter(manager, writerConfiguration);
         }
         throw new ImpossibleSituationException();
     }
@@ -0,0 +1,39 @@
+/*
+ * ART
+ *
+ * Copyright 2019-2021 ART
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.art.logging.factory;
+
+import io.art.core.exception.*;
+import io.art.logging.configuration.*;
+import io.art.logging.encoder.*;
+import lombok.experimental.*;
+
+@UtilityClass
+public class LoggingMessageEncoderFactory {
+    public static LoggingMessageEncoder loggingMessageEncoder(LoggerWriterConfiguration writerConfiguration, String delimiter) {
+        switch (writerConfiguration.getFormat()) {
+            case TEXT:
+                return new TextMessageEncoder(writerConfiguration, delimiter);
+            case JSON:
+                return new JsonMessageEncoder(writerConfiguration);
+            case MESSAGE_PACK:
+                return new MessagePackMessageEncoder(writerConfiguration);
+        }
+        throw new ImpossibleSituationException();
+    }
+}
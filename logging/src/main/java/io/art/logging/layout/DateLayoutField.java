@@ -0,0 +1,103 @@
+/*
+ * ART
+ *
+ * Copyright 2019-2021 ART
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.art.logging.layout;
+
+import io.art.logging.model.*;
+import lombok.*;
+import static io.art.core.constants.StringConstants.*;
+import static java.lang.Math.*;
+import static java.time.Instant.*;
+import static java.time.LocalDateTime.*;
+import static java.time.ZoneId.*;
+import java.time.*;
+import java.time.format.*;
+
+public class DateLayoutField implements LoggingLayoutField {
+    private static final int MILLIS_IN_SECOND = 1000;
+    private static final int FIRST_MILLIS_PROBE = 123;
+    private static final int SECOND_MILLIS_PROBE = 456;
+    private static final int MILLIS_WIDTH = 3;
+
+    private final DateTimeFormatter formatter;
+    private final ZoneId zone = systemDefault();
+    private volatile SecondPrefix cache;
+
+    public DateLayoutField(DateTimeFormatter formatter) {
+        this.formatter = formatter;
+        this.cache = new SecondPrefix(Long.MIN_VALUE, EMPTY_STRING, EMPTY_STRING, false, false);
+    }
+
+    @Override
+    public void render(LoggingMessage message, StringBuilder output) {
+        long timestamp = message.getTimestamp();
+        long second = floorDiv(timestamp, MILLIS_IN_SECOND);
+        SecondPrefix prefix = cache;
+        if (prefix.second != second) {
+            cache = prefix = computePrefix(second);
+        }
+
+        if (!prefix.cacheable) {
+            formatter.formatTo(ofInstant(ofEpochMilli(timestamp), zone), output);
+            return;
+        }
+
+        output.append(prefix.prefix);
+        if (!prefix.withMillis) {
+            return;
+        }
+        int millis = floorMod(timestamp, MILLIS_IN_SECOND);
+        if (millis < 100) output.append('0');
+        if (millis < 10) output.append('0');
+        output.append(millis).append(prefix.suffix);
+    }
+
+    private SecondPrefix computePrefix(long second) {
+        String withoutMillis = format(second, 0);
+        String firstProbe = format(second, FIRST_MILLIS_PROBE);
+        if (withoutMillis.equals(firstProbe)) {
+            return new SecondPrefix(second, firstProbe, EMPTY_STRING, false, true);
+        }
+
+        String secondProbe = format(second, SECOND_MILLIS_PROBE);
+        int millisIndex = firstProbe.indexOf(Integer.toString(FIRST_MILLIS_PROBE));
+        int suffixIndex = millisIndex + MILLIS_WIDTH;
+        boolean spliceable = millisIndex != -1
+                && firstProbe.length() == secondProbe.length()
+                && firstProbe.regionMatches(0, secondProbe, 0, millisIndex)
+                && secondProbe.startsWith(Integer.toString(SECOND_MILLIS_PROBE), millisIndex)
+                && firstProbe.regionMatches(suffixIndex, secondProbe, suffixIndex, firstProbe.length() - suffixIndex);
+        if (!spliceable) {
+            return new SecondPrefix(second, EMPTY_STRING, EMPTY_STRING, false, false);
+        }
+        return new SecondPrefix(second, firstProbe.substring(0, millisIndex), firstProbe.substring(suffixIndex), true, true);
+    }
+
+    private String format(long second, int millis) {
+        return formatter.format(ofInstant(ofEpochMilli(second * MILLIS_IN_SECOND + millis), zone));
+    }
+
+    @AllArgsConstructor
+    private static class SecondPrefix {
+        private final long second;
+        private final String prefix;
+        private final String suffix;
+        private final boolean withMillis;
+        private final boolean cacheable;
+    }
+}
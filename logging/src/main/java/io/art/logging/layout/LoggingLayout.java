@@ -0,0 +1,95 @@
+/*
+ * ART
+ *
+ * Copyright 2019-2021 ART
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.art.logging.layout;
+
+import io.art.logging.model.*;
+import lombok.*;
+import static io.art.core.constants.CharacterConstants.*;
+import static io.art.logging.constants.LoggingModuleConstants.LayoutFields.*;
+import java.time.format.*;
+import java.util.*;
+
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class LoggingLayout {
+    @Getter
+    private final String pattern;
+    private final LoggingLayoutField[] fields;
+
+    public void render(LoggingMessage message, StringBuilder output) {
+        for (LoggingLayoutField field : fields) {
+            field.render(message, output);
+        }
+    }
+
+    public static LoggingLayout compileLayout(String pattern, DateTimeFormatter dateTimeFormatter) {
+        List<LoggingLayoutField> fields = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int length = pattern.length();
+        int index = 0;
+        while (index < length) {
+            char character = pattern.charAt(index);
+            int closing;
+            if (character != OPENING_BRACES || (closing = pattern.indexOf(CLOSING_BRACES, index + 1)) == -1) {
+                literal.append(character);
+                index++;
+                continue;
+            }
+            LoggingLayoutField field = compileField(pattern.substring(index + 1, closing), dateTimeFormatter);
+            if (field == null) {
+                literal.append(pattern, index, closing + 1);
+                index = closing + 1;
+                continue;
+            }
+            if (literal.length() > 0) {
+                fields.add(literalField(literal.toString()));
+                literal.setLength(0);
+            }
+            fields.add(field);
+            index = closing + 1;
+        }
+        if (literal.length() > 0) {
+            fields.add(literalField(literal.toString()));
+        }
+        return new LoggingLayout(pattern, fields.toArray(new LoggingLayoutField[0]));
+    }
+
+    private static LoggingLayoutField compileField(String name, DateTimeFormatter dateTimeFormatter) {
+        switch (name) {
+            case DATE_FIELD:
+                return new DateLayoutField(dateTimeFormatter);
+            case LEVEL_FIELD:
+                return (message, output) -> output.append(message.getLevel().name());
+            case THREAD_FIELD:
+                return (message, output) -> output.append(message.getThread().getName());
+            case LOGGER_FIELD:
+                return (message, output) -> output.append(message.getLogger());
+            case MESSAGE_FIELD:
+                return new MessageLayoutField();
+        }
+        return null;
+    }
+
+    private static LoggingLayoutField literalField(String literal) {
+        if (literal.length() == 1) {
+            char character = literal.charAt(0);
+            return (message, output) -> output.append(character);
+        }
+        return (message, output) -> output.append(literal);
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * ART
+ *
+ * Copyright 2019-2021 ART
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.art.logging.layout;
+
+import io.art.logging.model.*;
+import static com.google.common.base.Throwables.*;
+import static io.art.core.constants.CharacterConstants.*;
+import static java.lang.Character.*;
+import static java.util.Objects.*;
+
+public class MessageLayoutField implements LoggingLayoutField {
+    @Override
+    public void render(LoggingMessage message, StringBuilder output) {
+        formatMessage(message, output);
+        Throwable error = message.getError();
+        if (nonNull(error)) {
+            output.append(NEW_LINE).append(getStackTraceAsString(error));
+        }
+    }
+
+    public static void formatMessage(LoggingMessage message, StringBuilder output) {
+        if (isNull(message.getMessage()) || message.getArgumentsCount() == 0) {
+            output.append(message.getMessage());
+            return;
+        }
+        appendFormatted(message.getMessage(), message.getArguments(), message.getArgumentsCount(), output);
+    }
+
+    private static void appendFormatted(String format, Object[] arguments, int argumentsCount, StringBuilder output) {
+        int length = format.length();
+        int sequentialIndex = 0;
+        boolean quoted = false;
+        for (int index = 0; index < length; index++) {
+            char character = format.charAt(index);
+            if (character == SINGLE_QUOTE) {
+                if (index + 1 < length && format.charAt(index + 1) == SINGLE_QUOTE) {
+                    output.append(SINGLE_QUOTE);
+                    index++;
+                    continue;
+                }
+                quoted = !quoted;
+                continue;
+            }
+            if (quoted || character != OPENING_BRACES) {
+                output.append(character);
+                continue;
+            }
+            int closing = format.indexOf(CLOSING_BRACES, index + 1);
+            if (closing == -1) {
+                output.append(format, index, length);
+                return;
+            }
+            int argumentIndex = closing == index + 1 ? sequentialIndex++ : parseArgumentIndex(format, index + 1, closing);
+            if (argumentIndex < 0 || argumentIndex >= argumentsCount) {
+                output.append(format, index, closing + 1);
+                index = closing;
+                continue;
+            }
+            appendArgument(arguments[argumentIndex], output);
+            index = closing;
+        }
+    }
+
+    private static void appendArgument(Object argument, StringBuilder output) {
+        if (argument instanceof CharSequence) {
+            output.append((CharSequence) argument);
+            return;
+        }
+        if (argument instanceof Integer) {
+            output.append(((Integer) argument).intValue());
+            return;
+        }
+        if (argument instanceof Long) {
+            output.append(((Long) argument).longValue());
+            return;
+        }
+        if (argument instanceof Boolean) {
+            output.append(((Boolean) argument).booleanValue());
+            return;
+        }
+        if (argument instanceof Character) {
+            output.append(((Character) argument).charValue());
+            return;
+        }
+        output.append(argument);
+    }
+
+    private static int parseArgumentIndex(String format, int from, int to) {
+        int result = 0;
+        for (int index = from; index < to; index++) {
+            int digit = digit(format.charAt(index), 10);
+            if (digit < 0) return -1;
+            result = result * 10 + digit;
+        }
+        return result;
+    }
+}
@@ -21,6 +21,7 @@
 import io.art.logging.constants.*;
 import static io.art.core.checker.EmptinessChecker.*;
 import static io.art.core.extensions.StringExtensions.*;
+import java.util.function.*;
 
 public interface Logger {
     String getName();
@@ -33,6 +34,16 @@ public interface Logger {
 
     void trace(String message, Throwable error);
 
+    void trace(Supplier<String> message);
+
+    void trace(String format, Object argument);
+
+    void trace(String format, Object firstArgument, Object secondArgument);
+
+    void trace(String format, Object firstArgument, Object secondArgument, Object thirdArgument);
+
+    void trace(String format, Object firstArgument, Object secondArgument, Object thirdArgument, Object fourthArgument);
+
 
     void debug(String message);
 
@@ -40,6 +51,16 @@ public interface Logger {
 
     void debug(String message, Throwable error);
 
+    void debug(Supplier<String> message);
+
+    void debug(String format, Object argument);
+
+    void debug(String format, Object firstArgument, Object secondArgument);
+
+    void debug(String format, Object firstArgument, Object secondArgument, Object thirdArgument);
+
+    void debug(String format, Object firstArgument, Object secondArgument, Object thirdArgument, Object fourthArgument);
+
 
     void info(String message);
 
@@ -47,6 +68,16 @@ public interface Logger {
 
     void info(String message, Throwable error);
 
+    void info(Supplier<String> message);
+
+    void info(String format, Object argument);
+
+    void info(String format, Object firstArgument, Object secondArgument);
+
+    void info(String format, Object firstArgument, Object secondArgument, Object thirdArgument);
+
+    void info(String format, Object firstArgument, Object secondArgument, Object thirdArgument, Object fourthArgument);
+
 
     void warn(String message);
 
@@ -54,6 +85,16 @@ public interface Logger {
 
     void warn(String message, Throwable error);
 
+    void warn(Supplier<String> message);
+
+    void warn(String format, Object argument);
+
+    void warn(String format, Object firstArgument, Object secondArgument);
+
+    void warn(String format, Object firstArgument, Object secondArgument, Object thirdArgument);
+
+    void warn(String format, Object firstArgument, Object secondArgument, Object thirdArgument, Object fourthArgument);
+
 
     void error(String message);
 
@@ -61,6 +102,18 @@ public interface Logger {
 
     void error(String message, Throwable error);
 
+    void error(Supplier<String> message);
+
+    void error(String format, Object argument);
+
+    void error(String format, Object firstArgument, Object secondArgument);
+
+    void error(String format, Object firstArgument, Object secondArgument, Object thirdArgument);
+
+    void error(String format, Object firstArgument, Object secondArgument, Object thirdArgument, Object fourthArgument);
+
+
+    boolean isEnabled(LoggingLevel level);
 
     boolean isErrorEnabled();
 
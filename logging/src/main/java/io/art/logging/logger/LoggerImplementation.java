@@ -25,12 +25,8 @@
 import io.art.logging.model.*;
 import io.art.logging.writer.*;
 import lombok.*;
-import static com.google.common.base.Throwables.*;
-import static io.art.core.constants.StringConstants.*;
 import static io.art.logging.constants.LoggingLevel.*;
-import static java.lang.Thread.*;
-import static java.text.MessageFormat.*;
-import static java.time.LocalDateTime.*;
+import java.util.function.*;
 
 @Getter
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
@@ -53,133 +49,309 @@ public LoggerImplementation(LoggerConstructionConfiguration configuration, Logge
         this.level = configuration.getLoggerConfiguration().getLevel();
         this.configuration = configuration.getLoggerConfiguration();
         this.producer = producer;
-        errorEnabled = level.getLevel() >= ERROR.getLevel();
-        warnEnabled = level.getLevel() >= WARN.getLevel();
-        infoEnabled = level.getLevel() >= INFO.getLevel();
-        debugEnabled = level.getLevel() >= DEBUG.getLevel();
-        traceEnabled = level.getLevel() >= TRACE.getLevel();
         enabled = configuration.getLoggerConfiguration().getEnabled();
+        errorEnabled = isEnabled(ERROR);
+        warnEnabled = isEnabled(WARN);
+        infoEnabled = isEnabled(INFO);
+        debugEnabled = isEnabled(DEBUG);
+        traceEnabled = isEnabled(TRACE);
         writers = configuration.getWriters();
     }
 
+    @Override
+    public boolean isEnabled(LoggingLevel level) {
+        return enabled && this.level.getLevel() >= level.getLevel();
+    }
+
     @Override
     public void trace(String message) {
-        if (!enabled || !traceEnabled) return;
+        if (!traceEnabled || !permit()) return;
         producer.produce(createMessage(TRACE, message));
     }
 
     @Override
     public void trace(String format, Object... arguments) {
-        if (!enabled || !traceEnabled) return;
+        if (!traceEnabled || !permit()) return;
         producer.produce(createMessage(TRACE, format, arguments));
     }
 
     @Override
     public void trace(String message, Throwable error) {
-        if (!enabled || !traceEnabled) return;
+        if (!traceEnabled || !permit()) return;
         producer.produce(createMessage(TRACE, message, error));
     }
 
+    @Override
+    public void trace(Supplier<String> message) {
+        if (!traceEnabled || !permit()) return;
+        producer.produce(createMessage(TRACE, message.get()));
+    }
+
+    @Override
+    public void trace(String format, Object argument) {
+        if (!traceEnabled || !permit()) return;
+        producer.produce(createMessage(TRACE, format).argument(argument));
+    }
+
+    @Override
+    public void trace(String format, Object firstArgument, Object secondArgument) {
+        if (!traceEnabled || !permit()) return;
+        producer.produce(createMessage(TRACE, format).argument(firstArgument).argument(secondArgument));
+    }
+
+    @Override
+    public void trace(String format, Object firstArgument, Object secondArgument, Object thirdArgument) {
+        if (!traceEnabled || !permit()) return;
+        producer.produce(createMessage(TRACE, format)
+                .argument(firstArgument)
+                .argument(secondArgument)
+                .argument(thirdArgument));
+    }
+
+    @Override
+    public void trace(String format, Object firstArgument, Object secondArgument, Object thirdArgument, Object fourthArgument) {
+        if (!traceEnabled || !permit()) return;
+        producer.produce(createMessage(TRACE, format)
+                .argument(firstArgument)
+                .argument(secondArgument)
+                .argument(thirdArgument)
+                .argument(fourthArgument));
+    }
+
     @Override
     public void debug(String message) {
-        if (!enabled || !debugEnabled) return;
+        if (!debugEnabled || !permit()) return;
         producer.produce(createMessage(DEBUG, message));
     }
 
     @Override
     public void debug(String format, Object... arguments) {
-        if (!enabled || !debugEnabled) return;
+        if (!debugEnabled || !permit()) return;
         producer.produce(createMessage(DEBUG, format, arguments));
     }
 
     @Override
     public void debug(String message, Throwable error) {
-        if (!enabled || !debugEnabled) return;
+        if (!debugEnabled || !permit()) return;
         producer.produce(createMessage(DEBUG, message, error));
     }
 
+    @Override
+    public void debug(Supplier<String> message) {
+        if (!debugEnabled || !permit()) return;
+        producer.produce(createMessage(DEBUG, message.get()));
+    }
+
+    @Override
+    public void debug(String format, Object argument) {
+        if (!debugEnabled || !permit()) return;
+        producer.produce(createMessage(DEBUG, format).argument(argument));
+    }
+
+    @Override
+    public void debug(String format, Object firstArgument, Object secondArgument) {
+        if (!debugEnabled || !permit()) return;
+        producer.produce(createMessage(DEBUG, format).argument(firstArgument).argument(secondArgument));
+    }
+
+    @Override
+    public void debug(String format, Object firstArgument, Object secondArgument, Object thirdArgument) {
+        if (!debugEnabled || !permit()) return;
+        producer.produce(createMessage(DEBUG, format)
+                .argument(firstArgument)
+                .argument(secondArgument)
+                .argument(thirdArgument));
+    }
+
+    @Override
+    public void debug(String format, Object firstArgument, Object secondArgument, Object thirdArgument, Object fourthArgument) {
+        if (!debugEnabled || !permit()) return;
+        producer.produce(createMessage(DEBUG, format)
+                .argument(firstArgument)
+                .argument(secondArgument)
+                .argument(thirdArgument)
+                .argument(fourthArgument));
+    }
+
     @Override
     public void info(String message) {
-        if (!enabled || !infoEnabled) return;
+        if (!infoEnabled || !permit()) return;
         producer.produce(createMessage(INFO, message));
     }
 
     @Override
     public void info(String format, Object... arguments) {
-        if (!enabled || !infoEnabled) return;
+        if (!infoEnabled || !permit()) return;
         producer.produce(createMessage(INFO, format, arguments));
     }
 
     @Override
     public void info(String message, Throwable error) {
-        if (!enabled || !infoEnabled) return;
+        if (!infoEnabled || !permit()) return;
         producer.produce(createMessage(INFO, message, error));
     }
 
+    @Override
+    public void info(Supplier<String> message) {
+        if (!infoEnabled || !permit()) return;
+        producer.produce(createMessage(INFO, message.get()));
+    }
+
+    @Override
+    public void info(String format, Object argument) {
+        if (!infoEnabled || !permit()) return;
+        producer.produce(createMessage(INFO, format).argument(argument));
+    }
+
+    @Override
+    public void info(String format, Object firstArgument, Object secondArgument) {
+        if (!infoEnabled || !permit()) return;
+        producer.produce(createMessage(INFO, format).argument(firstArgument).argument(secondArgument));
+    }
+
+    @Override
+    public void info(String format, Object firstArgument, Object secondArgument, Object thirdArgument) {
+        if (!infoEnabled || !permit()) return;
+        producer.produce(createMessage(INFO, format)
+                .argument(firstArgument)
+                .argument(secondArgument)
+                .argument(thirdArgument));
+    }
+
+    @Override
+    public void info(String format, Object firstArgument, Object secondArgument, Object thirdArgument, Object fourthArgument) {
+        if (!infoEnabled || !permit()) return;
+        producer.produce(createMessage(INFO, format)
+                .argument(firstArgument)
+                .argument(secondArgument)
+                .argument(thirdArgument)
+                .argument(fourthArgument));
+    }
+
     @Override
     public void warn(String message) {
-        if (!enabled || !warnEnabled) return;
+        if (!warnEnabled || !permit()) return;
         producer.produce(createMessage(WARN, message));
     }
 
     @Override
     public void warn(String format, Object... arguments) {
-        if (!enabled || !warnEnabled) return;
+        if (!warnEnabled || !permit()) return;
         producer.produce(createMessage(WARN, format, arguments));
     }
 
     @Override
     public void warn(String message, Throwable error) {
-        if (!enabled || !warnEnabled) return;
+        if (!warnEnabled || !permit()) return;
         producer.produce(createMessage(WARN, message, error));
     }
 
+    @Override
+    public void warn(Supplier<String> message) {
+        if (!warnEnabled || !permit()) return;
+        producer.produce(createMessage(WARN, message.get()));
+    }
+
+    @Override
+    public void warn(String format, Object argument) {
+        if (!warnEnabled || !permit()) return;
+        producer.produce(createMessage(WARN, format).argument(argument));
+    }
+
+    @Override
+    public void warn(String format, Object firstArgument, Object secondArgument) {
+        if (!warnEnabled || !permit()) return;
+        producer.produce(createMessage(WARN, format).argument(firstArgument).argument(secondArgument));
+    }
+
+    @Override
+    public void warn(String format, Object firstArgument, Object secondArgument, Object thirdArgument) {
+        if (!warnEnabled || !permit()) return;
+        producer.produce(createMessage(WARN, format)
+                .argument(firstArgument)
+                .argument(secondArgument)
+                .argument(thirdArgument));
+    }
+
+    @Override
+    public void warn(String format, Object firstArgument, Object secondArgument, Object thirdArgument, Object fourthArgument) {
+        if (!warnEnabled || !permit()) return;
+        producer.produce(createMessage(WARN, format)
+                .argument(firstArgument)
+                .argument(secondArgument)
+                .argument(thirdArgument)
+                .argument(fourthArgument));
+    }
+
     @Override
     public void error(String message) {
-        if (!enabled || !errorEnabled) return;
+        if (!errorEnabled || !permit()) return;
         producer.produce(createMessage(ERROR, message));
     }
 
     @Override
     public void error(String format, Object... arguments) {
-        if (!enabled || !errorEnabled) return;
+        if (!errorEnabled || !permit()) return;
         producer.produce(createMessage(ERROR, format, arguments));
     }
 
     @Override
     public void error(String message, Throwable error) {
-        if (!enabled || !errorEnabled) return;
+        if (!errorEnabled || !permit()) return;
         producer.produce(createMessage(ERROR, message, error));
     }
 
+    @Override
+    public void error(Supplier<String> message) {
+        if (!errorEnabled || !permit()) return;
+        producer.produce(createMessage(ERROR, message.get()));
+    }
+
+    @Override
+    public void error(String format, Object argument) {
+        if (!errorEnabled || !permit()) return;
+        producer.produce(createMessage(ERROR, format).argument(argument));
+    }
+
+    @Override
+    public void error(String format, Object firstArgument, Object secondArgument) {
+        if (!errorEnabled || !permit()) return;
+        producer.produce(createMessage(ERROR, format).argument(firstArgument).argument(secondArgument));
+    }
+
+    @Override
+    public void error(String format, Object firstArgument, Object secondArgument, Object thirdArgument) {
+        if (!errorEnabled || !permit()) return;
+        producer.produce(createMessage(ERROR, format)
+                .argument(firstArgument)
+                .argument(secondArgument)
+                .argument(thirdArgument));
+    }
+
+    @Override
+    public void error(String format, Object firstArgument, Object secondArgument, Object thirdArgument, Object fourthArgument) {
+        if (!errorEnabled || !permit()) return;
+        producer.produce(createMessage(ERROR, format)
+                .argument(firstArgument)
+                .argument(secondArgument)
+                .argument(thirdArgument)
+                .argument(fourthArgument));
+    }
+
+
+    private boolean permit() {
+        return producer.permit();
+    }
 
     private LoggingMessage createMessage(LoggingLevel level, String message) {
-        return LoggingMessage.builder()
-                .dateTime(now())
-                .logger(name)
-                .level(level)
-                .message(message)
-                .thread(currentThread())
-                .build();
+        return producer.acquire().initialize(name, level, message, null, null);
     }
 
     private LoggingMessage createMessage(LoggingLevel level, String message, Throwable error) {
-        return LoggingMessage.builder()
-                .dateTime(now())
-                .logger(name)
-                .level(level)
-                .message(message + NEW_LINE + getStackTraceAsString(error))
-                .thread(currentThread())
-                .build();
+        return producer.acquire().initialize(name, level, message, null, error);
     }
 
     private LoggingMessage createMessage(LoggingLevel level, String message, Object[] arguments) {
-        return LoggingMessage.builder()
-                .dateTime(now())
-                .logger(name)
-                .level(level)
-                .thread(currentThread())
-                .message(format(message, arguments))
-                .build();
+        return producer.acquire().initialize(name, level, message, arguments, null);
     }
 }
@@ -18,57 +18,85 @@
 
 package io.art.logging.manager;
 
+import io.art.core.collection.*;
 import io.art.core.extensions.*;
 import io.art.logging.configuration.*;
 import io.art.logging.messaging.*;
-import io.art.logging.model.*;
 import io.art.logging.state.*;
 import io.art.logging.writer.*;
-import lombok.*;
-import static io.art.core.checker.NullityChecker.*;
-import static io.art.core.extensions.ThreadExtensions.*;
+import static io.art.core.collection.ImmutableArray.*;
+import static io.art.core.constants.StringConstants.*;
 import static io.art.core.factory.ListFactory.*;
 import static io.art.core.factory.MapFactory.*;
-import static io.art.core.wrapper.ExceptionWrapper.*;
+import static io.art.logging.constants.LoggingModuleConstants.Defaults.*;
 import static io.art.logging.constants.LoggingModuleConstants.*;
 import static io.art.logging.factory.LoggerWriterFactory.*;
+import static java.lang.Math.*;
 import java.io.*;
 import java.util.*;
 import java.util.concurrent.atomic.*;
 
-@RequiredArgsConstructor
 public class LoggingManager {
     private final AtomicBoolean active = new AtomicBoolean(false);
-    private final Map<String, LoggerProcessor> processors = concurrentMap();
-    private final Thread consumer = newDaemon(CONSUMER_THREAD, this::processConsuming);
+    private final Map<String, LoggingShard> shards = concurrentMap();
+    private final Map<Object, LoggingShard> writerShards = concurrentMap();
+    private final AtomicInteger nextShard = new AtomicInteger();
     private final List<Closeable> resources = copyOnWriteList();
+    private final List<LoggerProducer> producers = copyOnWriteList();
+    private final LongAdder droppedMessages = new LongAdder();
 
-    private final LoggingQueue queue;
+    private final LoggingModuleConfiguration configuration;
+    private final LoggingMessagePool pool;
     private final LoggerWriter fallbackWriter;
 
     public LoggingManager(LoggingModuleConfiguration configuration) {
-        queue = new LoggingQueue(configuration);
+        this.configuration = configuration;
+        pool = new LoggingMessagePool(configuration);
         fallbackWriter = loggerWriter(this, configuration.getFallbackWriter());
     }
 
     public void activate() {
         if (active.compareAndSet(false, true)) {
-            consumer.start();
+            shards.values().forEach(LoggingShard::activate);
         }
     }
 
     public void deactivate() {
         if (active.compareAndSet(true, false)) {
-            consumer.interrupt();
-            ignoreException(consumer::join);
+            producers.forEach(LoggerProducer::flushSuppressed);
+            shards.values().forEach(LoggingShard::deactivate);
             resources.forEach(StreamsExtensions::closeQuietly);
         }
     }
 
     public LoggerProcessor register(LoggerConstructionConfiguration configuration) {
-        LoggerProcessor processor = new LoggerProcessor(queue, configuration.getWriters(), fallbackWriter);
-        processors.put(configuration.getName(), processor);
-        return processor;
+        Map<LoggingShard, Builder<LoggerWriter>> shardWriters = map();
+        for (LoggerWriter writer : configuration.getWriters()) {
+            shardWriters.computeIfAbsent(shard(configuration.getWriterSources().get(writer), writer), shard -> immutableArrayBuilder()).add(writer);
+        }
+        Builder<LoggerConsumer> consumers = immutableArrayBuilder();
+        Builder<LoggingShard> targetShards = immutableArrayBuilder();
+        shardWriters.forEach((shard, writers) -> {
+            LoggerConsumer consumer = new LoggerConsumer(writers.build(), configuration.getLoggerConfiguration());
+            shard.register(configuration.getName(), consumer);
+            consumers.add(consumer);
+            targetShards.add(shard);
+        });
+        LoggerProducer producer = new LoggerProducer(
+                configuration.getName(),
+                configuration.getLoggerConfiguration(),
+                targetShards.build(),
+                pool,
+                fallbackWriter,
+                this.configuration,
+                droppedMessages
+        );
+        producers.add(producer);
+        return new LoggerProcessor(consumers.build(), producer);
+    }
+
+    public long getDroppedMessages() {
+        return droppedMessages.sum();
     }
 
     public void register(Closeable resource) {
@@ -79,23 +107,27 @@ public void remove(Closeable resource) {
         resources.remove(resource);
     }
 
-    private void processConsuming() {
-        while (active.get()) {
-            try {
-                apply(queue.take(), this::consume);
-            } catch (InterruptedException interruptedException) {
-                while (!queue.isEmpty()) {
-                    apply(queue.poll(), this::consume);
-                }
-                return;
-            }
-        }
-        while (!queue.isEmpty()) {
-            apply(queue.poll(), this::consume);
+    private LoggingShard shard(Object source, LoggerWriter writer) {
+        switch (configuration.getQueueTopology()) {
+            case SHARDED:
+                return writerShards.computeIfAbsent(source, ignore -> nextShard());
+            case PER_WRITER:
+                return shards.computeIfAbsent(writer.getClass().getSimpleName(), this::createShard);
+            default:
+                return shards.computeIfAbsent(SHARED_SHARD_KEY, this::createShard);
         }
     }
 
-    private void consume(LoggingMessage message) {
-        apply(processors.get(message.getLogger()), processor -> processor.getConsumer().consume(message));
+    private LoggingShard nextShard() {
+        int index = nextShard.getAndIncrement() % max(configuration.getShardsCount(), 1);
+        return shards.computeIfAbsent(String.valueOf(index), this::createShard);
+    }
+
+    private LoggingShard createShard(String key) {
+        LoggingShard shard = new LoggingShard(CONSUMER_THREAD + DASH + key, configuration, pool);
+        if (active.get()) {
+            shard.activate();
+        }
+        return shard;
     }
 }
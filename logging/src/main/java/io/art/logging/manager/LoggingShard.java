@@ -0,0 +1,117 @@
+/*
+ * ART
+ *
+ * Copyright 2019-2021 ART
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.art.logging.manager;
+
+import io.art.logging.configuration.*;
+import io.art.logging.messaging.*;
+import io.art.logging.model.*;
+import static com.google.common.base.Throwables.*;
+import static io.art.core.extensions.SystemExtensions.*;
+import static io.art.core.extensions.ThreadExtensions.*;
+import static io.art.core.factory.MapFactory.*;
+import static io.art.core.wrapper.ExceptionWrapper.*;
+import static io.art.logging.constants.LoggingModuleConstants.Defaults.*;
+import static java.lang.Math.*;
+import static java.util.Objects.*;
+import static java.util.concurrent.TimeUnit.*;
+import java.util.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+
+public class LoggingShard {
+    private final AtomicBoolean active = new AtomicBoolean(false);
+    private final Map<String, LoggerConsumer> consumers = concurrentMap();
+    private final Consumer<LoggingMessage> messageConsumer = this::consume;
+    private final LoggingModuleConfiguration configuration;
+    private final LoggingMessagePool pool;
+    private final LoggingQueue queue;
+    private final Thread thread;
+
+    public LoggingShard(String name, LoggingModuleConfiguration configuration, LoggingMessagePool pool) {
+        this.configuration = configuration;
+        this.pool = pool;
+        this.queue = new LoggingQueue(configuration);
+        this.thread = newDaemon(name, this::processConsuming);
+    }
+
+    public void activate() {
+        if (active.compareAndSet(false, true)) {
+            thread.start();
+        }
+    }
+
+    public void deactivate() {
+        if (active.compareAndSet(true, false)) {
+            thread.interrupt();
+            ignoreException(thread::join);
+        }
+    }
+
+    public void register(String logger, LoggerConsumer consumer) {
+        consumers.put(logger, consumer);
+    }
+
+    public boolean offer(LoggingMessage message) {
+        return queue.offer(message);
+    }
+
+    private void processConsuming() {
+        int batchSize = max(configuration.getConsumingBatchSize(), 1);
+        while (active.get()) {
+            try {
+                LoggingMessage message = queue.poll(CONSUMER_IDLE_NANOS, NANOSECONDS);
+                if (isNull(message)) {
+                    flush();
+                    continue;
+                }
+                consume(message);
+                if (queue.drain(messageConsumer, batchSize - 1) < batchSize - 1) {
+                    flush();
+                }
+            } catch (InterruptedException interruptedException) {
+                break;
+            } catch (RuntimeException exception) {
+                printError(getStackTraceAsString(exception));
+            }
+        }
+        while (!queue.isEmpty()) {
+            try {
+                queue.drain(messageConsumer, batchSize);
+            } catch (RuntimeException exception) {
+                printError(getStackTraceAsString(exception));
+            }
+        }
+        consumers.values().forEach(LoggerConsumer::complete);
+    }
+
+    private void flush() {
+        consumers.values().forEach(LoggerConsumer::flush);
+    }
+
+    private void consume(LoggingMessage message) {
+        LoggerConsumer consumer = consumers.get(message.getLogger());
+        try {
+            if (nonNull(consumer)) {
+                consumer.consume(message);
+            }
+        } finally {
+            pool.release(message);
+        }
+    }
+}
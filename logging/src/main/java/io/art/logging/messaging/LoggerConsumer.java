@@ -19,15 +19,46 @@
 package io.art.logging.messaging;
 
 import io.art.core.collection.*;
+import io.art.logging.configuration.*;
 import io.art.logging.model.*;
 import io.art.logging.writer.*;
-import lombok.*;
+import static java.util.Objects.*;
+import java.util.function.*;
 
-@AllArgsConstructor
 public class LoggerConsumer {
+    private final Consumer<LoggingMessage> writer = this::write;
     private final ImmutableArray<LoggerWriter> writers;
+    private final LoggingDeduplicator deduplicator;
+
+    public LoggerConsumer(ImmutableArray<LoggerWriter> writers, LoggerConfiguration configuration) {
+        this.writers = writers;
+        this.deduplicator = configuration.getDeduplicationWindow().isZero() ? null : new LoggingDeduplicator(configuration);
+    }
 
     public void consume(LoggingMessage message) {
-        writers.forEach(writer -> writer.write(message));
+        if (nonNull(deduplicator) && nonNull(message.getError()) && deduplicator.suppress(message, writer)) {
+            return;
+        }
+        write(message);
+    }
+
+    public void flush() {
+        if (nonNull(deduplicator)) {
+            deduplicator.sweep(writer);
+        }
+        writers.forEach(LoggerWriter::flush);
+    }
+
+    public void complete() {
+        if (nonNull(deduplicator)) {
+            deduplicator.drain(writer);
+        }
+        writers.forEach(LoggerWriter::flush);
+    }
+
+    private void write(LoggingMessage message) {
+        for (int index = 0; index < writers.size(); index++) {
+            writers.get(index).write(message);
+        }
     }
 }
@@ -18,18 +18,132 @@
 
 package io.art.logging.messaging;
 
+import io.art.core.collection.*;
+import io.art.logging.configuration.*;
+import io.art.logging.manager.*;
 import io.art.logging.model.*;
 import io.art.logging.writer.*;
-import lombok.*;
+import static io.art.logging.constants.LoggingLevel.*;
+import static io.art.logging.constants.LoggingModuleConstants.Defaults.*;
+import static io.art.logging.constants.LoggingModuleConstants.Messages.*;
+import static java.lang.Math.*;
+import static java.lang.System.*;
+import static java.util.Objects.*;
+import static java.util.concurrent.locks.LockSupport.*;
+import java.util.concurrent.atomic.*;
 
-@AllArgsConstructor
 public class LoggerProducer {
-    private final LoggingQueue queue;
+    private final LongAdder droppedMessages = new LongAdder();
+    private final AtomicLong overflowedMessages = new AtomicLong();
+    private final ImmutableArray<LoggingShard> shards;
+    private final LoggingMessagePool pool;
     private final LoggerWriter fallbackWriter;
+    private final LoggingModuleConfiguration configuration;
+    private final LongAdder totalDroppedMessages;
+    private final String logger;
+    private final LoggingRateLimiter rateLimiter;
+
+    public LoggerProducer(String logger, LoggerConfiguration loggerConfiguration, ImmutableArray<LoggingShard> shards, LoggingMessagePool pool, LoggerWriter fallbackWriter, LoggingModuleConfiguration configuration, LongAdder totalDroppedMessages) {
+        this.logger = logger;
+        this.rateLimiter = loggerConfiguration.getRateLimit() > 0 ? new LoggingRateLimiter(loggerConfiguration) : null;
+        this.shards = shards;
+        this.pool = pool;
+        this.fallbackWriter = fallbackWriter;
+        this.configuration = configuration;
+        this.totalDroppedMessages = totalDroppedMessages;
+    }
+
+    public LoggingMessage acquire() {
+        return pool.acquire();
+    }
+
+    public long getDroppedMessages() {
+        return droppedMessages.sum();
+    }
+
+    public boolean permit() {
+        if (isNull(rateLimiter)) return true;
+        if (!rateLimiter.tryAcquire()) return false;
+        reportSuppressed(rateLimiter.takeSuppressed());
+        return true;
+    }
+
+    public void flushSuppressed() {
+        if (nonNull(rateLimiter)) {
+            reportSuppressed(rateLimiter.drainSuppressed());
+        }
+    }
 
     public void produce(LoggingMessage message) {
-        if (!queue.offer(message)) {
+        int count = shards.size();
+        if (count == 0) {
+            pool.release(message);
+            return;
+        }
+        for (int index = 1; index < count; index++) {
+            produce(shards.get(index), pool.acquire().copy(message));
+        }
+        produce(shards.get(0), message);
+    }
+
+    private void reportSuppressed(long suppressed) {
+        if (suppressed > 0) {
+            produce(acquire().initialize(logger, WARN, RATE_LIMITED_MESSAGES, null, null).argument(suppressed));
+        }
+    }
+
+    private void produce(LoggingShard shard, LoggingMessage message) {
+        if (shard.offer(message)) {
+            return;
+        }
+        switch (configuration.getOverflowPolicy()) {
+            case FALLBACK:
+                fallback(message);
+                return;
+            case DROP_NEWEST:
+                drop(message);
+                return;
+            case DROP_BELOW_LEVEL:
+                if (message.getLevel().getLevel() > configuration.getOverflowLevel().getLevel()) {
+                    drop(message);
+                    return;
+                }
+                await(shard, message);
+                return;
+            case BLOCK:
+                await(shard, message);
+                return;
+            case SAMPLE:
+                if (overflowedMessages.incrementAndGet() % max(configuration.getOverflowSamplingRate(), 1) != 0) {
+                    drop(message);
+                    return;
+                }
+                await(shard, message);
+        }
+    }
+
+    private void await(LoggingShard shard, LoggingMessage message) {
+        long deadline = nanoTime() + configuration.getOverflowTimeout().toNanos();
+        while (nanoTime() < deadline) {
+            parkNanos(OVERFLOW_PARK_NANOS);
+            if (shard.offer(message)) {
+                return;
+            }
+        }
+        drop(message);
+    }
+
+    private void fallback(LoggingMessage message) {
+        synchronized (fallbackWriter) {
             fallbackWriter.write(message);
+            fallbackWriter.flush();
         }
+        pool.release(message);
+    }
+
+    private void drop(LoggingMessage message) {
+        droppedMessages.increment();
+        totalDroppedMessages.increment();
+        pool.release(message);
     }
 }
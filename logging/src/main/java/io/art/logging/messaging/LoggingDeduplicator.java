@@ -0,0 +1,115 @@
+/*
+ * ART
+ *
+ * Copyright 2019-2021 ART
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.art.logging.messaging;
+
+import io.art.logging.configuration.*;
+import io.art.logging.constants.*;
+import io.art.logging.model.*;
+import lombok.*;
+import static io.art.core.factory.MapFactory.*;
+import static io.art.logging.constants.LoggingModuleConstants.Messages.*;
+import static java.lang.System.*;
+import static java.util.Objects.*;
+import java.util.*;
+import java.util.function.*;
+
+public class LoggingDeduplicator {
+    private final Map<DeduplicationKey, Occurrence> occurrences = map();
+    private final LoggingMessage summary = new LoggingMessage();
+    private final long windowMillis;
+
+    public LoggingDeduplicator(LoggerConfiguration configuration) {
+        this.windowMillis = configuration.getDeduplicationWindow().toMillis();
+    }
+
+    public boolean suppress(LoggingMessage message, Consumer<LoggingMessage> writer) {
+        DeduplicationKey key = key(message);
+        Occurrence occurrence = occurrences.get(key);
+        long timestamp = message.getTimestamp();
+        if (isNull(occurrence)) {
+            occurrences.put(key, new Occurrence(message.getLogger(), message.getLevel(), message.getMessage(), timestamp, 0));
+            return false;
+        }
+        if (timestamp - occurrence.windowStart < windowMillis) {
+            occurrence.repeated++;
+            return true;
+        }
+        report(occurrence, writer);
+        occurrence.windowStart = timestamp;
+        return false;
+    }
+
+    public void sweep(Consumer<LoggingMessage> writer) {
+        long now = currentTimeMillis();
+        Iterator<Occurrence> iterator = occurrences.values().iterator();
+        while (iterator.hasNext()) {
+            Occurrence occurrence = iterator.next();
+            if (now - occurrence.windowStart < windowMillis) {
+                continue;
+            }
+            report(occurrence, writer);
+            iterator.remove();
+        }
+    }
+
+    public void drain(Consumer<LoggingMessage> writer) {
+        occurrences.values().forEach(occurrence -> report(occurrence, writer));
+        occurrences.clear();
+    }
+
+    private static DeduplicationKey key(LoggingMessage message) {
+        Throwable error = message.getError();
+        StackTraceElement[] stackTrace = error.getStackTrace();
+        if (stackTrace.length == 0) {
+            return new DeduplicationKey(message.getMessage(), error.getClass().getName(), null, 0);
+        }
+        StackTraceElement site = stackTrace[0];
+        return new DeduplicationKey(message.getMessage(), site.getClassName(), site.getMethodName(), site.getLineNumber());
+    }
+
+    private void report(Occurrence occurrence, Consumer<LoggingMessage> writer) {
+        if (occurrence.repeated == 0) {
+            return;
+        }
+        writer.accept(summary
+                .initialize(occurrence.logger, occurrence.level, REPEATED_MESSAGE, null, null)
+                .argument(occurrence.message)
+                .argument(occurrence.repeated));
+        summary.clear();
+        occurrence.repeated = 0;
+    }
+
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    private static class DeduplicationKey {
+        private final String message;
+        private final String siteClass;
+        private final String siteMethod;
+        private final int siteLine;
+    }
+
+    @AllArgsConstructor
+    private static class Occurrence {
+        private final String logger;
+        private final LoggingLevel level;
+        private final String message;
+        private long windowStart;
+        private long repeated;
+    }
+}
@@ -21,6 +21,8 @@
 import io.art.logging.configuration.*;
 import io.art.logging.model.*;
 import org.jctools.queues.*;
+import java.util.concurrent.*;
+import java.util.function.*;
 
 public class LoggingQueue {
     private final MpscBlockingConsumerArrayQueue<LoggingMessage> queue;
@@ -41,6 +43,14 @@ public LoggingMessage poll() {
         return queue.poll();
     }
 
+    public LoggingMessage poll(long timeout, TimeUnit unit) throws InterruptedException {
+        return queue.poll(timeout, unit);
+    }
+
+    public int drain(Consumer<LoggingMessage> consumer, int limit) {
+        return queue.drain(consumer::accept, limit);
+    }
+
     public boolean isEmpty() {
         return queue.isEmpty();
     }
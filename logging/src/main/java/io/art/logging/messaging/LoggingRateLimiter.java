@@ -0,0 +1,59 @@
+/*
+ * ART
+ *
+ * Copyright 2019-2021 ART
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.art.logging.messaging;
+
+import io.art.logging.configuration.*;
+import static java.lang.System.*;
+import java.util.concurrent.atomic.*;
+
+public class LoggingRateLimiter {
+    private final AtomicLong windowStart = new AtomicLong(nanoTime());
+    private final AtomicLong permits = new AtomicLong();
+    private final LongAdder rejected = new LongAdder();
+    private final AtomicLong suppressed = new AtomicLong();
+    private final long limit;
+    private final long periodNanos;
+
+    public LoggingRateLimiter(LoggerConfiguration configuration) {
+        this.limit = configuration.getRateLimit();
+        this.periodNanos = configuration.getRateLimitPeriod().toNanos();
+    }
+
+    public boolean tryAcquire() {
+        long now = nanoTime();
+        long start = windowStart.get();
+        if (now - start >= periodNanos && windowStart.compareAndSet(start, now)) {
+            suppressed.addAndGet(rejected.sumThenReset());
+            permits.set(0);
+        }
+        if (permits.incrementAndGet() <= limit) {
+            return true;
+        }
+        rejected.increment();
+        return false;
+    }
+
+    public long takeSuppressed() {
+        return suppressed.get() == 0 ? 0 : suppressed.getAndSet(0);
+    }
+
+    public long drainSuppressed() {
+        return suppressed.getAndSet(0) + rejected.sumThenReset();
+    }
+}
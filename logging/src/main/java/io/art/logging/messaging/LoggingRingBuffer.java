@@ -0,0 +1,143 @@
+/*
+ * ART
+ *
+ * Copyright 2019-2021 ART
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.art.logging.messaging;
+
+import static io.art.logging.constants.LoggingModuleConstants.Defaults.*;
+import static java.lang.Math.*;
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.util.concurrent.atomic.*;
+
+public class LoggingRingBuffer {
+    private final int capacity;
+    private final byte[] array;
+    private final ByteBuffer[] segments = new ByteBuffer[TCP_MAX_DRAIN_SEGMENTS];
+    private final AtomicLong readPosition = new AtomicLong();
+    private final AtomicLong writePosition = new AtomicLong();
+    private int frameRemaining;
+
+    public LoggingRingBuffer(int capacity) {
+        this.capacity = capacity;
+        this.array = new byte[capacity];
+        for (int index = 0; index < segments.length; index++) {
+            segments[index] = ByteBuffer.wrap(array);
+        }
+    }
+
+    public boolean offer(ByteBuffer frame) {
+        int size = frame.remaining();
+        long write = writePosition.get();
+        if (capacity - (write - readPosition.get()) < size + TCP_FRAME_HEADER_SIZE) {
+            return false;
+        }
+        putHeader(write, size);
+        int offset = (int) ((write + TCP_FRAME_HEADER_SIZE) % capacity);
+        int head = min(size, capacity - offset);
+        frame.get(array, offset, head);
+        if (head < size) {
+            frame.get(array, 0, size - head);
+        }
+        writePosition.lazySet(write + TCP_FRAME_HEADER_SIZE + size);
+        return true;
+    }
+
+    public long drain(GatheringByteChannel channel) throws IOException {
+        long read = readPosition.get();
+        long write = writePosition.get();
+        if (read == write) {
+            return 0;
+        }
+        long position = read;
+        int remaining = frameRemaining;
+        int count = 0;
+        while (position < write && count <= segments.length - 2) {
+            if (remaining == 0) {
+                remaining = getHeader(position);
+                position += TCP_FRAME_HEADER_SIZE;
+            }
+            count = addSegments(count, position, remaining);
+            position += remaining;
+            remaining = 0;
+        }
+        long written = channel.write(segments, 0, count);
+        long unaccounted = written;
+        position = read;
+        remaining = frameRemaining;
+        while (unaccounted > 0) {
+            if (remaining == 0) {
+                remaining = getHeader(position);
+                position += TCP_FRAME_HEADER_SIZE;
+            }
+            int sent = (int) min(unaccounted, remaining);
+            position += sent;
+            remaining -= sent;
+            unaccounted -= sent;
+        }
+        frameRemaining = remaining;
+        readPosition.lazySet(position);
+        return written;
+    }
+
+    public void skipPartialFrame() {
+        if (frameRemaining == 0) {
+            return;
+        }
+        readPosition.lazySet(readPosition.get() + frameRemaining);
+        frameRemaining = 0;
+    }
+
+    public long size() {
+        return writePosition.get() - readPosition.get();
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    private int addSegments(int count, long position, int length) {
+        int offset = (int) (position % capacity);
+        int head = min(length, capacity - offset);
+        setSegment(segments[count++], offset, head);
+        if (head < length) {
+            setSegment(segments[count++], 0, length - head);
+        }
+        return count;
+    }
+
+    private static void setSegment(ByteBuffer segment, int offset, int length) {
+        segment.clear();
+        segment.limit(offset + length);
+        segment.position(offset);
+    }
+
+    private void putHeader(long position, int value) {
+        for (int index = 0; index < TCP_FRAME_HEADER_SIZE; index++) {
+            array[(int) ((position + index) % capacity)] = (byte) (value >>> (Byte.SIZE * (TCP_FRAME_HEADER_SIZE - 1 - index)));
+        }
+    }
+
+    private int getHeader(long position) {
+        int value = 0;
+        for (int index = 0; index < TCP_FRAME_HEADER_SIZE; index++) {
+            value = (value << Byte.SIZE) | (array[(int) ((position + index) % capacity)] & 0xFF);
+        }
+        return value;
+    }
+}
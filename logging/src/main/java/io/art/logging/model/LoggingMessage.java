@@ -20,14 +20,70 @@
 
 import io.art.logging.constants.*;
 import lombok.*;
-import java.time.*;
+import static io.art.logging.constants.LoggingModuleConstants.Defaults.*;
+import static java.lang.System.*;
+import static java.lang.Thread.*;
+import static java.util.Arrays.*;
+import static java.util.Objects.*;
 
-@Value
-@Builder(toBuilder = true)
+@Getter
 public class LoggingMessage {
-    String logger;
-    LocalDateTime dateTime;
-    Thread thread;
-    LoggingLevel level;
-    String message;
+    private String logger;
+    private long timestamp;
+    private Thread thread;
+    private LoggingLevel level;
+    private String message;
+    private Object[] arguments;
+    private int argumentsCount;
+    private Throwable error;
+    @Getter(AccessLevel.NONE)
+    private final Object[] inlineArguments = new Object[MAX_INLINE_ARGUMENTS];
+
+    public LoggingMessage initialize(String logger, LoggingLevel level, String message, Object[] arguments, Throwable error) {
+        this.logger = logger;
+        this.timestamp = currentTimeMillis();
+        this.thread = currentThread();
+        this.level = level;
+        this.message = message;
+        this.arguments = arguments;
+        this.argumentsCount = isNull(arguments) ? 0 : arguments.length;
+        this.error = error;
+        return this;
+    }
+
+    public LoggingMessage argument(Object argument) {
+        if (arguments != inlineArguments) {
+            arguments = inlineArguments;
+            argumentsCount = 0;
+        }
+        inlineArguments[argumentsCount++] = argument;
+        return this;
+    }
+
+    public LoggingMessage copy(LoggingMessage source) {
+        this.logger = source.logger;
+        this.timestamp = source.timestamp;
+        this.thread = source.thread;
+        this.level = source.level;
+        this.message = source.message;
+        this.arguments = source.arguments;
+        this.argumentsCount = source.argumentsCount;
+        if (source.arguments == source.inlineArguments) {
+            arraycopy(source.inlineArguments, 0, inlineArguments, 0, source.argumentsCount);
+            this.arguments = inlineArguments;
+        }
+        this.error = source.error;
+        return this;
+    }
+
+    public void clear() {
+        logger = null;
+        thread = null;
+        level = null;
+        message = null;
+        arguments = null;
+        argumentsCount = 0;
+        fill(inlineArguments, null);
+        error = null;
+    }
 }
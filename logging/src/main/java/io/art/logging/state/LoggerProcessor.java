@@ -19,19 +19,13 @@
 package io.art.logging.state;
 
 import io.art.core.collection.*;
-import io.art.logging.manager.*;
 import io.art.logging.messaging.*;
-import io.art.logging.writer.*;
 import lombok.*;
 
 
 @Getter
+@AllArgsConstructor
 public class LoggerProcessor {
-    private final LoggerConsumer consumer;
+    private final ImmutableArray<LoggerConsumer> consumers;
     private final LoggerProducer producer;
-
-    public LoggerProcessor(LoggingQueue queue, ImmutableArray<LoggerWriter> writers, LoggerWriter fallbackWriter) {
-        consumer = new LoggerConsumer(writers);
-        producer = new LoggerProducer(queue, fallbackWriter);
-    }
 }
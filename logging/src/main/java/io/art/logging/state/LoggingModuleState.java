@@ -36,4 +36,8 @@ public class LoggingModuleState implements ModuleState {
     public Logger register(String name, LoggerConfiguration configuration) {
         return putIfAbsent(loggers, name, () -> createLogger(name, configuration, manager));
     }
+
+    public long getDroppedMessages() {
+        return manager.getDroppedMessages();
+    }
 }
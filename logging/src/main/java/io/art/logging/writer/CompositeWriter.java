@@ -31,4 +31,9 @@ public class CompositeWriter implements LoggerWriter {
     public void write(LoggingMessage message) {
         writers.forEach(writer -> writer.write(message));
     }
+
+    @Override
+    public void flush() {
+        writers.forEach(LoggerWriter::flush);
+    }
 }
@@ -19,40 +19,36 @@
 package io.art.logging.writer;
 
 import io.art.logging.configuration.*;
-import io.art.logging.constants.*;
+import io.art.logging.encoder.*;
 import io.art.logging.manager.*;
 import io.art.logging.model.*;
-import lombok.*;
-import static io.art.core.constants.StringConstants.*;
-import static io.art.core.extensions.SystemExtensions.*;
 import static io.art.logging.constants.LoggingLevel.*;
-import static io.art.logging.constants.LoggingModuleConstants.*;
-import java.text.*;
+import static io.art.logging.factory.LoggingMessageEncoderFactory.*;
+import static java.lang.System.*;
+import java.io.*;
+import java.nio.*;
 
-@AllArgsConstructor
 public class ConsoleWriter implements LoggerWriter {
     private final LoggingManager manager;
     private final LoggerWriterConfiguration writerConfiguration;
+    private final LoggingMessageEncoder encoder;
+
+    public ConsoleWriter(LoggingManager manager, LoggerWriterConfiguration writerConfiguration) {
+        this.manager = manager;
+        this.writerConfiguration = writerConfiguration;
+        this.encoder = loggingMessageEncoder(writerConfiguration, lineSeparator());
+    }
 
     @Override
     public void write(LoggingMessage message) {
-        if (message.getLevel() == ERROR) {
-            printError(format(message));
-            return;
-        }
-
-        printMessage(format(message));
+        ByteBuffer bytes = encoder.encode(message);
+        PrintStream stream = message.getLevel() == ERROR ? err : out;
+        stream.write(bytes.array(), bytes.arrayOffset() + bytes.position(), bytes.remaining());
     }
 
-    private String format(LoggingMessage message) {
-        String dateTime = writerConfiguration.getDateTimeFormatter().format(message.getDateTime());
-        LoggingLevel level = message.getLevel();
-        return MessageFormat.format(LOGGING_FORMAT,
-                dateTime,
-                level.name(),
-                OPENING_SQUARE_BRACES + message.getThread().getName() + CLOSING_SQUARE_BRACES,
-                message.getLogger(),
-                message.getMessage()
-        );
+    @Override
+    public void flush() {
+        out.flush();
+        err.flush();
     }
 }
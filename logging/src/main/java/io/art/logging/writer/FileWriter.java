@@ -19,7 +19,7 @@
 package io.art.logging.writer;
 
 import io.art.logging.configuration.*;
-import io.art.logging.constants.*;
+import io.art.logging.encoder.*;
 import io.art.logging.exception.*;
 import io.art.logging.manager.*;
 import io.art.logging.model.*;
@@ -27,13 +27,13 @@
 import static io.art.core.checker.EmptinessChecker.*;
 import static io.art.core.checker.NullityChecker.*;
 import static io.art.core.constants.StringConstants.*;
-import static io.art.core.extensions.FileExtensions.*;
 import static io.art.core.extensions.SystemExtensions.*;
 import static io.art.core.handler.ExceptionHandler.*;
 import static io.art.core.wrapper.ExceptionWrapper.*;
 import static io.art.logging.constants.LoggingModuleConstants.Errors.*;
-import static io.art.logging.constants.LoggingModuleConstants.*;
+import static io.art.logging.factory.LoggingMessageEncoderFactory.*;
 import static java.lang.System.*;
+import static java.nio.ByteBuffer.*;
 import static java.nio.file.StandardOpenOption.*;
 import static java.time.LocalDateTime.*;
 import static java.util.Arrays.*;
@@ -41,6 +41,7 @@
 import static java.util.Objects.*;
 import static java.util.function.Function.*;
 import java.io.*;
+import java.nio.*;
 import java.nio.channels.*;
 import java.nio.file.*;
 import java.text.*;
@@ -50,14 +51,28 @@
 public class FileWriter implements LoggerWriter {
     private final LoggingManager manager;
     private final LoggerWriterConfiguration writerConfiguration;
-    private OutputStream outputStream;
+    private final FileWriterConfiguration fileConfiguration;
+    private final ByteBuffer buffer;
+    private final LoggingMessageEncoder messageEncoder;
+    private final long flushIntervalMillis;
+    private FileChannel channel;
     private LocalDateTime currentTimeStamp;
+    private int bufferedMessages;
+    private long lastFlushMillis;
 
     public FileWriter(LoggingManager manager, LoggerWriterConfiguration writerConfiguration) {
         this.manager = manager;
         this.writerConfiguration = writerConfiguration;
+        this.fileConfiguration = writerConfiguration.getFile();
+        int bufferSize = fileConfiguration.getBufferSize();
+        if (bufferSize <= 0) {
+            throw new LoggingModuleException(MessageFormat.format(INVALID_LOG_FILE_BUFFER_SIZE, String.valueOf(bufferSize)));
+        }
+        this.buffer = allocateDirect(bufferSize);
+        this.messageEncoder = loggingMessageEncoder(writerConfiguration, lineSeparator());
+        this.flushIntervalMillis = fileConfiguration.getFlushInterval().toMillis();
+        this.lastFlushMillis = currentTimeMillis();
 
-        FileWriterConfiguration fileConfiguration = writerConfiguration.getFile();
         File directory = fileConfiguration.getDirectory().toFile();
         if (!directory.exists()) {
             if (!directory.mkdirs()) {
@@ -76,34 +91,38 @@ public FileWriter(LoggingManager manager, LoggerWriterConfiguration writerConfig
                     .orElse(timeStamp);
         }
 
-        openFileStream(timeStamp);
+        openFileChannel(timeStamp);
     }
 
     @Override
     public void write(LoggingMessage message) {
         rotate();
-        writeToFile(format(message));
+        writeToBuffer(messageEncoder.encode(message));
+        if (++bufferedMessages >= fileConfiguration.getFlushCount() || currentTimeMillis() - lastFlushMillis >= flushIntervalMillis) {
+            flush();
+        }
     }
 
-    private void rotate() {
-        LocalDateTime newTimeStamp = now();
-        if (newTimeStamp.isBefore(currentTimeStamp.plus(writerConfiguration.getFile().getRotationPeriod()))) {
+    @Override
+    public void flush() {
+        if (buffer.position() == 0) {
             return;
         }
-        closeFileStream(outputStream);
-        openFileStream(newTimeStamp);
+        buffer.flip();
+        writeToChannel(buffer);
+        buffer.clear();
+        bufferedMessages = 0;
+        lastFlushMillis = currentTimeMillis();
     }
 
-    private String format(LoggingMessage message) {
-        String dateTime = writerConfiguration.getDateTimeFormatter().format(message.getDateTime());
-        LoggingLevel level = message.getLevel();
-        return MessageFormat.format(LOGGING_FORMAT,
-                dateTime,
-                level.name(),
-                OPENING_SQUARE_BRACES + message.getThread().getName() + CLOSING_SQUARE_BRACES,
-                message.getLogger(),
-                message.getMessage() + lineSeparator()
-        );
+    private void rotate() {
+        LocalDateTime newTimeStamp = now();
+        if (newTimeStamp.isBefore(currentTimeStamp.plus(fileConfiguration.getRotationPeriod()))) {
+            return;
+        }
+        flush();
+        closeFileChannel(channel);
+        openFileChannel(newTimeStamp);
     }
 
     private LocalDateTime parseFileTimeStamp(FileWriterConfiguration configuration, String name) {
@@ -124,42 +143,57 @@ private LocalDateTime parseFileTimeStamp(FileWriterConfiguration configuration,
         return nullIfException(() -> parse(name.substring(prefixIndex + 1, suffixIndex), configuration.getTimestampFormat()));
     }
 
-    private void writeToFile(String message) {
+    private void writeToBuffer(ByteBuffer bytes) {
+        if (bytes.remaining() > buffer.capacity()) {
+            flush();
+            writeToChannel(bytes);
+            return;
+        }
+        if (bytes.remaining() > buffer.remaining()) {
+            flush();
+        }
+        buffer.put(bytes);
+    }
+
+    private void writeToChannel(ByteBuffer bytes) {
         try {
-            outputStream.write(message.getBytes(writerConfiguration.getCharset()));
-            outputStream.flush();
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+            if (fileConfiguration.isSyncOnFlush()) {
+                channel.force(false);
+            }
         } catch (ClosedByInterruptException interruptException) {
-            closeFileStream(outputStream);
-            openFileStream(now());
+            closeFileChannel(channel);
+            openFileChannel(now());
         } catch (Throwable throwable) {
             printError(getStackTraceAsString(throwable));
-            closeFileStream(outputStream);
-            openFileStream(now());
+            closeFileChannel(channel);
+            openFileChannel(now());
         }
     }
 
-    private void openFileStream(LocalDateTime timeStamp) {
-        FileWriterConfiguration fileConfiguration = writerConfiguration.getFile();
+    private void openFileChannel(LocalDateTime timeStamp) {
         String timeStampString = fileConfiguration.getTimestampFormat().format(timeStamp);
         String fileName = ifEmpty(fileConfiguration.getPrefix(), EMPTY_STRING) + timeStampString + fileConfiguration.getExtension();
-        outputStream = openFileStream(fileConfiguration.getDirectory().resolve(fileName));
+        channel = openFileChannel(fileConfiguration.getDirectory().resolve(fileName));
         currentTimeStamp = timeStamp;
     }
 
-    private OutputStream openFileStream(Path path) {
-        OutputStream stream = null;
+    private FileChannel openFileChannel(Path path) {
+        FileChannel channel = null;
         try {
-            stream = fileOutputStream(path, CREATE, APPEND, WRITE);
-            manager.register(stream);
-            return stream;
+            channel = FileChannel.open(path, CREATE, APPEND, WRITE);
+            manager.register(channel);
+            return channel;
         } catch (Throwable throwable) {
-            apply(stream, this::closeFileStream);
+            apply(channel, this::closeFileChannel);
             throw new LoggingModuleException(throwable);
         }
     }
 
-    private void closeFileStream(OutputStream stream) {
-        ignoreException(stream::close);
-        manager.remove(stream);
+    private void closeFileChannel(FileChannel channel) {
+        ignoreException(channel::close);
+        manager.remove(channel);
     }
 }
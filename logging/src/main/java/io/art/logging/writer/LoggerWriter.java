@@ -22,4 +22,7 @@
 
 public interface LoggerWriter {
     void write(LoggingMessage message);
+
+    default void flush() {
+    }
 }
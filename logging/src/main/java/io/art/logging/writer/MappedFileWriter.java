@@ -0,0 +1,247 @@
+/*
+ * ART
+ *
+ * Copyright 2019-2021 ART
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.art.logging.writer;
+
+import io.art.logging.configuration.*;
+import io.art.logging.encoder.*;
+import io.art.logging.exception.*;
+import io.art.logging.manager.*;
+import io.art.logging.model.*;
+import io.netty.util.internal.*;
+import static com.google.common.base.Throwables.*;
+import static io.art.core.checker.EmptinessChecker.*;
+import static io.art.core.constants.StringConstants.*;
+import static io.art.core.extensions.ExecutorExtensions.*;
+import static io.art.core.extensions.SystemExtensions.*;
+import static io.art.core.extensions.ThreadExtensions.*;
+import static io.art.core.wrapper.ExceptionWrapper.*;
+import static io.art.logging.constants.LoggingModuleConstants.Defaults.*;
+import static io.art.logging.constants.LoggingModuleConstants.Errors.*;
+import static io.art.logging.constants.LoggingModuleConstants.*;
+import static io.art.logging.factory.LoggingMessageEncoderFactory.*;
+import static java.lang.Math.*;
+import static java.lang.System.*;
+import static java.nio.channels.FileChannel.MapMode.*;
+import static java.nio.file.StandardOpenOption.*;
+import static java.text.MessageFormat.*;
+import static java.time.Instant.*;
+import static java.time.LocalDateTime.*;
+import static java.time.ZoneId.*;
+import static java.util.Arrays.*;
+import static java.util.Comparator.*;
+import static java.util.Objects.*;
+import static java.util.concurrent.Executors.*;
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.file.*;
+import java.util.concurrent.*;
+import java.util.zip.*;
+
+public class MappedFileWriter implements LoggerWriter {
+    private final MappedFileWriterConfiguration configuration;
+    private final LoggingMessageEncoder messageEncoder;
+    private final ExecutorService compressor;
+    private final File directory;
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private Path segment;
+    private String segmentTimeStamp;
+    private int segmentIndex;
+    private long rotationMillis;
+
+    public MappedFileWriter(LoggingManager manager, LoggerWriterConfiguration writerConfiguration) {
+        this.configuration = writerConfiguration.getMappedFile();
+        this.messageEncoder = loggingMessageEncoder(writerConfiguration, lineSeparator());
+        this.directory = configuration.getDirectory().toFile();
+        if (!directory.exists()) {
+            if (!directory.mkdirs()) {
+                throw new LoggingModuleException(format(UNABLE_TO_CREATE_LOG_DIRECTORY, directory.toString()));
+            }
+        }
+
+        compressor = configuration.isCompress() ? newSingleThreadExecutor(runnable -> newDaemon(COMPRESSOR_THREAD, runnable)) : null;
+        openSegment(currentTimeMillis());
+        manager.register(this::closeSegment);
+        if (nonNull(compressor)) {
+            manager.register(() -> terminateQuietly(compressor));
+        }
+    }
+
+    @Override
+    public void write(LoggingMessage message) {
+        long timestamp = message.getTimestamp();
+        try {
+            if (timestamp >= rotationMillis) {
+                rotate(timestamp);
+            }
+            ByteBuffer bytes = messageEncoder.encode(message);
+            if (buffer.position() > 0 && buffer.remaining() < bytes.remaining()) {
+                rotate(timestamp);
+            }
+            int limit = bytes.limit();
+            while (bytes.hasRemaining()) {
+                if (!buffer.hasRemaining()) {
+                    rotate(timestamp);
+                }
+                bytes.limit(bytes.position() + min(bytes.remaining(), buffer.remaining()));
+                buffer.put(bytes);
+                bytes.limit(limit);
+            }
+        } catch (Throwable throwable) {
+            printError(getStackTraceAsString(throwable));
+            closeSegment();
+            openSegment(currentTimeMillis());
+        }
+    }
+
+    @Override
+    public void flush() {
+        if (configuration.isSyncOnFlush() && nonNull(buffer)) {
+            buffer.force();
+        }
+    }
+
+    private void rotate(long timestamp) {
+        Path closed = segment;
+        closeSegment();
+        openSegment(timestamp);
+        Path active = segment;
+        if (isNull(compressor)) {
+            applyRetention(active);
+            return;
+        }
+        compressor.execute(() -> {
+            compress(closed);
+            applyRetention(active);
+        });
+    }
+
+    private void openSegment(long timestamp) {
+        String timeStamp = configuration.getTimestampFormat().format(ofInstant(ofEpochMilli(timestamp), systemDefault()));
+        if (timeStamp.equals(segmentTimeStamp)) {
+            segmentIndex++;
+        } else {
+            segmentTimeStamp = timeStamp;
+            segmentIndex = nextSegmentIndex(timeStamp);
+        }
+        segment = directory.toPath().resolve(segmentName(timeStamp) + segmentIndex + configuration.getExtension());
+        try {
+            channel = FileChannel.open(segment, CREATE, TRUNCATE_EXISTING, READ, WRITE);
+            buffer = channel.map(READ_WRITE, 0, configuration.getSegmentSize());
+        } catch (Throwable throwable) {
+            closeSegment();
+            throw new LoggingModuleException(throwable);
+        }
+        rotationMillis = timestamp + configuration.getRotationPeriod().toMillis();
+    }
+
+    private void closeSegment() {
+        if (isNull(channel)) {
+            return;
+        }
+        FileChannel current = channel;
+        MappedByteBuffer currentBuffer = buffer;
+        channel = null;
+        buffer = null;
+        if (nonNull(currentBuffer)) {
+            int position = currentBuffer.position();
+            ignoreException(() -> {
+                currentBuffer.force();
+                PlatformDependent.freeDirectBuffer(currentBuffer);
+                current.truncate(position);
+            }, throwable -> printError(getStackTraceAsString(throwable)));
+        }
+        ignoreException(current::close);
+    }
+
+    private void compress(Path path) {
+        Path target = path.resolveSibling(path.getFileName() + COMPRESSED_LOG_FILE_EXTENSION);
+        try (OutputStream output = new GZIPOutputStream(Files.newOutputStream(target))) {
+            Files.copy(path, output);
+        } catch (Throwable throwable) {
+            printError(format(UNABLE_TO_COMPRESS_LOG_FILE, path));
+            ignoreException(() -> Files.deleteIfExists(target));
+            return;
+        }
+        ignoreException(() -> Files.deleteIfExists(path));
+    }
+
+    private void applyRetention(Path active) {
+        File[] segments = directory.listFiles(file -> isSegment(file.getName()) && !file.toPath().equals(active));
+        if (isNull(segments) || isEmpty(segments)) {
+            return;
+        }
+        sort(segments, comparingLong(File::lastModified).reversed());
+        int files = 1;
+        long size = configuration.getSegmentSize();
+        for (File file : segments) {
+            files++;
+            size += file.length();
+            if (files > configuration.getMaxFiles() || size > configuration.getMaxTotalSize()) {
+                ignoreException(() -> Files.deleteIfExists(file.toPath()));
+            }
+        }
+    }
+
+    private int nextSegmentIndex(String timeStamp) {
+        String name = segmentName(timeStamp);
+        File[] segments = directory.listFiles(file -> file.getName().startsWith(name) && isSegment(file.getName()));
+        if (isNull(segments) || isEmpty(segments)) {
+            return 0;
+        }
+        return stream(segments)
+                .mapToInt(file -> parseSegmentIndex(file.getName(), name.length()))
+                .max()
+                .orElse(-1) + 1;
+    }
+
+    private boolean isSegment(String name) {
+        if (!name.startsWith(configuration.getPrefix())) {
+            return false;
+        }
+        String extension = configuration.getExtension();
+        String compressedExtension = extension + COMPRESSED_LOG_FILE_EXTENSION;
+        int end = name.endsWith(extension) ? name.length() - extension.length() : name.endsWith(compressedExtension) ? name.length() - compressedExtension.length() : -1;
+        if (end <= 0) {
+            return false;
+        }
+        int start = name.lastIndexOf(DASH, end - 1) + 1;
+        if (start <= 0 || start == end) {
+            return false;
+        }
+        for (int index = start; index < end; index++) {
+            if (!Character.isDigit(name.charAt(index))) return false;
+        }
+        return true;
+    }
+
+    private int parseSegmentIndex(String name, int from) {
+        int index = from;
+        int result = 0;
+        while (index < name.length() && Character.isDigit(name.charAt(index))) {
+            result = result * 10 + (name.charAt(index++) - '0');
+        }
+        return result;
+    }
+
+    private String segmentName(String timeStamp) {
+        return configuration.getPrefix() + timeStamp + DASH;
+    }
+}
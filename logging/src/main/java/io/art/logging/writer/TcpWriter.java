@@ -19,72 +19,156 @@
 package io.art.logging.writer;
 
 import io.art.logging.configuration.*;
-import io.art.logging.constants.*;
-import io.art.logging.exception.*;
+import io.art.logging.encoder.*;
 import io.art.logging.manager.*;
+import io.art.logging.messaging.*;
 import io.art.logging.model.*;
 import static com.google.common.base.Throwables.*;
-import static io.art.core.checker.NullityChecker.*;
-import static io.art.core.constants.StringConstants.*;
 import static io.art.core.extensions.SystemExtensions.*;
+import static io.art.core.extensions.ThreadExtensions.*;
 import static io.art.core.wrapper.ExceptionWrapper.*;
+import static io.art.logging.constants.LoggingModuleConstants.Defaults.*;
+import static io.art.logging.constants.LoggingModuleConstants.Messages.*;
 import static io.art.logging.constants.LoggingModuleConstants.*;
-import static java.net.InetSocketAddress.*;
+import static io.art.logging.factory.LoggingMessageEncoderFactory.*;
+import static java.lang.Math.*;
+import static java.lang.System.*;
 import static java.net.StandardSocketOptions.*;
-import static java.nio.channels.SocketChannel.*;
+import static java.text.MessageFormat.*;
+import static java.util.Objects.*;
+import static java.util.concurrent.locks.LockSupport.*;
 import java.net.*;
 import java.nio.*;
 import java.nio.channels.*;
-import java.text.*;
+import java.util.concurrent.atomic.*;
 
 public class TcpWriter implements LoggerWriter {
+    private final AtomicBoolean active = new AtomicBoolean(true);
+    private final AtomicLong droppedBytes = new AtomicLong();
+    private final AtomicLong outageDroppedBytes = new AtomicLong();
     private final LoggingManager manager;
     private final LoggerWriterConfiguration writerConfiguration;
+    private final TcpWriterConfiguration tcpConfiguration;
+    private final LoggingMessageEncoder encoder;
+    private final LoggingRingBuffer buffer;
+    private final Thread sender;
+    private volatile boolean connected;
+    private boolean disconnected;
     private SocketChannel channel;
 
     public TcpWriter(LoggingManager manager, LoggerWriterConfiguration writerConfiguration) {
         this.manager = manager;
         this.writerConfiguration = writerConfiguration;
-        openChannel();
+        this.tcpConfiguration = writerConfiguration.getTcp();
+        this.encoder = loggingMessageEncoder(writerConfiguration, lineSeparator());
+        this.buffer = new LoggingRingBuffer(tcpConfiguration.getBufferSize());
+        this.sender = newDaemon(TCP_SENDER_THREAD, this::send);
+        sender.start();
+        manager.register(this::stop);
     }
 
     @Override
     public void write(LoggingMessage message) {
+        ByteBuffer frame = encoder.encode(message);
+        int size = frame.remaining();
+        if (buffer.offer(frame)) {
+            return;
+        }
+        droppedBytes.addAndGet(size);
+        if (!connected) {
+            outageDroppedBytes.addAndGet(size);
+        }
+    }
+
+    @Override
+    public void flush() {
+        unpark(sender);
+    }
+
+    public long getBufferedBytes() {
+        return buffer.size();
+    }
+
+    public long getDroppedBytes() {
+        return droppedBytes.get();
+    }
+
+    public boolean isConnected() {
+        return connected;
+    }
+
+    private void send() {
+        long initialDelay = tcpConfiguration.getReconnectInitialDelay().toNanos();
+        long maxDelay = tcpConfiguration.getReconnectMaxDelay().toNanos();
+        long delay = initialDelay;
+        while (active.get()) {
+            if (isNull(channel) && !connect()) {
+                parkNanos(delay);
+                delay = min(delay << 1, maxDelay);
+                continue;
+            }
+            delay = initialDelay;
+            if (buffer.isEmpty()) {
+                parkNanos(TCP_SENDER_IDLE_NANOS);
+                continue;
+            }
+            drain();
+        }
+        while (nonNull(channel) && !buffer.isEmpty()) {
+            drain();
+        }
+        if (nonNull(channel)) {
+            closeChannel(channel);
+        }
+    }
+
+    private void drain() {
         try {
-            channel.write(ByteBuffer.wrap(format(message).getBytes(writerConfiguration.getCharset())));
+            buffer.drain(channel);
         } catch (Throwable throwable) {
             printError(getStackTraceAsString(throwable));
+            buffer.skipPartialFrame();
             closeChannel(channel);
-            openChannel();
         }
     }
 
-    private String format(LoggingMessage message) {
-        String dateTime = writerConfiguration.getDateTimeFormatter().format(message.getDateTime());
-        LoggingLevel level = message.getLevel();
-        return MessageFormat.format(LOGGING_FORMAT,
-                dateTime,
-                level.name(),
-                OPENING_SQUARE_BRACES + message.getThread().getName() + CLOSING_SQUARE_BRACES,
-                message.getLogger(),
-                message.getMessage()
-        );
+    private boolean connect() {
+        SocketChannel channel = null;
+        try {
+            channel = SocketChannel.open();
+            channel.setOption(TCP_NODELAY, true);
+            channel.setOption(SO_KEEPALIVE, true);
+            channel.socket().connect(new InetSocketAddress(tcpConfiguration.getHost(), tcpConfiguration.getPort()), (int) tcpConfiguration.getConnectTimeout().toMillis());
+            manager.register(channel);
+        } catch (Throwable throwable) {
+            if (nonNull(channel)) {
+                ignoreException(channel::close);
+            }
+            disconnected = true;
+            return false;
+        }
+        this.channel = channel;
+        connected = true;
+        long dropped = outageDroppedBytes.getAndSet(0);
+        if (disconnected) {
+            disconnected = false;
+            printError(format(LOG_COLLECTOR_RECONNECTED, tcpConfiguration.getHost(), String.valueOf(tcpConfiguration.getPort()), buffer.size(), dropped));
+        }
+        return true;
     }
 
     private void closeChannel(SocketChannel channel) {
+        connected = false;
+        disconnected = true;
+        this.channel = null;
         ignoreException(channel::close);
         manager.remove(channel);
     }
 
-    private void openChannel() {
-        try {
-            channel = open(createUnresolved(writerConfiguration.getTcp().getHost(), writerConfiguration.getTcp().getPort()));
-            channel.setOption(TCP_NODELAY, true);
-            channel.setOption(SO_KEEPALIVE, true);
-            manager.register(channel);
-        } catch (Throwable throwable) {
-            apply(channel, this::closeChannel);
-            throw new LoggingModuleException(throwable);
+    private void stop() {
+        if (active.compareAndSet(true, false)) {
+            unpark(sender);
+            ignoreException(() -> sender.join(tcpConfiguration.getConnectTimeout().toMillis()));
         }
     }
 }
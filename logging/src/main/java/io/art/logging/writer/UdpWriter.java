@@ -19,7 +19,7 @@
 package io.art.logging.writer;
 
 import io.art.logging.configuration.*;
-import io.art.logging.constants.*;
+import io.art.logging.encoder.*;
 import io.art.logging.exception.*;
 import io.art.logging.manager.*;
 import io.art.logging.model.*;
@@ -28,28 +28,28 @@
 import static io.art.core.constants.StringConstants.*;
 import static io.art.core.extensions.SystemExtensions.*;
 import static io.art.core.wrapper.ExceptionWrapper.*;
-import static io.art.logging.constants.LoggingModuleConstants.*;
+import static io.art.logging.factory.LoggingMessageEncoderFactory.*;
 import static java.net.InetSocketAddress.*;
 import static java.net.StandardSocketOptions.*;
-import java.nio.*;
 import java.nio.channels.*;
-import java.text.*;
 
 public class UdpWriter implements LoggerWriter {
     private final LoggingManager manager;
     private final LoggerWriterConfiguration writerConfiguration;
+    private final LoggingMessageEncoder encoder;
     private DatagramChannel channel;
 
     public UdpWriter(LoggingManager manager, LoggerWriterConfiguration writerConfiguration) {
         this.manager = manager;
         this.writerConfiguration = writerConfiguration;
+        this.encoder = loggingMessageEncoder(writerConfiguration, EMPTY_STRING);
         openChannel();
     }
 
     @Override
     public void write(LoggingMessage message) {
         try {
-            channel.write(ByteBuffer.wrap(format(message).getBytes(writerConfiguration.getCharset())));
+            channel.write(encoder.encode(message));
         } catch (Throwable throwable) {
             printError(getStackTraceAsString(throwable));
             closeChannel(channel);
@@ -57,18 +57,6 @@ public void write(LoggingMessage message) {
         }
     }
 
-    private String format(LoggingMessage message) {
-        String dateTime = writerConfiguration.getDateTimeFormatter().format(message.getDateTime());
-        LoggingLevel level = message.getLevel();
-        return MessageFormat.format(LOGGING_FORMAT,
-                dateTime,
-                level.name(),
-                OPENING_SQUARE_BRACES + message.getThread().getName() + CLOSING_SQUARE_BRACES,
-                message.getLogger(),
-                message.getMessage()
-        );
-    }
-
     private void closeChannel(DatagramChannel channel) {
         ignoreException(channel::close);
         manager.remove(channel);
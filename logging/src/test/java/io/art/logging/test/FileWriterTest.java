@@ -0,0 +1,81 @@
+package io.art.logging.test;
+
+import io.art.logging.configuration.*;
+import io.art.logging.constants.*;
+import io.art.logging.exception.*;
+import io.art.logging.manager.*;
+import io.art.logging.model.*;
+import io.art.logging.writer.*;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.*;
+import static io.art.core.context.TestingContext.*;
+import static io.art.logging.constants.LoggingLevel.*;
+import static java.nio.charset.StandardCharsets.*;
+import static org.assertj.core.api.Assertions.*;
+import java.nio.file.*;
+import java.util.stream.*;
+
+public class FileWriterTest {
+    private static final int SMALL_BUFFER = 16;
+    private static final int MESSAGES = 10;
+    private LoggingManager manager;
+
+    @TempDir
+    public Path directory;
+
+    @BeforeAll
+    public static void setup() {
+        testing();
+    }
+
+    @BeforeEach
+    public void activate() {
+        manager = new LoggingManager(new LoggingModuleConfiguration());
+        manager.activate();
+    }
+
+    @AfterEach
+    public void deactivate() {
+        manager.deactivate();
+    }
+
+    @Test
+    public void testMessagesLargerThanBuffer() throws Exception {
+        FileWriter writer = writer(SMALL_BUFFER);
+        for (int index = 0; index < MESSAGES; index++) {
+            writer.write(message(index));
+        }
+        writer.flush();
+        String content = read();
+        for (int index = 0; index < MESSAGES; index++) {
+            assertThat(content).contains("message-" + index + "-end");
+        }
+    }
+
+    @Test
+    public void testRejectsEmptyBuffer() {
+        assertThatThrownBy(() -> writer(0)).isInstanceOf(LoggingModuleException.class);
+    }
+
+    private FileWriter writer(int bufferSize) {
+        FileWriterConfiguration file = FileWriterConfiguration.builder()
+                .directory(directory)
+                .bufferSize(bufferSize)
+                .build();
+        return new FileWriter(manager, LoggerWriterConfiguration.builder().type(LoggingWriterType.FILE).file(file).build());
+    }
+
+    private String read() throws Exception {
+        try (Stream<Path> files = Files.list(directory)) {
+            StringBuilder content = new StringBuilder();
+            for (Path file : files.collect(Collectors.toList())) {
+                content.append(new String(Files.readAllBytes(file), UTF_8));
+            }
+            return content.toString();
+        }
+    }
+
+    private static LoggingMessage message(int index) {
+        return new LoggingMessage().initialize(FileWriterTest.class.getName(), INFO, "message-{0}-end", new Object[]{String.valueOf(index)}, null);
+    }
+}
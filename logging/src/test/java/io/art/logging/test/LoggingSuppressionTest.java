@@ -0,0 +1,104 @@
+package io.art.logging.test;
+
+import io.art.logging.configuration.*;
+import io.art.logging.logger.*;
+import io.art.logging.manager.*;
+import io.art.logging.model.*;
+import io.art.logging.writer.*;
+import org.junit.jupiter.api.*;
+import static io.art.core.context.TestingContext.*;
+import static io.art.core.factory.ArrayFactory.*;
+import static io.art.core.factory.ListFactory.*;
+import static io.art.logging.constants.LoggingLevel.*;
+import static io.art.logging.constants.LoggingModuleConstants.Messages.*;
+import static io.art.logging.factory.LoggerFactory.*;
+import static java.time.Duration.*;
+import static org.assertj.core.api.Assertions.*;
+import java.util.*;
+import java.util.function.*;
+
+public class LoggingSuppressionTest {
+    private static final String FAILURE = "operation failed";
+    private final List<LoggingMessage> messages = copyOnWriteList();
+    private LoggingManager manager;
+
+    @BeforeAll
+    public static void setup() {
+        testing();
+    }
+
+    @BeforeEach
+    public void activate() {
+        messages.clear();
+        manager = new LoggingManager(new LoggingModuleConfiguration());
+        manager.activate();
+    }
+
+    @AfterEach
+    public void deactivate() {
+        manager.deactivate();
+    }
+
+    @Test
+    public void testRateLimitedCountFlushedAtShutdown() {
+        Logger logger = logger(LoggerConfiguration.builder().rateLimit(2).rateLimitPeriod(ofHours(1)));
+        for (int index = 0; index < 5; index++) {
+            logger.info("message {}", index);
+        }
+        manager.deactivate();
+
+        assertThat(messages).hasSize(3);
+        assertThat(messages.get(0).getArguments()[0]).isEqualTo(0);
+        assertThat(messages.get(1).getArguments()[0]).isEqualTo(1);
+        assertThat(messages.get(2).getLevel()).isEqualTo(WARN);
+        assertThat(messages.get(2).getMessage()).isEqualTo(RATE_LIMITED_MESSAGES);
+        assertThat(messages.get(2).getArguments()[0]).isEqualTo(3L);
+    }
+
+    @Test
+    public void testDeduplicationKeysOnThrowingSite() {
+        Logger logger = logger(LoggerConfiguration.builder().deduplicationWindow(ofHours(1)));
+        logger.error(FAILURE, firstSite());
+        logger.error(FAILURE, secondSite());
+        logger.error(FAILURE, firstSite());
+        logger.error(FAILURE, new IllegalStateException());
+        manager.deactivate();
+
+        assertThat(messages).hasSize(4);
+        assertThat(messages.get(0).getError().getStackTrace()[0].getMethodName()).isEqualTo("firstSite");
+        assertThat(messages.get(1).getError().getStackTrace()[0].getMethodName()).isEqualTo("secondSite");
+        assertThat(messages.get(2).getError().getStackTrace()[0].getMethodName()).isEqualTo("testDeduplicationKeysOnThrowingSite");
+        assertThat(messages.get(3).getMessage()).isEqualTo(REPEATED_MESSAGE);
+        assertThat(messages.get(3).getArguments()[0]).isEqualTo(FAILURE);
+        assertThat(messages.get(3).getArguments()[1]).isEqualTo(1L);
+    }
+
+    @Test
+    public void testRepeatedCountFlushedWhenIdle() throws InterruptedException {
+        Logger logger = logger(LoggerConfiguration.builder().deduplicationWindow(ofMillis(50)));
+        logger.error(FAILURE, firstSite());
+        logger.error(FAILURE, firstSite());
+        long deadline = System.currentTimeMillis() + 5000;
+        while (messages.size() < 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertThat(messages).hasSize(2);
+        assertThat(messages.get(1).getMessage()).isEqualTo(REPEATED_MESSAGE);
+        assertThat(messages.get(1).getArguments()[1]).isEqualTo(1L);
+    }
+
+    private Logger logger(LoggerConfiguration.LoggerConfigurationBuilder builder) {
+        Function<LoggingManager, LoggerWriter> writer = ignore -> message -> messages.add(new LoggingMessage().copy(message));
+        LoggerConfiguration configuration = builder.customWriters(immutableArrayOf(writer)).build();
+        return createLogger(LoggingSuppressionTest.class.getName(), configuration, manager);
+    }
+
+    private static Throwable firstSite() {
+        return new IllegalStateException();
+    }
+
+    private static Throwable secondSite() {
+        return new IllegalStateException();
+    }
+}
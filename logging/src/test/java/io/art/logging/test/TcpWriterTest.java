@@ -0,0 +1,277 @@
+package io.art.logging.test;
+
+import io.art.logging.configuration.*;
+import io.art.logging.manager.*;
+import io.art.logging.messaging.*;
+import io.art.logging.model.*;
+import io.art.logging.writer.*;
+import org.junit.jupiter.api.*;
+import static io.art.core.context.TestingContext.*;
+import static io.art.core.factory.ArrayFactory.*;
+import static io.art.logging.constants.LoggingLevel.*;
+import static io.art.logging.constants.LoggingModuleConstants.Defaults.*;
+import static io.art.logging.constants.LoggingWriterType.*;
+import static java.nio.charset.StandardCharsets.*;
+import static java.time.Duration.*;
+import static java.util.Objects.*;
+import static java.util.concurrent.TimeUnit.*;
+import static org.assertj.core.api.Assertions.*;
+import java.io.*;
+import java.net.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+import java.util.regex.*;
+
+public class TcpWriterTest {
+    private static final Pattern SEQUENCE = Pattern.compile("message-(\\d+)-end");
+    private static final String MESSAGE_LAYOUT = "{message}";
+    private static final int WRAPPING_BUFFER = 64;
+    private static final int MESSAGES = 1000;
+    private static final int SMALL_BUFFER = 4096;
+    private static final int STALLED_MESSAGES = 200000;
+    private static final long TIMEOUT = 10000;
+    private LoggingManager manager;
+
+    @BeforeAll
+    public static void setup() {
+        testing();
+    }
+
+    @BeforeEach
+    public void activate() {
+        manager = new LoggingManager(new LoggingModuleConfiguration());
+        manager.activate();
+    }
+
+    @AfterEach
+    public void deactivate() {
+        manager.deactivate();
+    }
+
+    @Test
+    public void testDeliveryInOrder() throws Exception {
+        try (ServerSocket server = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            TcpWriter writer = writer(server, TcpWriterConfiguration.defaults().getBufferSize());
+            try (Socket socket = server.accept(); BufferedReader reader = reader(socket)) {
+                for (int index = 0; index < MESSAGES; index++) {
+                    writer.write(message(index));
+                }
+                writer.flush();
+                List<Integer> received = receive(reader, MESSAGES - 1);
+                assertThat(received).hasSize(MESSAGES);
+                for (int index = 0; index < MESSAGES; index++) {
+                    assertThat(received.get(index)).isEqualTo(index);
+                }
+                assertThat(writer.getDroppedBytes()).isZero();
+                assertThat(writer.isConnected()).isTrue();
+            }
+        }
+    }
+
+    @Test
+    public void testDropWhenServerStalls() throws Exception {
+        try (ServerSocket server = new ServerSocket()) {
+            server.setReceiveBufferSize(SMALL_BUFFER);
+            server.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 1);
+            TcpWriter writer = writer(server, SMALL_BUFFER);
+            try (Socket socket = server.accept(); BufferedReader reader = reader(socket)) {
+                await(writer::isConnected);
+                int last = 0;
+                for (; last < STALLED_MESSAGES && writer.getDroppedBytes() == 0; last++) {
+                    writer.write(message(last));
+                }
+                assertThat(writer.getDroppedBytes()).isPositive();
+                assertThat(writer.getBufferedBytes()).isLessThanOrEqualTo(SMALL_BUFFER);
+
+                int tail = last;
+                CompletableFuture<List<Integer>> receiving = CompletableFuture.supplyAsync(() -> receive(reader, tail));
+                await(() -> writer.getBufferedBytes() == 0);
+                writer.write(message(tail));
+                writer.flush();
+                List<Integer> received = receiving.get(TIMEOUT, MILLISECONDS);
+                assertThat(received).isNotEmpty().hasSizeLessThan(last + 1);
+                assertThat(received.get(received.size() - 1)).isEqualTo(tail);
+                for (int index = 1; index < received.size(); index++) {
+                    assertThat(received.get(index)).isGreaterThan(received.get(index - 1));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testPartialFrameSkippedAfterFailure() throws Exception {
+        LoggingRingBuffer buffer = new LoggingRingBuffer(32);
+        assertThat(buffer.offer(frame("AAAAAAAAAA"))).isTrue();
+        RecordingChannel first = new RecordingChannel(Integer.MAX_VALUE);
+        buffer.drain(first);
+        assertThat(first.content()).isEqualTo("AAAAAAAAAA");
+
+        assertThat(buffer.offer(frame("BBBBBBBBBBBBBBBB"))).isTrue();
+        assertThat(buffer.offer(frame("CCCC"))).isTrue();
+        RecordingChannel failing = new RecordingChannel(5);
+        assertThat(buffer.drain(failing)).isEqualTo(5);
+        assertThatThrownBy(() -> buffer.drain(failing)).isInstanceOf(IOException.class);
+        buffer.skipPartialFrame();
+
+        RecordingChannel second = new RecordingChannel(Integer.MAX_VALUE);
+        buffer.drain(second);
+        assertThat(second.content()).isEqualTo("CCCC");
+        assertThat(buffer.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void testResumesAtFrameBoundaryAfterReset() throws Exception {
+        try (ServerSocket server = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            TcpWriter writer = writer(server, WRAPPING_BUFFER, MESSAGE_LAYOUT);
+            int index = 0;
+            try (Socket first = server.accept(); BufferedReader reader = reader(first)) {
+                for (; index < MESSAGES / 10; index++) {
+                    writer.write(message(index));
+                }
+                writer.flush();
+                assertThat(reader.readLine()).matches(SEQUENCE);
+                first.setSoLinger(true, 0);
+            }
+
+            CompletableFuture<Socket> accepting = CompletableFuture.supplyAsync(() -> accept(server));
+            long deadline = System.nanoTime() + MILLISECONDS.toNanos(TIMEOUT);
+            for (; !accepting.isDone() && System.nanoTime() < deadline; index++) {
+                writer.write(message(index));
+                writer.flush();
+                Thread.sleep(1);
+            }
+
+            try (Socket second = accepting.get(TIMEOUT, MILLISECONDS); BufferedReader reader = reader(second)) {
+                await(() -> writer.getBufferedBytes() == 0);
+                writer.write(message(index));
+                writer.flush();
+                String line;
+                while (nonNull(line = reader.readLine())) {
+                    assertThat(line).matches(SEQUENCE);
+                    if (line.equals("message-" + index + "-end")) {
+                        break;
+                    }
+                }
+                assertThat(line).isEqualTo("message-" + index + "-end");
+            }
+        }
+    }
+
+    private TcpWriter writer(ServerSocket server, int bufferSize) {
+        return writer(server, bufferSize, DEFAULT_LOG_LAYOUT);
+    }
+
+    private TcpWriter writer(ServerSocket server, int bufferSize, String layoutPattern) {
+        TcpWriterConfiguration tcp = TcpWriterConfiguration.builder()
+                .host(server.getInetAddress().getHostAddress())
+                .port(server.getLocalPort())
+                .bufferSize(bufferSize)
+                .reconnectInitialDelay(ofMillis(10))
+                .build();
+        return new TcpWriter(manager, LoggerWriterConfiguration.builder().type(TCP).tcp(tcp).layoutPattern(layoutPattern).build());
+    }
+
+    private static ByteBuffer frame(String content) {
+        return ByteBuffer.wrap(content.getBytes(UTF_8));
+    }
+
+    private static Socket accept(ServerSocket server) {
+        try {
+            return server.accept();
+        } catch (IOException ioException) {
+            throw new UncheckedIOException(ioException);
+        }
+    }
+
+    private static LoggingMessage message(int index) {
+        return new LoggingMessage().initialize(TcpWriterTest.class.getName(), INFO, "message-{0}-end", new Object[]{String.valueOf(index)}, null);
+    }
+
+    private static BufferedReader reader(Socket socket) throws IOException {
+        socket.setSoTimeout((int) TIMEOUT);
+        return new BufferedReader(new InputStreamReader(socket.getInputStream(), UTF_8));
+    }
+
+    private static List<Integer> receive(BufferedReader reader, int last) {
+        List<Integer> received = dynamicArray();
+        String line;
+        while (nonNull(line = readLine(reader))) {
+            Matcher matcher = SEQUENCE.matcher(line);
+            assertThat(matcher.find()).as(line).isTrue();
+            int index = Integer.parseInt(matcher.group(1));
+            received.add(index);
+            if (index == last) {
+                break;
+            }
+        }
+        return received;
+    }
+
+    private static String readLine(BufferedReader reader) {
+        try {
+            return reader.readLine();
+        } catch (IOException ioException) {
+            throw new UncheckedIOException(ioException);
+        }
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + MILLISECONDS.toNanos(TIMEOUT);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+
+    private static class RecordingChannel implements GatheringByteChannel {
+        private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        private int limit;
+
+        RecordingChannel(int limit) {
+            this.limit = limit;
+        }
+
+        String content() {
+            return new String(output.toByteArray(), UTF_8);
+        }
+
+        @Override
+        public long write(ByteBuffer[] sources, int offset, int length) throws IOException {
+            if (limit == 0) {
+                throw new IOException("Connection reset");
+            }
+            long written = 0;
+            for (int index = offset; index < offset + length && limit > 0; index++) {
+                ByteBuffer source = sources[index];
+                while (source.hasRemaining() && limit > 0) {
+                    output.write(source.get());
+                    limit--;
+                    written++;
+                }
+            }
+            return written;
+        }
+
+        @Override
+        public long write(ByteBuffer[] sources) throws IOException {
+            return write(sources, 0, sources.length);
+        }
+
+        @Override
+        public int write(ByteBuffer source) throws IOException {
+            return (int) write(new ByteBuffer[]{source});
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * ART
+ *
+ * Copyright 2019-2021 ART
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.art.message.pack.descriptor;
+
+import org.msgpack.core.*;
+import java.io.*;
+
+public interface MessagePackEntityCodec<T> {
+    /**
+     * Must pack exactly one value (for example a map or array header followed by its elements).
+     */
+    void write(MessagePackModelWriter writer, MessagePacker packer, T value) throws IOException;
+
+    /**
+     * Called with the unpacker positioned before the entity value.
+     * Must unpack exactly the one value written by {@link #write} and nothing after it.
+     */
+    T read(MessagePackModelReader reader, MessageUnpacker unpacker) throws IOException;
+}
@@ -19,12 +19,16 @@
 package io.art.message.pack.descriptor;
 
 import io.art.core.collection.*;
+import io.art.core.stream.*;
 import io.art.message.pack.exception.MessagePackException;
 import io.art.meta.descriptor.Reader;
+import io.art.meta.exception.*;
 import io.art.meta.model.*;
+import io.art.meta.schema.*;
 import io.art.meta.schema.MetaCreatorTemplate.*;
 import io.art.meta.transformer.*;
 import org.msgpack.core.*;
+import org.msgpack.core.buffer.*;
 import org.msgpack.value.*;
 import static io.art.core.caster.Caster.*;
 import static io.art.core.checker.NullityChecker.*;
@@ -33,6 +37,7 @@
 import static io.art.core.factory.ArrayFactory.*;
 import static io.art.core.factory.MapFactory.*;
 import static io.art.message.pack.constants.MessagePackConstants.Errors.*;
+import static io.art.meta.constants.MetaConstants.Errors.*;
 import static io.art.meta.constants.MetaConstants.MetaTypeExternalKind.*;
 import static java.text.MessageFormat.*;
 import static java.util.Objects.*;
@@ -46,7 +51,16 @@ public class MessagePackModelReader implements Reader {
     @Override
     public <T> T read(MetaType<T> type, InputStream inputStream) {
         try (MessageUnpacker unpacker = newDefaultUnpacker(inputStream)) {
-            return read(type, unpacker.unpackValue());
+            return read(type, unpacker);
+        } catch (Throwable throwable) {
+            throw new MessagePackException(throwable);
+        }
+    }
+
+    @Override
+    public <T> T read(MetaType<T> type, byte[] bytes, int offset, int length) {
+        try (MessageUnpacker unpacker = newDefaultUnpacker(bytes, offset, length)) {
+            return read(type, unpacker);
         } catch (Throwable throwable) {
             throw new MessagePackException(throwable);
         }
@@ -54,13 +68,66 @@ public <T> T read(MetaType<T> type, InputStream inputStream) {
 
     @Override
     public <T> T read(MetaType<T> type, ByteBuffer nioBuffer) {
-        try (MessageUnpacker unpacker = newDefaultUnpacker(nioBuffer)) {
-            return read(type, unpacker.unpackValue());
+        int position = nioBuffer.position();
+        try (MessageUnpacker unpacker = nioBuffer.hasArray() ? newDefaultUnpacker(nioBuffer) : newDefaultUnpacker(new NioByteBufferInputStream(nioBuffer))) {
+            T value = read(type, unpacker);
+            nioBuffer.position(position + (int) unpacker.getTotalReadBytes());
+            return value;
         } catch (Throwable throwable) {
             throw new MessagePackException(throwable);
         }
     }
 
+    public <T> T read(MetaType<T> type, MessageUnpacker unpacker) throws IOException {
+        if (!unpacker.hasNext()) return null;
+        MessageFormat format = unpacker.getNextFormat();
+        if (format.getValueType() == ValueType.NIL) {
+            unpacker.unpackNil();
+            return null;
+        }
+        MetaTransformer<T> transformer = type.inputTransformer();
+        if (type.externalKind() == LAZY) {
+            Object value = read(type.parameters().get(0), unpacker);
+            return transformer.fromLazy(() -> cast(value));
+        }
+        switch (format.getValueType()) {
+            case EXTENSION:
+                unpacker.skipValue();
+                return null;
+            case BOOLEAN:
+                return transformer.fromBoolean(unpacker.unpackBoolean());
+            case INTEGER:
+                long integerValue = unpacker.unpackLong();
+                if (integerValue >= Byte.MIN_VALUE && integerValue <= Byte.MAX_VALUE) {
+                    return transformer.fromByte((byte) integerValue);
+                }
+                if (integerValue >= Integer.MIN_VALUE && integerValue <= Integer.MAX_VALUE) {
+                    return transformer.fromInteger((int) integerValue);
+                }
+                return transformer.fromLong(integerValue);
+            case FLOAT:
+                return transformer.fromDouble(unpacker.unpackDouble());
+            case STRING:
+                return transformer.fromString(unpacker.unpackString());
+            case BINARY:
+                return transformer.fromByteArray(unpacker.readPayload(unpacker.unpackBinaryHeader()));
+            case ARRAY:
+                if (type.externalKind() != ARRAY && type.externalKind() != LAZY_ARRAY) {
+                    throw new MessagePackException(format(MESSAGE_PACK_ARRAY_EXCEPTION, format, type));
+                }
+                return cast(unpackArray(type, unpacker));
+            case MAP:
+                if (type.externalKind() == MAP || type.externalKind() == LAZY_MAP) {
+                    return cast(unpackMap(type, unpacker));
+                }
+                if (type.externalKind() != ENTITY) {
+                    throw new MessagePackException(format(MESSAGE_PACK_MAP_EXCEPTION, format, type));
+                }
+                return cast(unpackEntity(type, unpacker));
+        }
+        throw new MessagePackException(format(VALUE_TYPE_NOT_SUPPORTED, format.getValueType()));
+    }
+
     public <T> T read(MetaType<T> type, org.msgpack.value.Value value) {
         if (isNull(value) || value.isNilValue()) return null;
         MetaTransformer<T> transformer = type.inputTransformer();
@@ -94,6 +161,22 @@ public <T> T read(MetaType<T> type, org.msgpack.value.Value value) {
                 if (type.externalKind() != ARRAY && type.externalKind() != LAZY_ARRAY) {
                     throw new MessagePackException(format(MESSAGE_PACK_ARRAY_EXCEPTION, value, type));
                 }
+                switch (type.internalKind()) {
+                    case LONG_ARRAY:
+                        return cast(readLongArray(value.asArrayValue()));
+                    case INTEGER_ARRAY:
+                        return cast(readIntegerArray(value.asArrayValue()));
+                    case SHORT_ARRAY:
+                        return cast(readShortArray(value.asArrayValue()));
+                    case DOUBLE_ARRAY:
+                        return cast(readDoubleArray(value.asArrayValue()));
+                    case FLOAT_ARRAY:
+                        return cast(readFloatArray(value.asArrayValue()));
+                    case BOOLEAN_ARRAY:
+                        return cast(readBooleanArray(value.asArrayValue()));
+                    case CHARACTER_ARRAY:
+                        return cast(readCharacterArray(value.asArrayValue()));
+                }
                 return transformer.fromLazyArray(readArray(orElse(type.arrayComponentType(), () -> type.parameters().get(0)), value.asArrayValue()));
             case MAP:
                 if (type.externalKind() == MAP || type.externalKind() == LAZY_MAP) {
@@ -108,6 +191,207 @@ public <T> T read(MetaType<T> type, org.msgpack.value.Value value) {
     }
 
 
+    private Object unpackEntity(MetaType<?> type, MessageUnpacker unpacker) throws IOException {
+        MessagePackEntityCodec<?> codec = type.declaration().codec(MessagePackEntityCodec.class);
+        if (nonNull(codec)) {
+            return codec.read(this, unpacker);
+        }
+        MetaCreatorInstance creator = type.declaration().creator().acquire();
+        MetaPropertyIndex properties = creator.propertyIndex();
+        int size = unpacker.unpackMapHeader();
+        for (int index = 0; index < size; index++) {
+            if (unpacker.getNextFormat().getValueType() != ValueType.STRING) {
+                unpacker.skipValue(2);
+                continue;
+            }
+            int length = unpacker.unpackRawStringHeader();
+            MessageBuffer name = unpacker.readPayloadAsReference(length);
+            MetaProperty<?> property = name.hasArray()
+                    ? properties.find(name.array(), name.arrayOffset(), length)
+                    : properties.find(name.toByteArray(), 0, length);
+            if (isNull(property)) {
+                unpacker.skipValue();
+                continue;
+            }
+            if (unpacker.tryUnpackNil()) continue;
+            creator.put(property, read(property.type(), unpacker));
+        }
+        return creator.create();
+    }
+
+    private Object unpackMap(MetaType<?> type, MessageUnpacker unpacker) throws IOException {
+        MetaType<?> keyType = type.parameters().get(0);
+        MetaType<?> valueType = type.parameters().get(1);
+        MetaMapBuilder<?> map = type.inputTransformer().mapBuilder();
+        int size = unpacker.unpackMapHeader();
+        for (int index = 0; index < size; index++) {
+            if (unpacker.tryUnpackNil()) {
+                unpacker.skipValue();
+                continue;
+            }
+            Object key = read(keyType, unpacker);
+            if (unpacker.tryUnpackNil()) continue;
+            map.put(key, read(valueType, unpacker));
+        }
+        return map.build();
+    }
+
+    private Object unpackArray(MetaType<?> type, MessageUnpacker unpacker) throws IOException {
+        switch (type.internalKind()) {
+            case LONG_ARRAY:
+                return unpackLongArray(unpacker);
+            case INTEGER_ARRAY:
+                return unpackIntegerArray(unpacker);
+            case SHORT_ARRAY:
+                return unpackShortArray(unpacker);
+            case DOUBLE_ARRAY:
+                return unpackDoubleArray(unpacker);
+            case FLOAT_ARRAY:
+                return unpackFloatArray(unpacker);
+            case BOOLEAN_ARRAY:
+                return unpackBooleanArray(unpacker);
+            case CHARACTER_ARRAY:
+                return unpackCharacterArray(unpacker);
+        }
+        MetaType<?> elementsType = orElse(type.arrayComponentType(), () -> type.parameters().get(0));
+        MetaArrayBuilder<?> array = type.inputTransformer().arrayBuilder();
+        int size = unpacker.unpackArrayHeader();
+        for (int index = 0; index < size; index++) {
+            array.add(read(elementsType, unpacker));
+        }
+        return array.build();
+    }
+
+    private static long[] unpackLongArray(MessageUnpacker unpacker) throws IOException {
+        long[] result = new long[unpacker.unpackArrayHeader()];
+        for (int index = 0; index < result.length; index++) {
+            switch (unpacker.getNextFormat().getValueType()) {
+                case INTEGER:
+                    result[index] = unpacker.unpackLong();
+                    break;
+                case FLOAT:
+                    result[index] = (long) unpacker.unpackDouble();
+                    break;
+                case NIL:
+                    throw nullElement(long[].class);
+                default:
+                    unpacker.skipValue();
+            }
+        }
+        return result;
+    }
+
+    private static int[] unpackIntegerArray(MessageUnpacker unpacker) throws IOException {
+        int[] result = new int[unpacker.unpackArrayHeader()];
+        for (int index = 0; index < result.length; index++) {
+            switch (unpacker.getNextFormat().getValueType()) {
+                case INTEGER:
+                    result[index] = (int) unpacker.unpackLong();
+                    break;
+                case FLOAT:
+                    result[index] = (int) unpacker.unpackDouble();
+                    break;
+                case NIL:
+                    throw nullElement(int[].class);
+                default:
+                    unpacker.skipValue();
+            }
+        }
+        return result;
+    }
+
+    private static short[] unpackShortArray(MessageUnpacker unpacker) throws IOException {
+        short[] result = new short[unpacker.unpackArrayHeader()];
+        for (int index = 0; index < result.length; index++) {
+            switch (unpacker.getNextFormat().getValueType()) {
+                case INTEGER:
+                    result[index] = (short) unpacker.unpackLong();
+                    break;
+                case FLOAT:
+                    result[index] = (short) unpacker.unpackDouble();
+                    break;
+                case NIL:
+                    throw nullElement(short[].class);
+                default:
+                    unpacker.skipValue();
+            }
+        }
+        return result;
+    }
+
+    private static double[] unpackDoubleArray(MessageUnpacker unpacker) throws IOException {
+        double[] result = new double[unpacker.unpackArrayHeader()];
+        for (int index = 0; index < result.length; index++) {
+            switch (unpacker.getNextFormat().getValueType()) {
+                case INTEGER:
+                    result[index] = unpacker.unpackLong();
+                    break;
+                case FLOAT:
+                    result[index] = unpacker.unpackDouble();
+                    break;
+                case NIL:
+                    throw nullElement(double[].class);
+                default:
+                    unpacker.skipValue();
+            }
+        }
+        return result;
+    }
+
+    private static float[] unpackFloatArray(MessageUnpacker unpacker) throws IOException {
+        float[] result = new float[unpacker.unpackArrayHeader()];
+        for (int index = 0; index < result.length; index++) {
+            switch (unpacker.getNextFormat().getValueType()) {
+                case INTEGER:
+                    result[index] = unpacker.unpackLong();
+                    break;
+                case FLOAT:
+                    result[index] = unpacker.unpackFloat();
+                    break;
+                case NIL:
+                    throw nullElement(float[].class);
+                default:
+                    unpacker.skipValue();
+            }
+        }
+        return result;
+    }
+
+    private static boolean[] unpackBooleanArray(MessageUnpacker unpacker) throws IOException {
+        boolean[] result = new boolean[unpacker.unpackArrayHeader()];
+        for (int index = 0; index < result.length; index++) {
+            ValueType valueType = unpacker.getNextFormat().getValueType();
+            if (valueType == ValueType.BOOLEAN) {
+                result[index] = unpacker.unpackBoolean();
+                continue;
+            }
+            if (valueType == ValueType.NIL) {
+                throw nullElement(boolean[].class);
+            }
+            unpacker.skipValue();
+        }
+        return result;
+    }
+
+    private static char[] unpackCharacterArray(MessageUnpacker unpacker) throws IOException {
+        char[] result = new char[unpacker.unpackArrayHeader()];
+        for (int index = 0; index < result.length; index++) {
+            ValueType valueType = unpacker.getNextFormat().getValueType();
+            if (valueType == ValueType.STRING) {
+                String text = unpacker.unpackString();
+                if (!text.isEmpty()) {
+                    result[index] = text.charAt(0);
+                }
+                continue;
+            }
+            if (valueType == ValueType.NIL) {
+                throw nullElement(char[].class);
+            }
+            unpacker.skipValue();
+        }
+        return result;
+    }
+
     private ImmutableLazyMapImplementation<?, ?> readMap(MetaType<?> keyType, MetaType<?> valueType, MapValue mapValue) {
         if (isNull(mapValue) || mapValue.isNilValue()) return emptyImmutableLazyMap();
         Map<?, Value> mapping = map(mapValue.size());
@@ -123,14 +407,15 @@ public <T> T read(MetaType<T> type, org.msgpack.value.Value value) {
 
     private <T> T readEntity(MetaType<T> type, MapValue map) {
         if (isNull(map) || map.isNilValue()) return null;
-        MetaCreatorInstance creator = type.declaration().creator().instantiate();
-        ImmutableMap<String, MetaProperty<?>> properties = creator.properties();
+        MetaCreatorInstance creator = type.declaration().creator().acquire();
+        MetaPropertyIndex properties = creator.propertyIndex();
         for (Map.Entry<org.msgpack.value.Value, org.msgpack.value.Value> entry : map.entrySet()) {
             org.msgpack.value.Value key = entry.getKey();
             if (isNull(key) || !key.isStringValue()) continue;
             org.msgpack.value.Value value = entry.getValue();
             if (isNull(value) || value.isNilValue()) continue;
-            MetaProperty<?> property = properties.get(key.asStringValue().toString());
+            MetaProperty<?> property = properties.find(key.asStringValue().toString());
+            if (isNull(property)) continue;
             creator.put(property, read(property.type(), value));
         }
         return cast(creator.create());
@@ -140,4 +425,109 @@ private ImmutableLazyArrayImplementation<?> readArray(MetaType<?> elementsType,
         if (isNull(array) || array.isNilValue()) return emptyImmutableLazyArray();
         return cast(immutableLazyArray(index -> read(elementsType, array.get(index)), array.size()));
     }
+
+    private static long[] readLongArray(ArrayValue array) {
+        long[] result = new long[array.size()];
+        for (int index = 0; index < result.length; index++) {
+            Value element = array.get(index);
+            if (element.isNilValue()) {
+                throw nullElement(long[].class);
+            }
+            if (element.isNumberValue()) {
+                result[index] = element.asNumberValue().toLong();
+            }
+        }
+        return result;
+    }
+
+    private static int[] readIntegerArray(ArrayValue array) {
+        int[] result = new int[array.size()];
+        for (int index = 0; index < result.length; index++) {
+            Value element = array.get(index);
+            if (element.isNilValue()) {
+                throw nullElement(int[].class);
+            }
+            if (element.isNumberValue()) {
+                result[index] = element.asNumberValue().toInt();
+            }
+        }
+        return result;
+    }
+
+    private static short[] readShortArray(ArrayValue array) {
+        short[] result = new short[array.size()];
+        for (int index = 0; index < result.length; index++) {
+            Value element = array.get(index);
+            if (element.isNilValue()) {
+                throw nullElement(short[].class);
+            }
+            if (element.isNumberValue()) {
+                result[index] = element.asNumberValue().toShort();
+            }
+        }
+        return result;
+    }
+
+    private static double[] readDoubleArray(ArrayValue array) {
+        double[] result = new double[array.size()];
+        for (int index = 0; index < result.length; index++) {
+            Value element = array.get(index);
+            if (element.isNilValue()) {
+                throw nullElement(double[].class);
+            }
+            if (element.isNumberValue()) {
+                result[index] = element.asNumberValue().toDouble();
+            }
+        }
+        return result;
+    }
+
+    private static float[] readFloatArray(ArrayValue array) {
+        float[] result = new float[array.size()];
+        for (int index = 0; index < result.length; index++) {
+            Value element = array.get(index);
+            if (element.isNilValue()) {
+                throw nullElement(float[].class);
+            }
+            if (element.isNumberValue()) {
+                result[index] = element.asNumberValue().toFloat();
+            }
+        }
+        return result;
+    }
+
+    private static boolean[] readBooleanArray(ArrayValue array) {
+        boolean[] result = new boolean[array.size()];
+        for (int index = 0; index < result.length; index++) {
+            Value element = array.get(index);
+            if (element.isNilValue()) {
+                throw nullElement(boolean[].class);
+            }
+            if (element.isBooleanValue()) {
+                result[index] = element.asBooleanValue().getBoolean();
+            }
+        }
+        return result;
+    }
+
+    private static char[] readCharacterArray(ArrayValue array) {
+        char[] result = new char[array.size()];
+        for (int index = 0; index < result.length; index++) {
+            Value element = array.get(index);
+            if (element.isNilValue()) {
+                throw nullElement(char[].class);
+            }
+            if (element.isStringValue()) {
+                String text = element.asStringValue().toString();
+                if (!text.isEmpty()) {
+                    result[index] = text.charAt(0);
+                }
+            }
+        }
+        return result;
+    }
+
+    private static TransformationException nullElement(Class<?> arrayType) {
+        return new TransformationException(format(NULL_PRIMITIVE_ARRAY_ELEMENT, arrayType.getSimpleName()));
+    }
 }
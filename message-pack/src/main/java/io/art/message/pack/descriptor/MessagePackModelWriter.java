@@ -23,6 +23,7 @@
 import io.art.message.pack.exception.MessagePackException;
 import io.art.meta.descriptor.Writer;
 import io.art.meta.model.*;
+import io.art.meta.schema.*;
 import io.art.meta.schema.MetaProviderTemplate.*;
 import io.art.meta.transformer.*;
 import io.netty.buffer.*;
@@ -31,7 +32,6 @@
 import static io.art.core.checker.NullityChecker.*;
 import static io.art.core.constants.StringConstants.*;
 import static io.art.core.factory.ArrayFactory.*;
-import static java.nio.channels.Channels.*;
 import static java.util.Objects.*;
 import static org.msgpack.core.MessagePack.*;
 import static org.msgpack.value.ValueFactory.*;
@@ -54,13 +54,93 @@ public void write(TypedObject model, ByteBuf buffer) {
     @Override
     public void write(TypedObject object, OutputStream outputStream, Charset charset) {
         if (isNull(object)) return;
-        try (MessagePacker packer = newDefaultPacker(newChannel(outputStream))) {
-            packer.packValue(write(object.getType(), object.getObject()));
+        try (MessagePacker packer = newDefaultPacker(outputStream)) {
+            write(packer, object.getType(), object.getObject());
         } catch (Throwable throwable) {
             throw new MessagePackException(throwable);
         }
     }
 
+    public void write(MessagePacker packer, MetaType<?> type, Object value) throws IOException {
+        if (isNull(value)) {
+            packer.packNil();
+            return;
+        }
+        MetaTransformer<?> transformer = type.outputTransformer();
+        switch (type.externalKind()) {
+            case MAP:
+            case LAZY_MAP:
+                packMap(packer, type.parameters().get(0), type.parameters().get(1), transformer.toMap(cast(value)));
+                return;
+            case ARRAY:
+            case LAZY_ARRAY:
+                switch (type.internalKind()) {
+                    case LONG_ARRAY:
+                        packLongArray(packer, cast(value));
+                        return;
+                    case INTEGER_ARRAY:
+                        packIntegerArray(packer, cast(value));
+                        return;
+                    case SHORT_ARRAY:
+                        packShortArray(packer, cast(value));
+                        return;
+                    case DOUBLE_ARRAY:
+                        packDoubleArray(packer, cast(value));
+                        return;
+                    case FLOAT_ARRAY:
+                        packFloatArray(packer, cast(value));
+                        return;
+                    case BOOLEAN_ARRAY:
+                        packBooleanArray(packer, cast(value));
+                        return;
+                    case CHARACTER_ARRAY:
+                        packCharacterArray(packer, cast(value));
+                        return;
+                }
+                packArray(packer, orElse(type.arrayComponentType(), () -> type.parameters().get(0)), transformer.toArray(cast(value)));
+                return;
+            case LAZY:
+                write(packer, type.parameters().get(0), transformer.toLazy(cast(value)).get());
+                return;
+            case STRING:
+                packer.packString(transformer.toString(cast(value)));
+                return;
+            case LONG:
+                packer.packLong(transformer.toLong(cast(value)));
+                return;
+            case DOUBLE:
+                packer.packDouble(transformer.toDouble(cast(value)));
+                return;
+            case FLOAT:
+                packer.packFloat(transformer.toFloat(cast(value)));
+                return;
+            case INTEGER:
+                packer.packInt(transformer.toInteger(cast(value)));
+                return;
+            case BOOLEAN:
+                packer.packBoolean(transformer.toBoolean(cast(value)));
+                return;
+            case CHARACTER:
+                packer.packString(String.valueOf(transformer.toCharacter(cast(value))));
+                return;
+            case SHORT:
+                packer.packShort(transformer.toShort(cast(value)));
+                return;
+            case BYTE:
+                packer.packByte(transformer.toByte(cast(value)));
+                return;
+            case BINARY:
+                byte[] bytes = transformer.toByteArray(cast(value));
+                packer.packBinaryHeader(bytes.length);
+                packer.writePayload(bytes);
+                return;
+            case ENTITY:
+                packEntity(packer, type, value);
+                return;
+        }
+        throw new ImpossibleSituationException();
+    }
+
     public org.msgpack.value.Value write(MetaType<?> type, Object value) {
         if (isNull(value)) return null;
         MetaTransformer<?> transformer = type.outputTransformer();
@@ -70,6 +150,22 @@ public org.msgpack.value.Value write(MetaType<?> type, Object value) {
                 return writeMap(type.parameters().get(0), type.parameters().get(1), transformer.toMap(cast(value)));
             case ARRAY:
             case LAZY_ARRAY:
+                switch (type.internalKind()) {
+                    case LONG_ARRAY:
+                        return writeLongArray(cast(value));
+                    case INTEGER_ARRAY:
+                        return writeIntegerArray(cast(value));
+                    case SHORT_ARRAY:
+                        return writeShortArray(cast(value));
+                    case DOUBLE_ARRAY:
+                        return writeDoubleArray(cast(value));
+                    case FLOAT_ARRAY:
+                        return writeFloatArray(cast(value));
+                    case BOOLEAN_ARRAY:
+                        return writeBooleanArray(cast(value));
+                    case CHARACTER_ARRAY:
+                        return writeCharacterArray(cast(value));
+                }
                 return writeArray(orElse(type.arrayComponentType(), () -> type.parameters().get(0)), transformer.toArray(cast(value)));
             case LAZY:
                 return write(type.parameters().get(0), transformer.toLazy(cast(value)).get());
@@ -100,6 +196,145 @@ public org.msgpack.value.Value write(MetaType<?> type, Object value) {
     }
 
 
+    private void packArray(MessagePacker packer, MetaType<?> elementType, List<?> array) throws IOException {
+        packer.packArrayHeader(array.size());
+        for (Object element : array) {
+            write(packer, elementType, element);
+        }
+    }
+
+    private void packLongArray(MessagePacker packer, long[] array) throws IOException {
+        packer.packArrayHeader(array.length);
+        for (long element : array) {
+            packer.packLong(element);
+        }
+    }
+
+    private void packIntegerArray(MessagePacker packer, int[] array) throws IOException {
+        packer.packArrayHeader(array.length);
+        for (int element : array) {
+            packer.packInt(element);
+        }
+    }
+
+    private void packShortArray(MessagePacker packer, short[] array) throws IOException {
+        packer.packArrayHeader(array.length);
+        for (short element : array) {
+            packer.packShort(element);
+        }
+    }
+
+    private void packDoubleArray(MessagePacker packer, double[] array) throws IOException {
+        packer.packArrayHeader(array.length);
+        for (double element : array) {
+            packer.packDouble(element);
+        }
+    }
+
+    private void packFloatArray(MessagePacker packer, float[] array) throws IOException {
+        packer.packArrayHeader(array.length);
+        for (float element : array) {
+            packer.packFloat(element);
+        }
+    }
+
+    private void packBooleanArray(MessagePacker packer, boolean[] array) throws IOException {
+        packer.packArrayHeader(array.length);
+        for (boolean element : array) {
+            packer.packBoolean(element);
+        }
+    }
+
+    private void packCharacterArray(MessagePacker packer, char[] array) throws IOException {
+        packer.packArrayHeader(array.length);
+        for (char element : array) {
+            packer.packString(String.valueOf(element));
+        }
+    }
+
+    private void packEntity(MessagePacker packer, MetaType<?> type, Object value) throws IOException {
+        MessagePackEntityCodec<Object> codec = cast(type.declaration().codec(MessagePackEntityCodec.class));
+        if (nonNull(codec)) {
+            codec.write(this, packer, value);
+            return;
+        }
+        MetaProviderTemplate template = type.declaration().provider();
+        MetaProviderInstance provider = template.acquire(value);
+        ImmutableMap<String, MetaProperty<?>> properties = provider.properties();
+        Object[] values = new Object[properties.size()];
+        int index = 0;
+        int size = 0;
+        for (MetaProperty<?> property : properties.values()) {
+            if (property.type().type().isPrimitive()) {
+                index++;
+                size++;
+                continue;
+            }
+            Object propertyValue = provider.getValue(property);
+            if (nonNull(propertyValue)) size++;
+            values[index++] = propertyValue;
+        }
+        packer.packMapHeader(size);
+        index = 0;
+        for (MetaProperty<?> property : properties.values()) {
+            Object propertyValue = values[index++];
+            if (property.type().type().isPrimitive()) {
+                packer.packString(property.name());
+                packPrimitive(packer, provider, property);
+                continue;
+            }
+            if (isNull(propertyValue)) continue;
+            packer.packString(property.name());
+            write(packer, property.type(), propertyValue);
+        }
+        template.release(provider);
+    }
+
+    private void packPrimitive(MessagePacker packer, MetaProviderInstance provider, MetaProperty<?> property) throws IOException {
+        switch (property.type().internalKind()) {
+            case INTEGER:
+                packer.packInt(provider.getIntegerValue(property));
+                return;
+            case LONG:
+                packer.packLong(provider.getLongValue(property));
+                return;
+            case DOUBLE:
+                packer.packDouble(provider.getDoubleValue(property));
+                return;
+            case FLOAT:
+                packer.packFloat(provider.getFloatValue(property));
+                return;
+            case SHORT:
+                packer.packShort(provider.getShortValue(property));
+                return;
+            case BYTE:
+                packer.packByte(provider.getByteValue(property));
+                return;
+            case BOOLEAN:
+                packer.packBoolean(provider.getBooleanValue(property));
+                return;
+            case CHARACTER:
+                packer.packString(String.valueOf(provider.getCharacterValue(property)));
+                return;
+        }
+        throw new ImpossibleSituationException();
+    }
+
+    private void packMap(MessagePacker packer, MetaType<?> keyType, MetaType<?> valueType, Map<?, ?> value) throws IOException {
+        int size = 0;
+        for (Map.Entry<?, ?> entry : value.entrySet()) {
+            if (nonNull(entry.getKey()) && nonNull(entry.getValue())) size++;
+        }
+        packer.packMapHeader(size);
+        for (Map.Entry<?, ?> entry : value.entrySet()) {
+            Object entryKey = entry.getKey();
+            Object entryValue = entry.getValue();
+            if (isNull(entryKey) || isNull(entryValue)) continue;
+            write(packer, keyType, entryKey);
+            write(packer, valueType, entryValue);
+        }
+    }
+
     private org.msgpack.value.ArrayValue writeArray(MetaType<?> elementType, List<?> array) {
         List<org.msgpack.value.Value> values = dynamicArray(array.size());
         for (Object element : array) {
@@ -112,15 +347,73 @@ private org.msgpack.value.ArrayValue writeArray(MetaType<?> elementType, List<?>
         return newArray(values);
     }
 
+    private org.msgpack.value.ArrayValue writeLongArray(long[] array) {
+        org.msgpack.value.Value[] values = new org.msgpack.value.Value[array.length];
+        for (int index = 0; index < array.length; index++) {
+            values[index] = newInteger(array[index]);
+        }
+        return newArray(values, true);
+    }
+
+    private org.msgpack.value.ArrayValue writeIntegerArray(int[] array) {
+        org.msgpack.value.Value[] values = new org.msgpack.value.Value[array.length];
+        for (int index = 0; index < array.length; index++) {
+            values[index] = newInteger(array[index]);
+        }
+        return newArray(values, true);
+    }
+
+    private org.msgpack.value.ArrayValue writeShortArray(short[] array) {
+        org.msgpack.value.Value[] values = new org.msgpack.value.Value[array.length];
+        for (int index = 0; index < array.length; index++) {
+            values[index] = newInteger(array[index]);
+        }
+        return newArray(values, true);
+    }
+
+    private org.msgpack.value.ArrayValue writeDoubleArray(double[] array) {
+        org.msgpack.value.Value[] values = new org.msgpack.value.Value[array.length];
+        for (int index = 0; index < array.length; index++) {
+            values[index] = newFloat(array[index]);
+        }
+        return newArray(values, true);
+    }
+
+    private org.msgpack.value.ArrayValue writeFloatArray(float[] array) {
+        org.msgpack.value.Value[] values = new org.msgpack.value.Value[array.length];
+        for (int index = 0; index < array.length; index++) {
+            values[index] = newFloat(array[index]);
+        }
+        return newArray(values, true);
+    }
+
+    private org.msgpack.value.ArrayValue writeBooleanArray(boolean[] array) {
+        org.msgpack.value.Value[] values = new org.msgpack.value.Value[array.length];
+        for (int index = 0; index < array.length; index++) {
+            values[index] = newBoolean(array[index]);
+        }
+        return newArray(values, true);
+    }
+
+    private org.msgpack.value.ArrayValue writeCharacterArray(char[] array) {
+        org.msgpack.value.Value[] values = new org.msgpack.value.Value[array.length];
+        for (int index = 0; index < array.length; index++) {
+            values[index] = newString(String.valueOf(array[index]));
+        }
+        return newArray(values, true);
+    }
+
     private org.msgpack.value.MapValue writeEntity(MetaType<?> type, Object value) {
         MapBuilder mapBuilder = newMapBuilder();
-        MetaProviderInstance provider = type.declaration().provider().instantiate(value);
+        MetaProviderTemplate template = type.declaration().provider();
+        MetaProviderInstance provider = template.acquire(value);
         ImmutableMap<String, MetaProperty<?>> properties = provider.properties();
         for (MetaProperty<?> property : properties.values()) {
             Object propertyValue = provider.getValue(property);
             if (isNull(propertyValue)) continue;
             mapBuilder.put(newString(property.name()), write(property.type(), propertyValue));
         }
+        template.release(provider);
         return mapBuilder.build();
     }
 
@@ -4,9 +4,15 @@
 import io.art.core.collection.*;
 import io.art.message.pack.descriptor.*;
 import io.art.message.pack.module.*;
+import io.art.message.pack.test.meta.*;
 import io.art.message.pack.test.model.*;
+import io.art.meta.exception.*;
+import io.art.meta.model.*;
+import io.art.meta.schema.*;
+import io.art.meta.schema.MetaProviderTemplate.*;
 import meta.*;
 import org.junit.jupiter.api.*;
+import org.msgpack.core.*;
 import reactor.core.publisher.*;
 import static io.art.core.context.TestingContext.*;
 import static io.art.message.pack.module.MessagePackModule.*;
@@ -16,6 +22,8 @@
 import static io.art.meta.module.MetaModule.*;
 import static java.util.Objects.*;
 import static org.assertj.core.api.AssertionsForClassTypes.*;
+import java.io.*;
+import java.nio.*;
 import java.time.*;
 import java.time.chrono.*;
 import java.util.*;
@@ -26,7 +34,7 @@ public class MessagePackTest {
     @BeforeAll
     public static void setup() {
         testing(
-                meta(MetaMessagePackTest::new).getFactory(),
+                meta(() -> new MetaMessagePackTest(new MetaCodecLibrary(), new MetaPrimitiveLibrary())).getFactory(),
                 MessagePackModule::new
         );
     }
@@ -41,11 +49,129 @@ public void testMessagePack() {
                 .usingRecursiveComparison()
                 .withEqualsForType((current, other) -> Objects.equals(((Supplier<?>) current).get(), ((Supplier<?>) other).get()), Supplier.class)
                 .withEqualsForType(ChronoZonedDateTime::isEqual, ZonedDateTime.class)
-                .withEqualsForType(Object::equals, ImmutableMap.class)
                 .withEqualsForType((current, other) -> nonNull(other), Flux.class)
                 .withEqualsForType((current, other) -> nonNull(other), Mono.class)
                 .withEqualsForType((current, other) -> nonNull(other), Stream.class)
                 .isEqualTo(model);
     }
 
+    @Test
+    public void testPrimitiveAccessors() {
+        Model model = generateModel();
+        MetaProviderTemplate provider = declaration(Model.class).provider();
+        MetaProviderInstance instance = provider.instantiate(model);
+        ImmutableMap<String, MetaProperty<?>> properties = provider.propertyMap();
+        assertThat(instance.getIntegerValue(properties.get("f1"))).isEqualTo(model.getF1());
+        assertThat(instance.getShortValue(properties.get("f2"))).isEqualTo(model.getF2());
+        assertThat(instance.getDoubleValue(properties.get("f3"))).isEqualTo(model.getF3());
+        assertThat(instance.getFloatValue(properties.get("f4"))).isEqualTo(model.getF4());
+        assertThat(instance.getLongValue(properties.get("f5"))).isEqualTo(model.getF5());
+        assertThat(instance.getBooleanValue(properties.get("f6"))).isEqualTo(model.isF6());
+        assertThat(instance.getCharacterValue(properties.get("f7"))).isEqualTo(model.getF7());
+        assertThat(instance.getByteValue(properties.get("f8"))).isEqualTo(model.getF8());
+    }
+
+    @Test
+    public void testPrimitiveAccessorsWithoutBoxing() {
+        PrimitiveModel model = new PrimitiveModel(1, (short) 2, 3.5, 4.5f, 5L, true, 'c', (byte) 8);
+        MetaProviderTemplate provider = declaration(PrimitiveModel.class).provider();
+        MetaProviderInstance instance = provider.instantiate(model);
+        ImmutableMap<String, MetaProperty<?>> properties = provider.propertyMap();
+        assertThat(instance.getIntegerValue(properties.get("f1"))).isEqualTo(model.getF1());
+        assertThat(instance.getShortValue(properties.get("f2"))).isEqualTo(model.getF2());
+        assertThat(instance.getDoubleValue(properties.get("f3"))).isEqualTo(model.getF3());
+        assertThat(instance.getFloatValue(properties.get("f4"))).isEqualTo(model.getF4());
+        assertThat(instance.getLongValue(properties.get("f5"))).isEqualTo(model.getF5());
+        assertThat(instance.getBooleanValue(properties.get("f6"))).isEqualTo(model.isF6());
+        assertThat(instance.getCharacterValue(properties.get("f7"))).isEqualTo(model.getF7());
+        assertThat(instance.getByteValue(properties.get("f8"))).isEqualTo(model.getF8());
+    }
+
+    @Test
+    public void testEntityCodec() throws IOException {
+        MessagePackModelWriter writer = messagePackModule().configuration().getWriter();
+        MessagePackModelReader reader = messagePackModule().configuration().getReader();
+        MetaType<CodecModel> type = declaration(CodecModel.class).definition();
+        CodecModel first = new CodecModel(1, "first");
+        CodecModel second = new CodecModel(2, null);
+        byte[] bytes = writer.writeToBytes(typed(type, first));
+        try (MessageUnpacker unpacker = MessagePack.newDefaultUnpacker(bytes)) {
+            assertThat(unpacker.unpackValue().toJson()).isEqualTo("{\"i\":1,\"n\":\"first\"}");
+        }
+        assertThat(reader.read(type, bytes)).isEqualTo(first);
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (MessagePacker packer = MessagePack.newDefaultPacker(output)) {
+            writer.write(packer, type, first);
+            writer.write(packer, type, second);
+        }
+        try (MessageUnpacker unpacker = MessagePack.newDefaultUnpacker(output.toByteArray())) {
+            assertThat(reader.read(type, unpacker)).isEqualTo(first);
+            assertThat(reader.read(type, unpacker)).isEqualTo(second);
+            assertThat(unpacker.hasNext()).isFalse();
+        }
+    }
+
+    @Test
+    public void testConsecutiveBufferReads() {
+        MessagePackModelWriter writer = messagePackModule().configuration().getWriter();
+        MessagePackModelReader reader = messagePackModule().configuration().getReader();
+        MetaType<CodecModel> type = declaration(CodecModel.class).definition();
+        CodecModel first = new CodecModel(1, "first");
+        CodecModel second = new CodecModel(2, "second");
+        byte[] firstBytes = writer.writeToBytes(typed(type, first));
+        byte[] secondBytes = writer.writeToBytes(typed(type, second));
+
+        ByteBuffer heap = ByteBuffer.allocate(firstBytes.length + secondBytes.length).put(firstBytes).put(secondBytes);
+        heap.flip();
+        assertThat(reader.read(type, heap)).isEqualTo(first);
+        assertThat(heap.position()).isEqualTo(firstBytes.length);
+        assertThat(reader.read(type, heap)).isEqualTo(second);
+        assertThat(heap.hasRemaining()).isFalse();
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(firstBytes.length + secondBytes.length).put(firstBytes).put(secondBytes);
+        direct.flip();
+        assertThat(reader.read(type, direct)).isEqualTo(first);
+        assertThat(direct.position()).isEqualTo(firstBytes.length);
+        assertThat(reader.read(type, direct)).isEqualTo(second);
+        assertThat(direct.hasRemaining()).isFalse();
+    }
+
+    @Test
+    public void testPrimitiveArrays() throws IOException {
+        MetaClass<Model> model = declaration(Model.class);
+        MetaType<int[]> integers = model.<int[]>field("f17").type();
+        MetaType<long[]> longs = model.<long[]>field("f21").type();
+        MetaType<char[]> characters = model.<char[]>field("f23").type();
+        int[] largeIntegers = new int[100];
+        long[] largeLongs = new long[100];
+        char[] largeCharacters = new char[100];
+        for (int index = 0; index < 100; index++) {
+            largeIntegers[index] = index - 50;
+            largeLongs[index] = Long.MAX_VALUE - index;
+            largeCharacters[index] = (char) ('a' + index % 26);
+        }
+        assertRoundTrip(integers, new int[0]);
+        assertRoundTrip(integers, largeIntegers);
+        assertRoundTrip(longs, new long[0]);
+        assertRoundTrip(longs, largeLongs);
+        assertRoundTrip(characters, new char[0]);
+        assertRoundTrip(characters, largeCharacters);
+
+        MessagePackModelReader reader = messagePackModule().configuration().getReader();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (MessagePacker packer = MessagePack.newDefaultPacker(output)) {
+            packer.packArrayHeader(2).packInt(1).packNil();
+        }
+        byte[] withNull = output.toByteArray();
+        assertThatThrownBy(() -> reader.read(integers, withNull)).hasCauseInstanceOf(TransformationException.class);
+        assertThatThrownBy(() -> reader.read(longs, withNull)).hasCauseInstanceOf(TransformationException.class);
+        assertThatThrownBy(() -> reader.read(characters, withNull)).hasCauseInstanceOf(TransformationException.class);
+    }
+
+    private static <T> void assertRoundTrip(MetaType<T> type, T value) {
+        MessagePackModelWriter writer = messagePackModule().configuration().getWriter();
+        MessagePackModelReader reader = messagePackModule().configuration().getReader();
+        assertThat(reader.read(type, writer.writeToBytes(typed(type, value)))).isEqualTo(value);
+    }
 }
@@ -0,0 +1,124 @@
+package io.art.message.pack.test.meta;
+
+import io.art.message.pack.descriptor.*;
+import io.art.message.pack.test.model.*;
+import io.art.meta.model.*;
+import org.msgpack.core.*;
+import static io.art.meta.model.MetaType.*;
+import static java.util.Objects.*;
+import java.io.*;
+
+public class MetaCodecLibrary extends MetaLibrary {
+    private final MetaCodecModelClass codecModelClass = register(new MetaCodecModelClass());
+
+    public MetaCodecLibrary(MetaLibrary... dependencies) {
+        super(dependencies);
+    }
+
+    public MetaCodecModelClass codecModelClass() {
+        return codecModelClass;
+    }
+
+    public static final class MetaCodecModelClass extends MetaClass<CodecModel> {
+        private final MetaConstructorConstructor constructor = register(new MetaConstructorConstructor());
+        private final MetaField<Integer> idField = register(new MetaField<>("id", metaType(int.class), false));
+        private final MetaField<String> nameField = register(new MetaField<>("name", metaType(String.class), false));
+        private final MetaGetIdMethod getIdMethod = register(new MetaGetIdMethod());
+        private final MetaGetNameMethod getNameMethod = register(new MetaGetNameMethod());
+        private final CodecModelCodec codec = registerCodec(new CodecModelCodec());
+
+        private MetaCodecModelClass() {
+            super(metaType(CodecModel.class));
+        }
+
+        public CodecModelCodec codec() {
+            return codec;
+        }
+
+        public static final class MetaConstructorConstructor extends MetaConstructor<CodecModel> {
+            private final MetaParameter<Integer> idParameter = register(new MetaParameter<>(0, "id", metaType(int.class)));
+            private final MetaParameter<String> nameParameter = register(new MetaParameter<>(1, "name", metaType(String.class)));
+
+            private MetaConstructorConstructor() {
+                super(metaType(CodecModel.class));
+            }
+
+            @Override
+            public CodecModel invoke(Object[] arguments) {
+                return new CodecModel((int) arguments[0], (String) arguments[1]);
+            }
+        }
+
+        public static final class MetaGetIdMethod extends InstanceMetaMethod<CodecModel, Integer> {
+            private MetaGetIdMethod() {
+                super("getId", metaType(int.class));
+            }
+
+            @Override
+            public Object invoke(CodecModel instance, Object[] arguments) {
+                return instance.getId();
+            }
+
+            @Override
+            public Object invoke(CodecModel instance) {
+                return instance.getId();
+            }
+
+            @Override
+            public int invokeInteger(CodecModel instance) {
+                return instance.getId();
+            }
+        }
+
+        public static final class MetaGetNameMethod extends InstanceMetaMethod<CodecModel, String> {
+            private MetaGetNameMethod() {
+                super("getName", metaType(String.class));
+            }
+
+            @Override
+            public Object invoke(CodecModel instance, Object[] arguments) {
+                return instance.getName();
+            }
+
+            @Override
+            public Object invoke(CodecModel instance) {
+                return instance.getName();
+            }
+        }
+    }
+
+    public static final class CodecModelCodec implements MessagePackEntityCodec<CodecModel> {
+        @Override
+        public void write(MessagePackModelWriter writer, MessagePacker packer, CodecModel value) throws IOException {
+            packer.packMapHeader(2);
+            packer.packString("i");
+            packer.packInt(value.getId());
+            packer.packString("n");
+            if (isNull(value.getName())) {
+                packer.packNil();
+                return;
+            }
+            packer.packString(value.getName());
+        }
+
+        @Override
+        public CodecModel read(MessagePackModelReader reader, MessageUnpacker unpacker) throws IOException {
+            int size = unpacker.unpackMapHeader();
+            int id = 0;
+            String name = null;
+            for (int index = 0; index < size; index++) {
+                String field = unpacker.unpackString();
+                if ("i".equals(field)) {
+                    id = unpacker.unpackInt();
+                    continue;
+                }
+                if ("n".equals(field)) {
+                    name = unpacker.tryUnpackNil() ? null : unpacker.unpackString();
+                    continue;
+                }
+                unpacker.skipValue();
+            }
+            return new CodecModel(id, name);
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package io.art.message.pack.test.meta;
+
+import io.art.message.pack.test.model.*;
+import io.art.meta.model.*;
+import static io.art.meta.model.MetaType.*;
+
+public class MetaPrimitiveLibrary extends MetaLibrary {
+    private final MetaPrimitiveModelClass primitiveModelClass = register(new MetaPrimitiveModelClass());
+
+    public MetaPrimitiveLibrary(MetaLibrary... dependencies) {
+        super(dependencies);
+    }
+
+    public MetaPrimitiveModelClass primitiveModelClass() {
+        return primitiveModelClass;
+    }
+
+    public static final class MetaPrimitiveModelClass extends MetaClass<PrimitiveModel> {
+        private final MetaField<Integer> f1Field = register(new MetaField<>("f1", metaType(int.class), false));
+        private final MetaField<Short> f2Field = register(new MetaField<>("f2", metaType(short.class), false));
+        private final MetaField<Double> f3Field = register(new MetaField<>("f3", metaType(double.class), false));
+        private final MetaField<Float> f4Field = register(new MetaField<>("f4", metaType(float.class), false));
+        private final MetaField<Long> f5Field = register(new MetaField<>("f5", metaType(long.class), false));
+        private final MetaField<Boolean> f6Field = register(new MetaField<>("f6", metaType(boolean.class), false));
+        private final MetaField<Character> f7Field = register(new MetaField<>("f7", metaType(char.class), false));
+        private final MetaField<Byte> f8Field = register(new MetaField<>("f8", metaType(byte.class), false));
+        private final MetaGetF1Method getF1Method = register(new MetaGetF1Method());
+        private final MetaGetF2Method getF2Method = register(new MetaGetF2Method());
+        private final MetaGetF3Method getF3Method = register(new MetaGetF3Method());
+        private final MetaGetF4Method getF4Method = register(new MetaGetF4Method());
+        private final MetaGetF5Method getF5Method = register(new MetaGetF5Method());
+        private final MetaIsF6Method isF6Method = register(new MetaIsF6Method());
+        private final MetaGetF7Method getF7Method = register(new MetaGetF7Method());
+        private final MetaGetF8Method getF8Method = register(new MetaGetF8Method());
+
+        private MetaPrimitiveModelClass() {
+            super(metaType(PrimitiveModel.class));
+        }
+
+        public static final class MetaGetF1Method extends InstanceMetaMethod<PrimitiveModel, Integer> {
+            private MetaGetF1Method() {
+                super("getF1", metaType(int.class));
+            }
+
+            @Override
+            public Object invoke(PrimitiveModel instance, Object[] arguments) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public Object invoke(PrimitiveModel instance) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public int invokeInteger(PrimitiveModel instance) {
+                return instance.getF1();
+            }
+        }
+
+        public static final class MetaGetF2Method extends InstanceMetaMethod<PrimitiveModel, Short> {
+            private MetaGetF2Method() {
+                super("getF2", metaType(short.class));
+            }
+
+            @Override
+            public Object invoke(PrimitiveModel instance, Object[] arguments) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public Object invoke(PrimitiveModel instance) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public short invokeShort(PrimitiveModel instance) {
+                return instance.getF2();
+            }
+        }
+
+        public static final class MetaGetF3Method extends InstanceMetaMethod<PrimitiveModel, Double> {
+            private MetaGetF3Method() {
+                super("getF3", metaType(double.class));
+            }
+
+            @Override
+            public Object invoke(PrimitiveModel instance, Object[] arguments) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public Object invoke(PrimitiveModel instance) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public double invokeDouble(PrimitiveModel instance) {
+                return instance.getF3();
+            }
+        }
+
+        public static final class MetaGetF4Method extends InstanceMetaMethod<PrimitiveModel, Float> {
+            private MetaGetF4Method() {
+                super("getF4", metaType(float.class));
+            }
+
+            @Override
+            public Object invoke(PrimitiveModel instance, Object[] arguments) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public Object invoke(PrimitiveModel instance) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public float invokeFloat(PrimitiveModel instance) {
+                return instance.getF4();
+            }
+        }
+
+        public static final class MetaGetF5Method extends InstanceMetaMethod<PrimitiveModel, Long> {
+            private MetaGetF5Method() {
+                super("getF5", metaType(long.class));
+            }
+
+            @Override
+            public Object invoke(PrimitiveModel instance, Object[] arguments) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public Object invoke(PrimitiveModel instance) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public long invokeLong(PrimitiveModel instance) {
+                return instance.getF5();
+            }
+        }
+
+        public static final class MetaIsF6Method extends InstanceMetaMethod<PrimitiveModel, Boolean> {
+            private MetaIsF6Method() {
+                super("isF6", metaType(boolean.class));
+            }
+
+            @Override
+            public Object invoke(PrimitiveModel instance, Object[] arguments) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public Object invoke(PrimitiveModel instance) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public boolean invokeBoolean(PrimitiveModel instance) {
+                return instance.isF6();
+            }
+        }
+
+        public static final class MetaGetF7Method extends InstanceMetaMethod<PrimitiveModel, Character> {
+            private MetaGetF7Method() {
+                super("getF7", metaType(char.class));
+            }
+
+            @Override
+            public Object invoke(PrimitiveModel instance, Object[] arguments) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public Object invoke(PrimitiveModel instance) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public char invokeCharacter(PrimitiveModel instance) {
+                return instance.getF7();
+            }
+        }
+
+        public static final class MetaGetF8Method extends InstanceMetaMethod<PrimitiveModel, Byte> {
+            private MetaGetF8Method() {
+                super("getF8", metaType(byte.class));
+            }
+
+            @Override
+            public Object invoke(PrimitiveModel instance, Object[] arguments) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public Object invoke(PrimitiveModel instance) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public byte invokeByte(PrimitiveModel instance) {
+                return instance.getF8();
+            }
+        }
+    }
+}
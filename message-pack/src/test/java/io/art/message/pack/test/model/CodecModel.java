@@ -0,0 +1,12 @@
+package io.art.message.pack.test.model;
+
+import lombok.*;
+
+@Getter
+@EqualsAndHashCode
+@AllArgsConstructor
+@ToString
+public class CodecModel {
+    int id;
+    String name;
+}
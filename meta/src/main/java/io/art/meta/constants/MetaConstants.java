@@ -3,6 +3,7 @@
 public interface MetaConstants {
     String IS_NAME = "is";
     String GET_NAME = "get";
+    int DEFAULT_PRIMITIVE_ARRAY_CAPACITY = 16;
 
     enum MetaTypeInternalKind {
         VOID,
@@ -81,6 +82,7 @@ enum MetaTypeExternalKind {
 
     interface Errors {
         String TRANSFORMATION_NOT_AVAILABLE = "Transformation is not available for value: {0} by transformer: {1}";
+        String NULL_PRIMITIVE_ARRAY_ELEMENT = "Primitive array {0} can not contain null elements";
         String ARRAY_WITH_UNKNOWN_TYPE = "{0} is array with unknown component type";
         String COLLECTION_WITHOUT_PARAMETERS = "{0} is collection without parameters";
         String COLLECTION_WITH_UNKNOWN_TYPE = "{0} is collection with unknown component type";
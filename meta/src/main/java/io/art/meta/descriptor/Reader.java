@@ -28,7 +28,11 @@
 
 public interface Reader {
     default <T> T read(MetaType<T> type, byte[] bytes) {
-        return read(type, new ByteArrayInputStream(bytes));
+        return read(type, bytes, 0, bytes.length);
+    }
+
+    default <T> T read(MetaType<T> type, byte[] bytes, int offset, int length) {
+        return read(type, new ByteArrayInputStream(bytes, offset, length));
     }
 
     default <T> T read(MetaType<T> type, ByteBuffer nioBuffer) {
@@ -36,6 +40,17 @@ default <T> T read(MetaType<T> type, ByteBuffer nioBuffer) {
     }
 
     default <T> T read(MetaType<T> type, ByteBuf nettyBuffer) {
+        int length = nettyBuffer.readableBytes();
+        if (nettyBuffer.hasArray()) {
+            T result = read(type, nettyBuffer.array(), nettyBuffer.arrayOffset() + nettyBuffer.readerIndex(), length);
+            nettyBuffer.skipBytes(length);
+            return result;
+        }
+        if (nettyBuffer.nioBufferCount() == 1) {
+            T result = read(type, nettyBuffer.nioBuffer());
+            nettyBuffer.skipBytes(length);
+            return result;
+        }
         return read(type, new ByteBufInputStream(nettyBuffer));
     }
 
@@ -21,10 +21,10 @@
 import io.art.core.stream.*;
 import io.art.meta.model.*;
 import io.netty.buffer.*;
-import static io.art.core.constants.BufferConstants.*;
 import static io.art.core.context.Context.*;
+import static io.art.core.extensions.NettyBufferExtensions.*;
 import static io.art.core.extensions.NioBufferExtensions.*;
-import static java.nio.ByteBuffer.*;
+import static io.netty.buffer.ByteBufAllocator.*;
 import java.io.*;
 import java.nio.*;
 import java.nio.charset.*;
@@ -48,11 +48,12 @@ default void write(TypedObject model, ByteBuf buffer, Function<IOException, ? ex
     }
 
     default byte[] writeToBytes(TypedObject model) {
-        ByteBuffer buffer = allocate(DEFAULT_BUFFER_SIZE);
+        ByteBuf buffer = DEFAULT.buffer();
         try {
-            return writeToBytes(model, buffer);
+            write(model, buffer);
+            return toByteArray(buffer);
         } finally {
-            buffer.clear();
+            buffer.release();
         }
     }
 
@@ -70,7 +71,13 @@ default String writeToString(TypedObject model, ByteBuffer buffer) {
     }
 
     default String writeToString(TypedObject model, Charset charset) {
-        return new String(writeToBytes(model), charset);
+        ByteBuf buffer = DEFAULT.buffer();
+        try {
+            write(model, buffer);
+            return buffer.toString(charset);
+        } finally {
+            buffer.release();
+        }
     }
 
     default String writeToString(TypedObject model, ByteBuffer buffer, Charset charset) {
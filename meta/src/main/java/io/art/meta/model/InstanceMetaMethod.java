@@ -22,6 +22,7 @@
 import io.art.core.exception.*;
 import io.art.meta.exception.*;
 import lombok.*;
+import static io.art.core.caster.Caster.*;
 import static io.art.meta.constants.MetaConstants.Errors.*;
 import static java.text.MessageFormat.*;
 
@@ -66,6 +67,38 @@ public Object invokeCatched(I instance, Object[] arguments) {
         }
     }
 
+    public int invokeInteger(I instance) {
+        return cast(invokeCatched(instance));
+    }
+
+    public long invokeLong(I instance) {
+        return cast(invokeCatched(instance));
+    }
+
+    public double invokeDouble(I instance) {
+        return cast(invokeCatched(instance));
+    }
+
+    public float invokeFloat(I instance) {
+        return cast(invokeCatched(instance));
+    }
+
+    public short invokeShort(I instance) {
+        return cast(invokeCatched(instance));
+    }
+
+    public byte invokeByte(I instance) {
+        return cast(invokeCatched(instance));
+    }
+
+    public boolean invokeBoolean(I instance) {
+        return cast(invokeCatched(instance));
+    }
+
+    public char invokeCharacter(I instance) {
+        return cast(invokeCatched(instance));
+    }
+
     @Override
     public boolean isStatic() {
         return false;
@@ -50,6 +50,7 @@
     private final Map<Class<?>, MetaClass<?>> classes;
     private MetaProviderTemplate provider;
     private MetaCreatorTemplate creator;
+    private Object codec;
 
     protected MetaClass(MetaType<T> definition) {
         this.definition = definition;
@@ -77,6 +78,11 @@ protected <C extends MetaClass<?>> C register(C metaClass) {
         return metaClass;
     }
 
+    protected <C> C registerCodec(C codec) {
+        this.codec = codec;
+        return codec;
+    }
+
     protected void beginComputation() {
         definition.beginComputation();
 
@@ -138,14 +144,16 @@ protected void beginComputation() {
         Map<String, MetaProperty<?>> gettablePropertyMap = gettableProperties
                 .stream()
                 .collect(mapCollector(MetaProperty::name, identity()));
-        provider = new MetaProviderTemplate(gettablePropertyMap, gettableProperties.toArray(new MetaProperty[0]));
+        provider = new MetaProviderTemplate(immutableMapOf(gettablePropertyMap), gettableProperties.toArray(new MetaProperty[0]));
 
         Map<String, MetaProperty<?>> constructablePropertyMap = constructableProperties
                 .stream()
                 .collect(mapCollector(MetaProperty::name, identity()));
+        MetaProperty<?>[] constructablePropertyArray = constructableProperties.toArray(new MetaProperty[0]);
         creator = MetaCreatorTemplate.builder()
-                .propertyMap(constructablePropertyMap)
-                .propertyArray(constructableProperties.toArray(new MetaProperty[0]))
+                .propertyMap(immutableMapOf(constructablePropertyMap))
+                .propertyArray(constructablePropertyArray)
+                .propertyIndex(new MetaPropertyIndex(constructablePropertyArray))
                 .noPropertiesConstructor(noPropertiesConstructor)
                 .localPropertiesConstructor(localPropertiesConstructor)
                 .allPropertiesConstructor(allPropertiesConstructor)
@@ -240,6 +248,10 @@ public MetaCreatorTemplate creator() {
         return creator;
     }
 
+    public <C> C codec(Class<C> codecType) {
+        return codecType.isInstance(codec) ? cast(codec) : null;
+    }
+
     public MetaType<T> definition() {
         return definition;
     }
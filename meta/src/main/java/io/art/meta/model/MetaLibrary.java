@@ -70,6 +70,7 @@ public <T extends MetaPackage> T packageOf(String name) {
 
     public void compute() {
         if (computed.compareAndSet(false, true)) {
+            dependencies.forEach(MetaLibrary::compute);
             rootClasses.forEach(MetaClass::beginComputation);
             packages.values().forEach(MetaPackage::beginComputation);
 
@@ -35,6 +35,7 @@
 import static io.art.meta.module.MetaModule.*;
 import static io.art.meta.state.MetaComputationState.*;
 import static io.art.meta.validator.MetaTypeValidator.*;
+import static java.lang.System.*;
 import static java.util.Objects.*;
 import java.util.*;
 import java.util.function.*;
@@ -42,7 +43,6 @@
 @Getter
 @ToString
 @ForGenerator
-@EqualsAndHashCode
 @Accessors(fluent = true)
 @Builder(toBuilder = true)
 public class MetaType<T> {
@@ -52,33 +52,27 @@
     private MetaTypeInternalKind internalKind;
     private MetaTypeExternalKind externalKind;
 
-    private final static Map<CacheKey, MetaType<?>> CACHE = weakMap();
+    private final static MetaType<?>[] EMPTY_PARAMETERS = new MetaType<?>[0];
+    private final static Map<CacheKey, MetaType<?>> CACHE = concurrentMap();
 
     @ToString.Exclude
-    @EqualsAndHashCode.Exclude
     private final Function<Integer, T> arrayFactory;
 
     @ToString.Exclude
-    @EqualsAndHashCode.Exclude
     private final Function<String, T> enumFactory;
 
     @ToString.Exclude
-    @EqualsAndHashCode.Exclude
     private MetaTransformer<T> inputTransformer;
 
     @ToString.Exclude
-    @EqualsAndHashCode.Exclude
     private MetaTransformer<T> outputTransformer;
 
     @ToString.Exclude
     @Getter(lazy = true)
     @Accessors(fluent = true)
-    @EqualsAndHashCode.Exclude
     private final MetaClass<?> declaration = classes().get(type);
 
     protected MetaType<T> beginComputation() {
-        CACHE.clear();
-
         if (nonNull(arrayComponentType)) {
             rememberValidation(arrayComponentType, validate(arrayComponentType.beginComputation()));
         }
@@ -111,14 +105,20 @@ protected void completeComputation() {
     }
 
     public static <T> MetaType<T> metaType(Class<?> type, MetaType<?>... parameters) {
-        return cast(putIfAbsent(CACHE, CacheKey.of(type, parameters), () -> MetaType.<T>builder()
+        CacheKey key = new CacheKey(CacheKind.PLAIN, type, parameters, null);
+        MetaType<?> cached = CACHE.get(key);
+        if (nonNull(cached)) return cast(cached);
+        return cast(CACHE.computeIfAbsent(key, ignored -> MetaType.<T>builder()
                 .type(cast(type))
                 .parameters(immutableArrayOf(parameters))
                 .build()));
     }
 
     public static <T> MetaType<T> metaEnum(Class<?> type, Function<String, T> enumFactory) {
-        return cast(putIfAbsent(CACHE, CacheKey.of(type), () -> MetaType.<T>builder()
+        CacheKey key = new CacheKey(CacheKind.ENUM, type, EMPTY_PARAMETERS, null);
+        MetaType<?> cached = CACHE.get(key);
+        if (nonNull(cached)) return cast(cached);
+        return cast(CACHE.computeIfAbsent(key, ignored -> MetaType.<T>builder()
                 .type(cast(type))
                 .parameters(emptyImmutableArray())
                 .enumFactory(enumFactory)
@@ -126,7 +126,10 @@ public static <T> MetaType<T> metaEnum(Class<?> type, Function<String, T> enumFa
     }
 
     public static <T> MetaType<T> metaArray(Class<?> type, Function<Integer, ?> arrayFactory, MetaType<?> arrayComponentType) {
-        return cast(putIfAbsent(CACHE, CacheKey.of(type, arrayComponentType), () -> MetaType.<T>builder()
+        CacheKey key = new CacheKey(CacheKind.ARRAY, type, EMPTY_PARAMETERS, arrayComponentType);
+        MetaType<?> cached = CACHE.get(key);
+        if (nonNull(cached)) return cast(cached);
+        return cast(CACHE.computeIfAbsent(key, ignored -> MetaType.<T>builder()
                 .type(cast(type))
                 .parameters(emptyImmutableArray())
                 .arrayFactory(cast(arrayFactory))
@@ -134,34 +137,47 @@ public static <T> MetaType<T> metaArray(Class<?> type, Function<Integer, ?> arra
                 .build()));
     }
 
-    @EqualsAndHashCode
-    @RequiredArgsConstructor
+    private enum CacheKind {
+        PLAIN,
+        ENUM,
+        ARRAY
+    }
+
     private static class CacheKey {
+        private final CacheKind kind;
         private final Class<?> typeClass;
-        private MetaType<?>[] parameters;
-        private MetaType<?> arrayComponentType;
-
-        public static CacheKey of(Class<?> typeClass) {
-            return new CacheKey(typeClass);
-        }
-
-        public static CacheKey of(Class<?> typeClass, MetaType<?>[] parameters) {
-            CacheKey cacheKey = new CacheKey(typeClass);
-            cacheKey.parameters = parameters;
-            return cacheKey;
+        private final MetaType<?>[] parameters;
+        private final MetaType<?> arrayComponentType;
+        private final int hashCode;
+
+        private CacheKey(CacheKind kind, Class<?> typeClass, MetaType<?>[] parameters, MetaType<?> arrayComponentType) {
+            this.kind = kind;
+            this.typeClass = typeClass;
+            this.parameters = parameters;
+            this.arrayComponentType = arrayComponentType;
+            int hashCode = (kind.hashCode() * 31 + typeClass.hashCode()) * 31 + identityHashCode(arrayComponentType);
+            for (MetaType<?> parameter : parameters) {
+                hashCode = hashCode * 31 + identityHashCode(parameter);
+            }
+            this.hashCode = hashCode;
         }
 
-        public static CacheKey of(Class<?> typeClass, MetaType<?>[] parameters, MetaType<?> arrayComponentType) {
-            CacheKey cacheKey = new CacheKey(typeClass);
-            cacheKey.parameters = parameters;
-            cacheKey.arrayComponentType = arrayComponentType;
-            return cacheKey;
+        @Override
+        public boolean equals(Object object) {
+            if (this == object) return true;
+            if (!(object instanceof CacheKey)) return false;
+            CacheKey other = (CacheKey) object;
+            if (kind != other.kind || typeClass != other.typeClass || arrayComponentType != other.arrayComponentType) return false;
+            if (parameters.length != other.parameters.length) return false;
+            for (int index = 0; index < parameters.length; index++) {
+                if (parameters[index] != other.parameters[index]) return false;
+            }
+            return true;
         }
 
-        public static CacheKey of(Class<?> typeClass, MetaType<?> arrayComponentType) {
-            CacheKey cacheKey = new CacheKey(typeClass);
-            cacheKey.arrayComponentType = arrayComponentType;
-            return cacheKey;
+        @Override
+        public int hashCode() {
+            return hashCode;
         }
     }
 }
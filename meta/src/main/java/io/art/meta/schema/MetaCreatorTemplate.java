@@ -19,9 +19,11 @@
 package io.art.meta.schema;
 
 import io.art.core.collection.*;
+import io.art.core.local.*;
 import io.art.meta.model.*;
 import lombok.*;
-import static io.art.core.factory.MapFactory.*;
+import static io.art.core.local.ThreadLocalValue.*;
+import static java.util.Arrays.*;
 import static java.util.Objects.*;
 import static lombok.AccessLevel.*;
 import java.util.*;
@@ -29,11 +31,13 @@
 
 @Builder
 public class MetaCreatorTemplate {
-    private final Map<String, MetaProperty<?>> propertyMap;
+    private final ImmutableMap<String, MetaProperty<?>> propertyMap;
     private final MetaProperty<?>[] propertyArray;
+    private final MetaPropertyIndex propertyIndex;
     private final MetaConstructor<?> allPropertiesConstructor;
     private final MetaConstructor<?> localPropertiesConstructor;
     private final MetaConstructor<?> noPropertiesConstructor;
+    private final ThreadLocalValue<Deque<MetaCreatorInstance>> pool = threadLocal(ArrayDeque::new);
 
     public MetaConstructor<?> allPropertiesConstructor() {
         return allPropertiesConstructor;
@@ -52,20 +56,35 @@ public boolean isValid() {
     }
 
     public ImmutableMap<String, MetaProperty<?>> properties() {
-        return immutableMapOf(propertyMap);
+        return propertyMap;
+    }
+
+    public MetaPropertyIndex propertyIndex() {
+        return propertyIndex;
     }
 
     public MetaCreatorInstance instantiate() {
-        return new MetaCreatorInstance();
+        return new MetaCreatorInstance(false);
     }
 
-    @NoArgsConstructor(access = PRIVATE)
+    public MetaCreatorInstance acquire() {
+        MetaCreatorInstance instance = pool.get().pollFirst();
+        if (isNull(instance)) return new MetaCreatorInstance(true);
+        return instance;
+    }
+
+    @RequiredArgsConstructor(access = PRIVATE)
     public class MetaCreatorInstance {
+        private final boolean pooled;
         private int filledFields;
         private final Object[] values = new Object[propertyArray.length];
 
         public ImmutableMap<String, MetaProperty<?>> properties() {
-            return MetaCreatorTemplate.this.properties();
+            return propertyMap;
+        }
+
+        public MetaPropertyIndex propertyIndex() {
+            return propertyIndex;
         }
 
         public MetaCreatorInstance put(MetaProperty<?> property, String value) {
@@ -165,6 +184,16 @@ public MetaCreatorInstance put(MetaProperty<?> property, Object value) {
         }
 
         public Object create() {
+            Object result = construct();
+            if (pooled) {
+                fill(values, null);
+                filledFields = 0;
+                pool.get().addFirst(this);
+            }
+            return result;
+        }
+
+        private Object construct() {
             if (filledFields == 0) {
                 return noPropertiesConstructor.invokeCatched();
             }
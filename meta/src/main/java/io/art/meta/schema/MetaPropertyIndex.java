@@ -0,0 +1,99 @@
+/*
+ * ART
+ *
+ * Copyright 2019-2021 ART
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.art.meta.schema;
+
+import io.art.meta.model.*;
+import static java.nio.charset.StandardCharsets.*;
+import static java.util.Objects.*;
+
+public class MetaPropertyIndex {
+    private final MetaProperty<?>[] properties;
+    private final String[] names;
+    private final MetaProperty<?>[] byteProperties;
+    private final byte[][] byteNames;
+    private final int mask;
+
+    public MetaPropertyIndex(MetaProperty<?>[] source) {
+        int capacity = 2;
+        while (capacity < source.length * 2) {
+            capacity <<= 1;
+        }
+        mask = capacity - 1;
+        properties = new MetaProperty<?>[capacity];
+        names = new String[capacity];
+        byteProperties = new MetaProperty<?>[capacity];
+        byteNames = new byte[capacity][];
+        for (MetaProperty<?> property : source) {
+            String name = property.name();
+            int slot = spread(name.hashCode()) & mask;
+            while (nonNull(properties[slot])) {
+                slot = (slot + 1) & mask;
+            }
+            properties[slot] = property;
+            names[slot] = name;
+
+            byte[] bytes = name.getBytes(UTF_8);
+            slot = spread(hash(bytes, 0, bytes.length)) & mask;
+            while (nonNull(byteProperties[slot])) {
+                slot = (slot + 1) & mask;
+            }
+            byteProperties[slot] = property;
+            byteNames[slot] = bytes;
+        }
+    }
+
+    public MetaProperty<?> find(String name) {
+        if (isNull(name)) return null;
+        for (int slot = spread(name.hashCode()) & mask; nonNull(properties[slot]); slot = (slot + 1) & mask) {
+            if (names[slot].equals(name)) {
+                return properties[slot];
+            }
+        }
+        return null;
+    }
+
+    public MetaProperty<?> find(byte[] buffer, int offset, int length) {
+        for (int slot = spread(hash(buffer, offset, length)) & mask; nonNull(byteProperties[slot]); slot = (slot + 1) & mask) {
+            if (matches(byteNames[slot], buffer, offset, length)) {
+                return byteProperties[slot];
+            }
+        }
+        return null;
+    }
+
+    private static boolean matches(byte[] name, byte[] buffer, int offset, int length) {
+        if (name.length != length) return false;
+        for (int index = 0; index < length; index++) {
+            if (name[index] != buffer[offset + index]) return false;
+        }
+        return true;
+    }
+
+    private static int hash(byte[] buffer, int offset, int length) {
+        int hash = 0;
+        for (int index = offset; index < offset + length; index++) {
+            hash = 31 * hash + buffer[index];
+        }
+        return hash;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -19,27 +19,42 @@
 package io.art.meta.schema;
 
 import io.art.core.collection.*;
+import io.art.core.local.*;
 import io.art.meta.model.*;
 import lombok.*;
 import static io.art.core.caster.Caster.*;
 import static io.art.core.checker.NullityChecker.*;
 import static io.art.core.factory.ArrayFactory.*;
-import static io.art.core.factory.MapFactory.*;
+import static io.art.core.local.ThreadLocalValue.*;
+import static java.util.Objects.*;
 import static lombok.AccessLevel.*;
 import java.util.*;
 import java.util.function.*;
 
-@AllArgsConstructor
+@RequiredArgsConstructor
 public class MetaProviderTemplate {
-    private final Map<String, MetaProperty<?>> propertyMap;
+    private final ImmutableMap<String, MetaProperty<?>> propertyMap;
     private final MetaProperty<?>[] propertyArray;
+    private final ThreadLocalValue<Deque<MetaProviderInstance>> pool = threadLocal(ArrayDeque::new);
 
     public MetaProviderInstance instantiate(Object model) {
         return new MetaProviderInstance(model);
     }
 
+    public MetaProviderInstance acquire(Object model) {
+        MetaProviderInstance instance = pool.get().pollFirst();
+        if (isNull(instance)) return new MetaProviderInstance(model);
+        instance.model = model;
+        return instance;
+    }
+
+    public void release(MetaProviderInstance instance) {
+        instance.model = null;
+        pool.get().addFirst(instance);
+    }
+
     public ImmutableMap<String, MetaProperty<?>> propertyMap() {
-        return immutableMapOf(propertyMap);
+        return propertyMap;
     }
 
     public ImmutableArray<MetaProperty<?>> propertyArray() {
@@ -48,7 +63,7 @@ public ImmutableArray<MetaProperty<?>> propertyArray() {
 
     @AllArgsConstructor(access = PRIVATE)
     public class MetaProviderInstance {
-        private final Object model;
+        private Object model;
 
         public Object getValue(MetaProperty<?> property)  {
             return property.getter().invokeCatched(model);
@@ -114,12 +129,44 @@ public ImmutableLazyArrayImplementation<?> getLazyArray(MetaProperty<?> property
             return let(property.getter().invokeCatched(model), notNull -> property.type().outputTransformer().toLazyMap(cast(notNull)));
         }
 
+        public int getIntegerValue(MetaProperty<?> property) {
+            return property.getter().invokeInteger(model);
+        }
+
+        public long getLongValue(MetaProperty<?> property) {
+            return property.getter().invokeLong(model);
+        }
+
+        public double getDoubleValue(MetaProperty<?> property) {
+            return property.getter().invokeDouble(model);
+        }
+
+        public float getFloatValue(MetaProperty<?> property) {
+            return property.getter().invokeFloat(model);
+        }
+
+        public short getShortValue(MetaProperty<?> property) {
+            return property.getter().invokeShort(model);
+        }
+
+        public byte getByteValue(MetaProperty<?> property) {
+            return property.getter().invokeByte(model);
+        }
+
+        public boolean getBooleanValue(MetaProperty<?> property) {
+            return property.getter().invokeBoolean(model);
+        }
+
+        public char getCharacterValue(MetaProperty<?> property) {
+            return property.getter().invokeCharacter(model);
+        }
+
         public Object getEntity(MetaProperty<?> property)  {
             return property.getter().invokeCatched(model);
         }
 
         public ImmutableMap<String, MetaProperty<?>> properties() {
-            return MetaProviderTemplate.this.propertyMap();
+            return propertyMap;
         }
     }
 }
@@ -0,0 +1,53 @@
+/*
+ * ART
+ *
+ * Copyright 2019-2021 ART
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.art.meta.transformer;
+
+import io.art.meta.exception.*;
+import static io.art.core.caster.Caster.*;
+import static io.art.meta.constants.MetaConstants.Errors.*;
+import static io.art.meta.constants.MetaConstants.*;
+import static java.text.MessageFormat.*;
+import static java.util.Arrays.*;
+import static java.util.Objects.*;
+
+public class BooleanArrayBuilder implements MetaArrayBuilder<boolean[]> {
+    private boolean[] array = new boolean[DEFAULT_PRIMITIVE_ARRAY_CAPACITY];
+    private int size;
+
+    public void add(boolean element) {
+        if (size == array.length) {
+            array = copyOf(array, size << 1);
+        }
+        array[size++] = element;
+    }
+
+    @Override
+    public void add(Object element) {
+        Boolean value = cast(element);
+        if (isNull(value)) {
+            throw new TransformationException(format(NULL_PRIMITIVE_ARRAY_ELEMENT, boolean[].class.getSimpleName()));
+        }
+        add(value.booleanValue());
+    }
+
+    @Override
+    public boolean[] build() {
+        return size == array.length ? array : copyOf(array, size);
+    }
+}
@@ -29,6 +29,11 @@
 
 @NoArgsConstructor(access = PRIVATE)
 public class BooleanArrayTransformer implements MetaTransformer<boolean[]> {
+    @Override
+    public MetaArrayBuilder<boolean[]> arrayBuilder() {
+        return new BooleanArrayBuilder();
+    }
+
     @Override
     public boolean[] fromArray(List<?> value) {
         boolean[] booleans = new boolean[value.size()];
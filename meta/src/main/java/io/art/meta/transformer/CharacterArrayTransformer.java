@@ -29,6 +29,11 @@
 
 @NoArgsConstructor(access = PRIVATE)
 public class CharacterArrayTransformer implements MetaTransformer<char[]> {
+    @Override
+    public MetaArrayBuilder<char[]> arrayBuilder() {
+        return new CharacterArrayBuilder();
+    }
+
     @Override
     public char[] fromArray(List<?> value) {
         char[] chars = new char[value.size()];
@@ -23,12 +23,18 @@
 import static io.art.core.caster.Caster.*;
 import static io.art.core.factory.ArrayFactory.*;
 import static io.art.core.factory.QueueFactory.*;
+import static io.art.meta.transformer.MetaArrayBuilder.*;
 import static lombok.AccessLevel.*;
 import java.util.*;
 import java.util.function.*;
 
 @AllArgsConstructor(access = PRIVATE)
 public class DequeueTransformer implements MetaTransformer<Deque<?>> {
+    @Override
+    public MetaArrayBuilder<Deque<?>> arrayBuilder() {
+        return metaArrayBuilder(deque(), Deque::add, deque -> deque);
+    }
+
     @Override
     public Deque<?> fromArray(List<?> value) {
         return dequeOf(value);
@@ -29,6 +29,11 @@
 
 @NoArgsConstructor(access = PRIVATE)
 public class DoubleArrayTransformer implements MetaTransformer<double[]> {
+    @Override
+    public MetaArrayBuilder<double[]> arrayBuilder() {
+        return new DoubleArrayBuilder();
+    }
+
     @Override
     public double[] fromArray(List<?> value) {
         double[] doubles = new double[value.size()];
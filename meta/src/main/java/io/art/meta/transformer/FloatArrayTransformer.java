@@ -29,6 +29,11 @@
 
 @NoArgsConstructor(access = PRIVATE)
 public class FloatArrayTransformer implements MetaTransformer<float[]> {
+    @Override
+    public MetaArrayBuilder<float[]> arrayBuilder() {
+        return new FloatArrayBuilder();
+    }
+
     @Override
     public float[] fromArray(List<?> value) {
         float[] floats = new float[value.size()];
@@ -22,12 +22,18 @@
 import lombok.*;
 import static io.art.core.caster.Caster.*;
 import static io.art.core.factory.ArrayFactory.*;
+import static io.art.meta.transformer.MetaArrayBuilder.*;
 import static java.util.function.Function.*;
 import static lombok.AccessLevel.*;
 import java.util.*;
 
 @AllArgsConstructor(access = PRIVATE)
 public class ImmutableArrayTransformer implements MetaTransformer<ImmutableArray<?>> {
+    @Override
+    public MetaArrayBuilder<ImmutableArray<?>> arrayBuilder() {
+        return metaArrayBuilder(ImmutableArray.immutableArrayBuilder(), ImmutableArray.Builder::add, ImmutableArray.Builder::build);
+    }
+
     @Override
     public ImmutableArray<?> fromArray(List<?> value) {
         return immutableArrayOf(value);
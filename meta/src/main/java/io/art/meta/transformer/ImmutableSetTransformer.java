@@ -23,6 +23,7 @@
 import static io.art.core.caster.Caster.*;
 import static io.art.core.factory.ArrayFactory.*;
 import static io.art.core.factory.SetFactory.*;
+import static io.art.meta.transformer.MetaArrayBuilder.*;
 import static java.util.function.Function.*;
 import static lombok.AccessLevel.*;
 import java.util.*;
@@ -30,6 +31,11 @@
 @AllArgsConstructor(access = PRIVATE)
 public class ImmutableSetTransformer implements MetaTransformer<ImmutableSet<?>> {
 
+    @Override
+    public MetaArrayBuilder<ImmutableSet<?>> arrayBuilder() {
+        return metaArrayBuilder(ImmutableSet.immutableSetBuilder(), ImmutableSet.Builder::add, ImmutableSet.Builder::build);
+    }
+
     @Override
     public ImmutableSet<?> fromArray(List<?> value) {
         return immutableSetOf(value);
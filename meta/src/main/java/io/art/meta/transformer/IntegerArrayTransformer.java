@@ -29,6 +29,11 @@
 
 @NoArgsConstructor(access = PRIVATE)
 public class IntegerArrayTransformer implements MetaTransformer<int[]> {
+    @Override
+    public MetaArrayBuilder<int[]> arrayBuilder() {
+        return new IntegerArrayBuilder();
+    }
+
     @Override
     public int[] fromArray(List<?> value) {
         int[] ints = new int[value.size()];
@@ -29,6 +29,11 @@
 
 @NoArgsConstructor(access = PRIVATE)
 public class LongArrayTransformer implements MetaTransformer<long[]> {
+    @Override
+    public MetaArrayBuilder<long[]> arrayBuilder() {
+        return new LongArrayBuilder();
+    }
+
     @Override
     public long[] fromArray(List<?> value) {
         long[] longs = new long[value.size()];
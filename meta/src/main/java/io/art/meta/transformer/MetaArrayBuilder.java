@@ -0,0 +1,50 @@
+/*
+ * ART
+ *
+ * Copyright 2019-2021 ART
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.art.meta.transformer;
+
+import lombok.*;
+import static lombok.AccessLevel.*;
+import java.util.function.*;
+
+public interface MetaArrayBuilder<T> {
+    void add(Object element);
+
+    T build();
+
+    static <C, T> MetaArrayBuilder<T> metaArrayBuilder(C container, BiConsumer<C, Object> adder, Function<C, T> finisher) {
+        return new ContainerArrayBuilder<>(container, adder, finisher);
+    }
+
+    @AllArgsConstructor(access = PRIVATE)
+    class ContainerArrayBuilder<C, T> implements MetaArrayBuilder<T> {
+        private final C container;
+        private final BiConsumer<C, Object> adder;
+        private final Function<C, T> finisher;
+
+        @Override
+        public void add(Object element) {
+            adder.accept(container, element);
+        }
+
+        @Override
+        public T build() {
+            return finisher.apply(container);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * ART
+ *
+ * Copyright 2019-2021 ART
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.art.meta.transformer;
+
+import lombok.*;
+import static lombok.AccessLevel.*;
+import java.util.function.*;
+
+public interface MetaMapBuilder<T> {
+    void put(Object key, Object value);
+
+    T build();
+
+    static <C, T> MetaMapBuilder<T> metaMapBuilder(C container, MapPutter<C> putter, Function<C, T> finisher) {
+        return new ContainerMapBuilder<>(container, putter, finisher);
+    }
+
+    interface MapPutter<C> {
+        void put(C container, Object key, Object value);
+    }
+
+    @AllArgsConstructor(access = PRIVATE)
+    class ContainerMapBuilder<C, T> implements MetaMapBuilder<T> {
+        private final C container;
+        private final MapPutter<C> putter;
+        private final Function<C, T> finisher;
+
+        @Override
+        public void put(Object key, Object value) {
+            putter.put(container, key, value);
+        }
+
+        @Override
+        public T build() {
+            return finisher.apply(container);
+        }
+    }
+}
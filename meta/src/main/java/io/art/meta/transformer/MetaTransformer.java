@@ -21,7 +21,11 @@
 import io.art.core.collection.*;
 import io.art.meta.exception.*;
 import static io.art.core.caster.Caster.*;
+import static io.art.core.factory.ArrayFactory.*;
+import static io.art.core.factory.MapFactory.*;
 import static io.art.meta.constants.MetaConstants.Errors.*;
+import static io.art.meta.transformer.MetaArrayBuilder.*;
+import static io.art.meta.transformer.MetaMapBuilder.*;
 import static java.text.MessageFormat.*;
 import java.util.*;
 import java.util.function.*;
@@ -87,6 +91,14 @@ default Supplier<?> toLazy(T value) {
         return () -> value;
     }
 
+    default MetaArrayBuilder<T> arrayBuilder() {
+        return metaArrayBuilder(dynamicArray(), List::add, this::fromArray);
+    }
+
+    default MetaMapBuilder<T> mapBuilder() {
+        return metaMapBuilder(map(), Map::put, this::fromMap);
+    }
+
     default T fromArray(List<?> value) {
         throw new TransformationException(format(TRANSFORMATION_NOT_AVAILABLE, value, getClass()));
     }
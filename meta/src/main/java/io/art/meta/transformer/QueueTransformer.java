@@ -23,12 +23,18 @@
 import static io.art.core.caster.Caster.*;
 import static io.art.core.factory.ArrayFactory.*;
 import static io.art.core.factory.QueueFactory.*;
+import static io.art.meta.transformer.MetaArrayBuilder.*;
 import static lombok.AccessLevel.*;
 import java.util.*;
 import java.util.function.*;
 
 @AllArgsConstructor(access = PRIVATE)
 public class QueueTransformer implements MetaTransformer<Queue<?>> {
+    @Override
+    public MetaArrayBuilder<Queue<?>> arrayBuilder() {
+        return metaArrayBuilder(queue(), Queue::add, queue -> queue);
+    }
+
     @Override
     public Queue<?> fromArray(List<?> value) {
         return queueOf(value);
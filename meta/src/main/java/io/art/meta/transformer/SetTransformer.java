@@ -23,12 +23,18 @@
 import static io.art.core.caster.Caster.*;
 import static io.art.core.factory.ArrayFactory.*;
 import static io.art.core.factory.SetFactory.*;
+import static io.art.meta.transformer.MetaArrayBuilder.*;
 import static lombok.AccessLevel.*;
 import java.util.*;
 import java.util.function.*;
 
 @AllArgsConstructor(access = PRIVATE)
 public class SetTransformer implements MetaTransformer<Set<?>> {
+    @Override
+    public MetaArrayBuilder<Set<?>> arrayBuilder() {
+        return metaArrayBuilder(set(), Set::add, set -> set);
+    }
+
     @Override
     public Set<?> fromArray(List<?> value) {
         return setOf(value);
@@ -29,6 +29,11 @@
 
 @NoArgsConstructor(access = PRIVATE)
 public class ShortArrayTransformer implements MetaTransformer<short[]> {
+    @Override
+    public MetaArrayBuilder<short[]> arrayBuilder() {
+        return new ShortArrayBuilder();
+    }
+
     @Override
     public short[] fromArray(List<?> value) {
         short[] shorts = new short[value.size()];
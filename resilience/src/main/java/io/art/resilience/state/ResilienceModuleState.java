@@ -41,4 +41,12 @@ public void reset() {
         timeLimiters.getAllTimeLimiters().forEach(timeLimiter -> timeLimiters.remove(timeLimiter.getName()));
         retriers.getAllRetries().forEach(retry -> retriers.remove(retry.getName()));
     }
+
+    public void reset(String id) {
+        rateLimiters.remove(id);
+        circuitBreakers.remove(id);
+        bulkheads.remove(id);
+        timeLimiters.remove(id);
+        retriers.remove(id);
+    }
 }
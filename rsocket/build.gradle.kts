@@ -28,6 +28,8 @@ dependencies {
     implementation(project(":server"))
     implementation(project(":communicator"))
 
+    testImplementation(project(":json"))
+
     api("io.rsocket", "rsocket-transport-netty", rsocketVersion)
             .exclude("io.zipkin.brave")
             .exclude("io.netty")
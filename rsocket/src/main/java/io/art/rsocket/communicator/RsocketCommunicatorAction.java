@@ -21,26 +21,21 @@
 import io.art.communicator.action.*;
 import io.art.communicator.configuration.*;
 import io.art.communicator.implementation.*;
+import io.art.core.changes.*;
 import io.art.core.exception.*;
 import io.art.core.model.*;
 import io.art.core.property.*;
 import io.art.logging.logger.*;
 import io.art.rsocket.configuration.*;
-import io.art.rsocket.interceptor.*;
-import io.art.rsocket.model.*;
 import io.art.rsocket.refresher.*;
+import io.art.rsocket.routing.*;
 import io.art.transport.payload.*;
 import io.art.value.immutable.Value;
+import io.netty.buffer.*;
 import io.rsocket.*;
 import io.rsocket.core.*;
-import io.rsocket.frame.decoder.*;
-import io.rsocket.plugins.*;
-import io.rsocket.transport.netty.client.*;
-import io.rsocket.util.*;
 import lombok.*;
 import reactor.core.publisher.*;
-import reactor.netty.http.client.*;
-import reactor.netty.tcp.*;
 import static io.art.communicator.module.CommunicatorModule.*;
 import static io.art.core.caster.Caster.*;
 import static io.art.core.checker.NullityChecker.*;
@@ -50,15 +45,11 @@
 import static io.art.logging.module.LoggingModule.*;
 import static io.art.rsocket.constants.RsocketModuleConstants.*;
 import static io.art.rsocket.constants.RsocketModuleConstants.CommunicationMode.*;
-import static io.art.rsocket.constants.RsocketModuleConstants.LoggingMessages.*;
 import static io.art.rsocket.constants.RsocketModuleConstants.RsocketProtocol.*;
-import static io.art.rsocket.manager.RsocketManager.*;
 import static io.art.rsocket.module.RsocketModule.*;
 import static io.art.rsocket.reader.RsocketPayloadReader.*;
-import static io.art.value.mime.MimeTypeDataFormatMapper.*;
-import static io.rsocket.core.RSocketClient.*;
+import static io.netty.buffer.Unpooled.*;
 import static io.rsocket.util.ByteBufPayload.*;
-import static java.text.MessageFormat.*;
 import static java.util.Objects.*;
 import static lombok.AccessLevel.*;
 import java.util.function.*;
@@ -73,9 +64,11 @@ public class RsocketCommunicatorAction implements CommunicatorActionImplementati
     @Getter(lazy = true, value = PRIVATE)
     private final CommunicatorAction communicatorAction = communicatorAction();
 
-    private final Property<RSocketClient> client = property(this::createClient, this::disposeClient).listenConsumer(() -> consumer()
-            .connectorConsumers()
-            .consumerFor(connectorConfiguration().getConnectorId()));
+    @Getter(lazy = true, value = PRIVATE)
+    private final byte[] route = route();
+
+    private final Property<RsocketConnectionPool> client = property(this::createClient, RsocketConnectionPool::release)
+            .listenConsumer(this::connectorConsumer);
 
     private final Property<Function<Flux<Value>, Flux<Value>>> communication = property(this::communication)
             .listenProperties(client);
@@ -95,64 +88,33 @@ public Flux<Value> communicate(Flux<Value> input) {
         return communication.get().apply(input);
     }
 
-    private RSocketClient createClient() {
-        RsocketConnectorConfiguration connectorConfiguration = connectorConfiguration();
-        RSocketConnector connector = RSocketConnector.create()
-                .payloadDecoder(connectorConfiguration.getPayloadDecoderMode() == PayloadDecoderMode.ZERO_COPY ? PayloadDecoder.ZERO_COPY : PayloadDecoder.DEFAULT)
-                .dataMimeType(toMimeType(connectorConfiguration.getDataFormat()).toString())
-                .metadataMimeType(toMimeType(connectorConfiguration.getMetaDataFormat()).toString())
-                .fragment(connectorConfiguration.getFragment())
-                .interceptors(registry -> configureInterceptors(connectorConfiguration, registry));
-        apply(connectorConfiguration.getKeepAlive(), keepAlive -> connector.keepAlive(keepAlive.getInterval(), keepAlive.getMaxLifeTime()));
-        apply(connectorConfiguration.getResume(), resume -> connector.resume(resume.toResume()));
-        apply(connectorConfiguration.getRetry(), retry -> connector.reconnect(retry.toRetry()));
-        TransportPayloadWriter setupPayloadWriter = communicatorModule().configuration().getWriter(communicatorActionId, connectorConfiguration.getDataFormat());
-        RsocketSetupPayload setupPayload = RsocketSetupPayload.builder()
-                .dataFormat(connectorConfiguration.getDataFormat())
-                .metadataFormat(connectorConfiguration.getMetaDataFormat())
-                .serviceMethod(getCommunicatorAction().getTargetServiceMethod())
-                .build();
-        Payload payload = DefaultPayload.create(setupPayloadWriter.write(setupPayload.toEntity()).nioBuffer());
-        connector.setupPayload(payload);
-        switch (connectorConfiguration.getTransport()) {
-            case TCP:
-                TcpClient tcpClient = connectorConfiguration.getTcpClient();
-                int tcpMaxFrameLength = connectorConfiguration.getTcpMaxFrameLength();
-                Mono<RSocket> socket = connector
-                        .connect(TcpClientTransport.create(tcpClient, tcpMaxFrameLength))
-                        .doOnTerminate(payload::release)
-                        .doOnError(throwable -> getLogger().error(throwable.getMessage(), throwable));
-                if (connectorConfiguration.isLogging()) {
-                    socket = socket.doOnSubscribe(subscription -> getLogger().info(format(COMMUNICATOR_STARTED, connectorConfiguration.getConnectorId(), setupPayload)));
-                }
-                return from(socket.blockOptional().orElseThrow(ImpossibleSituationException::new));
-            case WS:
-                HttpClient httpWebSocketClient = connectorConfiguration.getHttpWebSocketClient();
-                String httpWebSocketPath = connectorConfiguration.getHttpWebSocketPath();
-                socket = connector
-                        .connect(WebsocketClientTransport.create(httpWebSocketClient, httpWebSocketPath))
-                        .doOnTerminate(payload::release)
-                        .doOnError(throwable -> getLogger().error(throwable.getMessage(), throwable));
-                if (connectorConfiguration.isLogging()) {
-                    socket = socket.doOnSubscribe(subscription -> getLogger().info(format(COMMUNICATOR_STARTED, connectorConfiguration.getConnectorId(), setupPayload)));
-                }
-                return from(socket.blockOptional().orElseThrow(ImpossibleSituationException::new));
+    private RsocketConnectionPool createClient() {
+        return rsocketModule().state().connectionPool(connectorConfiguration(), connectorConsumer());
+    }
+
+    private Payload payload(ByteBuf data) {
+        byte[] route = getRoute();
+        if (isNull(route)) {
+            return create(data);
         }
-        throw new ImpossibleSituationException();
+        return create(data, wrappedBuffer(route));
     }
 
-    private void configureInterceptors(RsocketConnectorConfiguration connectorConfiguration, InterceptorRegistry registry) {
-        String connectorId = connectorConfiguration.getConnectorId();
-        registry.forResponder(new RsocketConnectorLoggingInterceptor(connectorId))
-                .forRequester(new RsocketConnectorLoggingInterceptor(connectorId));
+    private Mono<Payload> singlePayload(Flux<Value> input, TransportPayloadWriter writer) {
+        return input
+                .map(value -> payload(writer.write(value)))
+                .switchIfEmpty(Mono.fromSupplier(() -> payload(EMPTY_BUFFER)))
+                .last();
     }
 
-    private void disposeClient(RSocketClient rsocket) {
-        RsocketConnectorConfiguration connectorConfiguration = connectorConfiguration();
-        disposeRsocket(rsocket);
-        if (connectorConfiguration.isLogging()) {
-            getLogger().info(format(COMMUNICATOR_STOPPED, connectorConfiguration.getConnectorId()));
-        }
+    private Flux<Payload> channelPayloads(Flux<Value> input, TransportPayloadWriter writer) {
+        return input
+                .index((index, value) -> index == 0 ? payload(writer.write(value)) : create(writer.write(value)))
+                .switchIfEmpty(Mono.fromSupplier(() -> payload(EMPTY_BUFFER)));
+    }
+
+    private byte[] route() {
+        return let(getCommunicatorAction().getTargetServiceMethod(), RsocketRouting::writeRoute);
     }
 
     @SuppressWarnings(CONSTANT_CONDITIONS)
@@ -180,28 +142,28 @@ private Function<Flux<Value>, Flux<Value>> communication() {
         RSocketClient client = this.client.get();
         switch (communicationMode()) {
             case FIRE_AND_FORGET:
-                return input -> cast(client.fireAndForget(input.map(value -> create(writer.write(value))).last(EMPTY_PAYLOAD)).flux());
+                return input -> cast(client.fireAndForget(singlePayload(input, writer)).flux());
             case REQUEST_RESPONSE:
                 return input -> client
-                        .requestResponse(input.map(value -> create(writer.write(value))).last(EMPTY_PAYLOAD))
+                        .requestResponse(singlePayload(input, writer))
                         .flux()
                         .map(payload -> readRsocketPayload(reader, payload))
                         .filter(data -> !data.isEmpty())
                         .map(TransportPayload::getValue);
             case REQUEST_STREAM:
                 return input -> client
-                        .requestStream(input.map(value -> create(writer.write(value))).last(EMPTY_PAYLOAD))
+                        .requestStream(singlePayload(input, writer))
                         .map(payload -> readRsocketPayload(reader, payload))
                         .filter(data -> !data.isEmpty())
                         .map(TransportPayload::getValue);
             case REQUEST_CHANNEL:
                 return input -> client
-                        .requestChannel(input.map(value -> create(writer.write(value))).switchIfEmpty(EMPTY_PAYLOAD_MONO.get()))
+                        .requestChannel(channelPayloads(input, writer))
                         .map(payload -> readRsocketPayload(reader, payload))
                         .filter(data -> !data.isEmpty())
                         .map(TransportPayload::getValue);
             case METADATA_PUSH:
-                return input -> cast(client.metadataPush(input.map(value -> create(writer.write(value))).last(EMPTY_PAYLOAD)).flux());
+                return input -> cast(client.metadataPush(singlePayload(input, writer)).flux());
         }
         throw new ImpossibleSituationException();
     }
@@ -220,6 +182,10 @@ private CommunicationMode communicationMode() {
         return REQUEST_RESPONSE;
     }
 
+    private ChangesConsumer connectorConsumer() {
+        return consumer().connectorConsumers().consumerFor(connectorConfiguration().getConnectorId());
+    }
+
     private RsocketModuleRefresher.Consumer consumer() {
         return rsocketModule().configuration().getConsumer();
     }
@@ -0,0 +1,293 @@
+/*
+ * ART
+ *
+ * Copyright 2019-2021 ART
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.art.rsocket.communicator;
+
+import io.art.core.collection.*;
+import io.art.core.exception.*;
+import io.art.logging.logger.*;
+import io.art.rsocket.configuration.*;
+import io.art.rsocket.interceptor.*;
+import io.art.rsocket.model.*;
+import io.art.transport.payload.*;
+import io.netty.buffer.*;
+import io.rsocket.*;
+import io.rsocket.core.*;
+import io.rsocket.frame.decoder.*;
+import io.rsocket.plugins.*;
+import io.rsocket.transport.*;
+import io.rsocket.transport.netty.client.*;
+import io.rsocket.util.*;
+import lombok.*;
+import org.reactivestreams.*;
+import reactor.core.publisher.*;
+import reactor.netty.http.client.*;
+import reactor.netty.tcp.*;
+import static io.art.core.checker.NullityChecker.*;
+import static io.art.core.collection.ImmutableArray.*;
+import static io.art.core.extensions.NettyBufferExtensions.*;
+import static io.art.logging.module.LoggingModule.*;
+import static io.art.rsocket.constants.RsocketModuleConstants.*;
+import static io.art.rsocket.constants.RsocketModuleConstants.BalancerStrategy.*;
+import static io.art.rsocket.constants.RsocketModuleConstants.LoggingMessages.*;
+import static io.art.rsocket.manager.RsocketManager.*;
+import static io.art.value.mime.MimeTypeDataFormatMapper.*;
+import static io.rsocket.metadata.WellKnownMimeType.*;
+import static java.lang.Math.*;
+import static java.text.MessageFormat.*;
+import static java.util.Objects.*;
+import static lombok.AccessLevel.*;
+import java.net.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+public class RsocketConnectionPool implements RSocketClient {
+    @Getter(lazy = true, value = PRIVATE)
+    private static final Logger logger = logger(RsocketConnectionPool.class);
+
+    @Getter
+    private final RsocketConnectorConfiguration configuration;
+    private final RsocketPooledConnection[] connections;
+    private final BalancerStrategy strategy;
+    private final AtomicInteger holders = new AtomicInteger();
+    private final AtomicBoolean disposed = new AtomicBoolean();
+    private volatile boolean detached;
+
+    public RsocketConnectionPool(RsocketConnectorConfiguration configuration) {
+        this.configuration = configuration;
+        RsocketBalancerConfiguration balancer = configuration.getBalancer();
+        strategy = let(balancer, RsocketBalancerConfiguration::getStrategy, LEAST_LOADED);
+        ImmutableArray<ClientTransport> transports = transports();
+        int size = max(configuration.getPoolSize(), 1);
+        connections = new RsocketPooledConnection[transports.size() * size];
+        int index = 0;
+        for (ClientTransport transport : transports) {
+            for (int connection = 0; connection < size; connection++) {
+                connections[index++] = new RsocketPooledConnection(RSocketClient.from(connect(transport)), balancer);
+            }
+        }
+    }
+
+    @Override
+    public Mono<RSocket> source() {
+        return select().getClient().source();
+    }
+
+    @Override
+    public Mono<Void> fireAndForget(Mono<Payload> payload) {
+        return Mono.defer(() -> {
+            RsocketPooledConnection connection = select();
+            connection.acquire();
+            return connection.getClient().fireAndForget(payload).doFinally(connection::release);
+        });
+    }
+
+    @Override
+    public Mono<Payload> requestResponse(Mono<Payload> payload) {
+        return Mono.defer(() -> {
+            RsocketPooledConnection connection = select();
+            long start = connection.acquire();
+            return connection.getClient().requestResponse(payload).doFinally(signal -> connection.release(start, signal));
+        });
+    }
+
+    @Override
+    public Flux<Payload> requestStream(Mono<Payload> payload) {
+        return Flux.defer(() -> {
+            RsocketPooledConnection connection = select();
+            connection.acquire();
+            return connection.getClient().requestStream(payload).doFinally(connection::release);
+        });
+    }
+
+    @Override
+    public Flux<Payload> requestChannel(Publisher<Payload> payloads) {
+        return Flux.defer(() -> {
+            RsocketPooledConnection connection = select();
+            connection.acquire();
+            return connection.getClient().requestChannel(payloads).doFinally(connection::release);
+        });
+    }
+
+    @Override
+    public Mono<Void> metadataPush(Mono<Payload> payload) {
+        return Mono.defer(() -> {
+            RsocketPooledConnection connection = select();
+            connection.acquire();
+            return connection.getClient().metadataPush(payload).doFinally(connection::release);
+        });
+    }
+
+    public RsocketConnectionPool retain() {
+        holders.incrementAndGet();
+        return this;
+    }
+
+    public void release() {
+        if (holders.decrementAndGet() <= 0 && detached) {
+            dispose();
+        }
+    }
+
+    public void detach() {
+        detached = true;
+        if (holders.get() <= 0) {
+            dispose();
+        }
+    }
+
+    @Override
+    public void dispose() {
+        if (!disposed.compareAndSet(false, true)) {
+            return;
+        }
+        for (RsocketPooledConnection connection : connections) {
+            disposeRsocket(connection.getClient());
+        }
+        if (configuration.isLogging()) {
+            getLogger().info(format(COMMUNICATOR_STOPPED, configuration.getConnectorId()));
+        }
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return disposed.get();
+    }
+
+    private RsocketPooledConnection select() {
+        if (connections.length == 1) {
+            return connections[0];
+        }
+        long now = System.nanoTime();
+        switch (strategy) {
+            case LEAST_LOADED:
+                return leastLoaded(now);
+            case POWER_OF_TWO_CHOICES:
+                return powerOfTwoChoices(now);
+        }
+        throw new ImpossibleSituationException();
+    }
+
+    private RsocketPooledConnection leastLoaded(long now) {
+        RsocketPooledConnection selected = null;
+        RsocketPooledConnection fallback = connections[0];
+        for (RsocketPooledConnection connection : connections) {
+            if (connection.readmit(now)) {
+                return connection;
+            }
+            if (connection.score() < fallback.score()) {
+                fallback = connection;
+            }
+            if (connection.isEjected(now)) {
+                continue;
+            }
+            if (isNull(selected) || connection.score() < selected.score()) {
+                selected = connection;
+            }
+        }
+        return orElse(selected, fallback);
+    }
+
+    private RsocketPooledConnection powerOfTwoChoices(long now) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(connections.length);
+        int second = random.nextInt(connections.length - 1);
+        if (second >= first) {
+            second++;
+        }
+        RsocketPooledConnection left = connections[first];
+        RsocketPooledConnection right = connections[second];
+        if (left.readmit(now)) {
+            return left;
+        }
+        if (right.readmit(now)) {
+            return right;
+        }
+        boolean leftEjected = left.isEjected(now);
+        boolean rightEjected = right.isEjected(now);
+        if (leftEjected && rightEjected) {
+            return leastLoaded(now);
+        }
+        if (leftEjected) {
+            return right;
+        }
+        if (rightEjected) {
+            return left;
+        }
+        return left.score() <= right.score() ? left : right;
+    }
+
+    private ImmutableArray<ClientTransport> transports() {
+        RsocketBalancerConfiguration balancer = configuration.getBalancer();
+        ImmutableArray.Builder<ClientTransport> transports = immutableArrayBuilder();
+        switch (configuration.getTransport()) {
+            case TCP:
+                if (isNull(balancer) || balancer.getTcpEndpoints().isEmpty()) {
+                    return transports.add(TcpClientTransport.create(configuration.getTcpClient(), configuration.getTcpMaxFrameLength())).build();
+                }
+                for (InetSocketAddress endpoint : balancer.getTcpEndpoints()) {
+                    TcpClient client = configuration.getTcpClient().host(endpoint.getHostString()).port(endpoint.getPort());
+                    transports.add(TcpClientTransport.create(client, configuration.getTcpMaxFrameLength()));
+                }
+                return transports.build();
+            case WS:
+                if (isNull(balancer) || balancer.getWebSocketEndpoints().isEmpty()) {
+                    return transports.add(WebsocketClientTransport.create(configuration.getHttpWebSocketClient(), configuration.getHttpWebSocketPath())).build();
+                }
+                for (String endpoint : balancer.getWebSocketEndpoints()) {
+                    HttpClient client = configuration.getHttpWebSocketClient().baseUrl(endpoint);
+                    transports.add(WebsocketClientTransport.create(client, configuration.getHttpWebSocketPath()));
+                }
+                return transports.build();
+        }
+        throw new ImpossibleSituationException();
+    }
+
+    private Mono<RSocket> connect(ClientTransport transport) {
+        RSocketConnector connector = RSocketConnector.create()
+                .payloadDecoder(configuration.getPayloadDecoderMode() == PayloadDecoderMode.ZERO_COPY ? PayloadDecoder.ZERO_COPY : PayloadDecoder.DEFAULT)
+                .dataMimeType(toMimeType(configuration.getDataFormat()).toString())
+                .metadataMimeType(MESSAGE_RSOCKET_COMPOSITE_METADATA.getString())
+                .fragment(configuration.getFragment())
+                .interceptors(this::configureInterceptors);
+        apply(configuration.getKeepAlive(), keepAlive -> connector.keepAlive(keepAlive.getInterval(), keepAlive.getMaxLifeTime()));
+        apply(configuration.getResume(), resume -> connector.resume(resume.toResume()));
+        apply(configuration.getRetry(), retry -> connector.reconnect(retry.toRetry()));
+        RsocketSetupPayload setupPayload = RsocketSetupPayload.builder()
+                .dataFormat(configuration.getDataFormat())
+                .metadataFormat(configuration.getMetaDataFormat())
+                .build();
+        ByteBuf setupPayloadBuffer = new TransportPayloadWriter(configuration.getDataFormat()).write(setupPayload.toEntity());
+        byte[] setupPayloadData = toByteArray(setupPayloadBuffer);
+        setupPayloadBuffer.release();
+        connector.setupPayload(Mono.fromSupplier(() -> DefaultPayload.create(setupPayloadData)));
+        Mono<RSocket> socket = connector
+                .connect(transport)
+                .doOnError(throwable -> getLogger().error(throwable.getMessage(), throwable));
+        if (configuration.isLogging()) {
+            socket = socket.doOnSubscribe(subscription -> getLogger().info(format(COMMUNICATOR_STARTED, configuration.getConnectorId(), setupPayload)));
+        }
+        return socket;
+    }
+
+    private void configureInterceptors(InterceptorRegistry registry) {
+        String connectorId = configuration.getConnectorId();
+        registry.forResponder(new RsocketConnectorLoggingInterceptor(connectorId))
+                .forRequester(new RsocketConnectorLoggingInterceptor(connectorId));
+    }
+}
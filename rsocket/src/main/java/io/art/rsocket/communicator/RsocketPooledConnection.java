@@ -0,0 +1,125 @@
+/*
+ * ART
+ *
+ * Copyright 2019-2021 ART
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.art.rsocket.communicator;
+
+import io.art.rsocket.configuration.*;
+import io.rsocket.core.*;
+import lombok.*;
+import reactor.core.publisher.*;
+import static io.art.rsocket.constants.RsocketModuleConstants.Defaults.*;
+import static java.lang.System.*;
+import static reactor.core.publisher.SignalType.*;
+import static java.util.Objects.*;
+import java.time.*;
+import java.util.concurrent.atomic.*;
+
+@RequiredArgsConstructor
+public class RsocketPooledConnection {
+    @Getter
+    private final RSocketClient client;
+    private final RsocketBalancerConfiguration balancer;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicBoolean probing = new AtomicBoolean();
+    private final AtomicLong ejectedUntil = new AtomicLong();
+    private final AtomicInteger consecutiveErrors = new AtomicInteger();
+    private volatile double latency;
+
+    public long acquire() {
+        inFlight.incrementAndGet();
+        return nanoTime();
+    }
+
+    public void release(SignalType signal) {
+        inFlight.decrementAndGet();
+        if (signal == ON_ERROR) {
+            fail(nanoTime());
+            return;
+        }
+        if (signal == ON_COMPLETE) {
+            consecutiveErrors.set(0);
+        }
+    }
+
+    public void release(long start, SignalType signal) {
+        inFlight.decrementAndGet();
+        long now = nanoTime();
+        if (signal == ON_ERROR) {
+            fail(now);
+            return;
+        }
+        if (signal != ON_COMPLETE) {
+            return;
+        }
+        consecutiveErrors.set(0);
+        long sample = now - start;
+        double current = latency;
+        latency = probing.compareAndSet(true, false) || current == 0 ? sample : current + (sample - current) * DEFAULT_BALANCER_LATENCY_WEIGHT;
+        if (isNull(balancer)) {
+            return;
+        }
+        Duration ejectionLatency = balancer.getEjectionLatency();
+        if (nonNull(ejectionLatency) && latency > ejectionLatency.toNanos()) {
+            eject(now);
+        }
+    }
+
+    public boolean readmit(long now) {
+        long until = ejectedUntil.get();
+        if (until == 0 || now - until < 0) {
+            return false;
+        }
+        if (!ejectedUntil.compareAndSet(until, 0)) {
+            return false;
+        }
+        probing.set(true);
+        return true;
+    }
+
+    public boolean isEjected(long now) {
+        long until = ejectedUntil.get();
+        return until != 0 && now - until < 0;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public double getLatency() {
+        return latency;
+    }
+
+    public double score() {
+        return (inFlight.get() + 1) * (latency + 1);
+    }
+
+    private void fail(long now) {
+        boolean probe = probing.compareAndSet(true, false);
+        if (isNull(balancer)) {
+            return;
+        }
+        if (probe || consecutiveErrors.incrementAndGet() >= DEFAULT_BALANCER_EJECTION_ERRORS) {
+            eject(now);
+        }
+    }
+
+    private void eject(long now) {
+        consecutiveErrors.set(0);
+        ejectedUntil.set(now + balancer.getEjectionPeriod().toNanos());
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * ART
+ *
+ * Copyright 2019-2021 ART
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.art.rsocket.configuration;
+
+import io.art.core.collection.*;
+import io.art.core.source.*;
+import io.art.rsocket.constants.RsocketModuleConstants.*;
+import lombok.*;
+import static io.art.core.checker.NullityChecker.*;
+import static io.art.core.collection.ImmutableArray.*;
+import static io.art.rsocket.constants.RsocketModuleConstants.BalancerStrategy.*;
+import static io.art.rsocket.constants.RsocketModuleConstants.ConfigurationKeys.*;
+import static io.art.rsocket.constants.RsocketModuleConstants.Defaults.*;
+import static java.net.InetSocketAddress.*;
+import static java.util.Objects.*;
+import java.net.*;
+import java.time.*;
+
+@Value
+@RequiredArgsConstructor
+public class RsocketBalancerConfiguration {
+    BalancerStrategy strategy;
+    Duration ejectionLatency;
+    Duration ejectionPeriod;
+    ImmutableArray<InetSocketAddress> tcpEndpoints;
+    ImmutableArray<String> webSocketEndpoints;
+
+    public static RsocketBalancerConfiguration rsocketBalancer(ConfigurationSource source) {
+        BalancerStrategy strategy = rsocketBalancerStrategy(source.getString(BALANCER_STRATEGY_KEY), LEAST_LOADED);
+        Duration ejectionLatency = source.getDuration(BALANCER_EJECTION_LATENCY_KEY);
+        Duration ejectionPeriod = orElse(source.getDuration(BALANCER_EJECTION_PERIOD_KEY), DEFAULT_BALANCER_EJECTION_PERIOD);
+        return new RsocketBalancerConfiguration(strategy, ejectionLatency, ejectionPeriod, tcpEndpoints(source), webSocketEndpoints(source));
+    }
+
+    public static RsocketBalancerConfiguration rsocketBalancer(ConfigurationSource source, RsocketBalancerConfiguration defaultBalancer) {
+        if (isNull(defaultBalancer)) {
+            return rsocketBalancer(source);
+        }
+        BalancerStrategy strategy = rsocketBalancerStrategy(source.getString(BALANCER_STRATEGY_KEY), defaultBalancer.strategy);
+        Duration ejectionLatency = orElse(source.getDuration(BALANCER_EJECTION_LATENCY_KEY), defaultBalancer.ejectionLatency);
+        Duration ejectionPeriod = orElse(source.getDuration(BALANCER_EJECTION_PERIOD_KEY), defaultBalancer.ejectionPeriod);
+        ImmutableArray<InetSocketAddress> tcpEndpoints = tcpEndpoints(source);
+        ImmutableArray<String> webSocketEndpoints = webSocketEndpoints(source);
+        return new RsocketBalancerConfiguration(
+                strategy,
+                ejectionLatency,
+                ejectionPeriod,
+                tcpEndpoints.isEmpty() ? defaultBalancer.tcpEndpoints : tcpEndpoints,
+                webSocketEndpoints.isEmpty() ? defaultBalancer.webSocketEndpoints : webSocketEndpoints
+        );
+    }
+
+    private static ImmutableArray<InetSocketAddress> tcpEndpoints(ConfigurationSource source) {
+        ImmutableArray.Builder<InetSocketAddress> endpoints = immutableArrayBuilder();
+        for (NestedConfiguration endpoint : source.getNestedArray(BALANCER_ENDPOINTS_KEY, endpoint -> endpoint)) {
+            String host = endpoint.getString(ENDPOINT_HOST_KEY);
+            Integer port = endpoint.getInt(ENDPOINT_PORT_KEY);
+            if (nonNull(host) && nonNull(port)) {
+                endpoints.add(createUnresolved(host, port));
+            }
+        }
+        return endpoints.build();
+    }
+
+    private static ImmutableArray<String> webSocketEndpoints(ConfigurationSource source) {
+        ImmutableArray.Builder<String> endpoints = immutableArrayBuilder();
+        for (NestedConfiguration endpoint : source.getNestedArray(BALANCER_ENDPOINTS_KEY, endpoint -> endpoint)) {
+            String url = endpoint.getString(ENDPOINT_BASE_URL_KEY);
+            if (nonNull(url)) {
+                endpoints.add(url);
+            }
+        }
+        return endpoints.build();
+    }
+}
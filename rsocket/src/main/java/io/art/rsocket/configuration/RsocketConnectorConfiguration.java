@@ -30,10 +30,12 @@
 import static io.art.core.checker.NullityChecker.*;
 import static io.art.core.combiner.SectionCombiner.*;
 import static io.art.core.constants.StringConstants.*;
+import static io.art.rsocket.configuration.RsocketBalancerConfiguration.*;
 import static io.art.rsocket.configuration.RsocketKeepAliveConfiguration.*;
 import static io.art.rsocket.configuration.RsocketResumeConfiguration.*;
 import static io.art.rsocket.configuration.RsocketRetryConfiguration.*;
 import static io.art.rsocket.constants.RsocketModuleConstants.ConfigurationKeys.*;
+import static io.art.rsocket.constants.RsocketModuleConstants.Defaults.*;
 import static io.art.rsocket.constants.RsocketModuleConstants.ExceptionMessages.*;
 import static io.art.rsocket.constants.RsocketModuleConstants.PayloadDecoderMode.*;
 import static io.art.rsocket.constants.RsocketModuleConstants.TransportMode.*;
@@ -51,9 +53,11 @@ public class RsocketConnectorConfiguration {
     private PayloadDecoderMode payloadDecoderMode;
     private int maxInboundPayloadSize;
     private int fragment;
+    private int poolSize;
     private RsocketKeepAliveConfiguration keepAlive;
     private RsocketResumeConfiguration resume;
     private RsocketRetryConfiguration retry;
+    private RsocketBalancerConfiguration balancer;
     private TransportMode transport;
     private TcpClient tcpClient;
     private int tcpMaxFrameLength;
@@ -67,6 +71,7 @@ public static RsocketConnectorConfiguration defaults() {
         RsocketConnectorConfiguration configuration = new RsocketConnectorConfiguration();
         configuration.logging = false;
         configuration.fragment = 0;
+        configuration.poolSize = DEFAULT_POOL_SIZE;
         configuration.maxInboundPayloadSize = Integer.MAX_VALUE;
         configuration.payloadDecoderMode = ZERO_COPY;
         configuration.dataFormat = JSON;
@@ -82,6 +87,7 @@ public static RsocketConnectorConfiguration rsocketConnector(ConfigurationSource
 
         configuration.logging = orElse(source.getBool(LOGGING_KEY), defaults.logging);
         configuration.fragment = orElse(source.getInt(FRAGMENTATION_MTU_KEY), defaults.fragment);
+        configuration.poolSize = orElse(source.getInt(POOL_SIZE_KEY), defaults.poolSize);
         configuration.maxInboundPayloadSize = orElse(source.getInt(MAX_INBOUND_PAYLOAD_SIZE_KEY), defaults.maxInboundPayloadSize);
         configuration.payloadDecoderMode = rsocketPayloadDecoder(source.getString(PAYLOAD_DECODER_KEY), defaults.payloadDecoderMode);
         configuration.dataFormat = dataFormat(source.getString(DATA_FORMAT_KEY), defaults.dataFormat);
@@ -89,6 +95,7 @@ public static RsocketConnectorConfiguration rsocketConnector(ConfigurationSource
         configuration.keepAlive = source.getNested(KEEP_ALIVE_SECTION, RsocketKeepAliveConfiguration::rsocketKeepAlive);
         configuration.resume = source.getNested(RESUME_SECTION, RsocketResumeConfiguration::rsocketResume);
         configuration.retry = source.getNested(RECONNECT_SECTION, RsocketRetryConfiguration::rsocketRetry);
+        configuration.balancer = source.getNested(BALANCER_SECTION, RsocketBalancerConfiguration::rsocketBalancer);
 
         if (!source.has(TRANSPORT_SECTION)) {
             configuration.tcpMaxFrameLength = defaults.tcpMaxFrameLength;
@@ -139,9 +146,12 @@ public static RsocketConnectorConfiguration rsocketConnector(RsocketModuleRefres
         configuration.payloadDecoderMode = listener.emit(rsocketPayloadDecoder(source.getString(PAYLOAD_DECODER_KEY), defaults.payloadDecoderMode));
         configuration.maxInboundPayloadSize = listener.emit(orElse(source.getInt(MAX_INBOUND_PAYLOAD_SIZE_KEY), defaults.maxInboundPayloadSize));
         configuration.fragment = listener.emit(orElse(source.getInt(FRAGMENTATION_MTU_KEY), defaults.fragment));
+        configuration.poolSize = listener.emit(orElse(source.getInt(POOL_SIZE_KEY), defaults.poolSize));
         configuration.keepAlive = listener.emit(let(source.getNested(KEEP_ALIVE_SECTION), section -> rsocketKeepAlive(section, defaults.keepAlive), defaults.keepAlive));
         configuration.resume = listener.emit(let(source.getNested(RESUME_SECTION), section -> rsocketResume(section, defaults.resume), defaults.resume));
         configuration.retry = listener.emit(let(source.getNested(RECONNECT_SECTION), section -> rsocketRetry(section, defaults.retry), defaults.retry));
+        configuration.balancer = listener.emit(let(source.getNested(BALANCER_SECTION), section -> rsocketBalancer(section, defaults.balancer), defaults.balancer));
+        boolean balanced = nonNull(configuration.balancer) && (!configuration.balancer.getTcpEndpoints().isEmpty() || !configuration.balancer.getWebSocketEndpoints().isEmpty());
 
         if (!source.has(TRANSPORT_SECTION) && isNull(defaults.transport)) {
             throw new RsocketException(format(CONFIGURATION_PARAMETER_NOT_EXISTS, combine(source.getSection(), TRANSPORT_SECTION)));
@@ -152,27 +162,27 @@ public static RsocketConnectorConfiguration rsocketConnector(RsocketModuleRefres
             case TCP:
                 String host = listener.emit(source.getString(TRANSPORT_TCP_HOST_KEY));
                 Integer port = listener.emit(source.getInt(TRANSPORT_TCP_PORT_KEY));
-                if (isEmpty(host) && isNull(defaults.tcpClient)) {
+                if (isEmpty(host) && isNull(defaults.tcpClient) && !balanced) {
                     throw new RsocketException(format(CONFIGURATION_PARAMETER_NOT_EXISTS, combine(source.getSection(), TRANSPORT_TCP_HOST_KEY)));
                 }
-                if (isEmpty(port) && isNull(defaults.tcpClient)) {
+                if (isEmpty(port) && isNull(defaults.tcpClient) && !balanced) {
                     throw new RsocketException(format(CONFIGURATION_PARAMETER_NOT_EXISTS, combine(source.getSection(), TRANSPORT_PORT_KEY)));
                 }
                 if (isEmpty(host) || isEmpty(port)) {
-                    configuration.tcpClient = defaults.tcpClient;
+                    configuration.tcpClient = orElse(defaults.tcpClient, TcpClient::create);
                 }
-                configuration.tcpClient = orElse(configuration.tcpClient, TcpClient.create().port(port).host(host));
+                configuration.tcpClient = orElse(configuration.tcpClient, () -> TcpClient.create().port(port).host(host));
                 configuration.tcpMaxFrameLength = listener.emit(orElse(source.getInt(TRANSPORT_TCP_MAX_FRAME_LENGTH), defaults.tcpMaxFrameLength));
                 break;
             case WS:
                 String url = listener.emit(source.getString(TRANSPORT_WS_BASE_URL_KEY));
-                if (isEmpty(url) && isNull(defaults.httpWebSocketClient)) {
+                if (isEmpty(url) && isNull(defaults.httpWebSocketClient) && !balanced) {
                     throw new RsocketException(format(CONFIGURATION_PARAMETER_NOT_EXISTS, combine(source.getSection(), TRANSPORT_WS_BASE_URL_KEY)));
                 }
                 if (isEmpty(url)) {
-                    configuration.httpWebSocketClient = defaults.httpWebSocketClient;
+                    configuration.httpWebSocketClient = orElse(defaults.httpWebSocketClient, HttpClient::create);
                 }
-                configuration.httpWebSocketClient = orElse(configuration.httpWebSocketClient, create().baseUrl(url));
+                configuration.httpWebSocketClient = orElse(configuration.httpWebSocketClient, () -> create().baseUrl(url));
                 configuration.httpWebSocketPath = listener.emit(orElse(source.getString(TRANSPORT_WS_PATH_KEY), defaults.httpWebSocketPath));
                 break;
         }
@@ -33,6 +33,7 @@ public interface RsocketModuleConstants {
     interface ExceptionMessages {
         String SPECIFICATION_NOT_FOUND = "Specification was not found for service method identifiers: {0}";
         String CONFIGURATION_PARAMETER_NOT_EXISTS = "RSocket configuration parameter does not exists: ''{0}''";
+        String ROUTE_NOT_FOUND = "Service method route is not registered or is absent in request metadata and default service method is not configured";
     }
 
     interface LoggingMessages {
@@ -110,6 +111,16 @@ interface ConfigurationKeys {
         String MAX_LIFE_TIME_KEY = "maxLifeTime";
 
         String CONNECTORS_KEY = "connectors";
+        String POOL_SIZE_KEY = "poolSize";
+
+        String BALANCER_SECTION = "balancer";
+        String BALANCER_STRATEGY_KEY = "strategy";
+        String BALANCER_EJECTION_LATENCY_KEY = "ejectionLatency";
+        String BALANCER_EJECTION_PERIOD_KEY = "ejectionPeriod";
+        String BALANCER_ENDPOINTS_KEY = "endpoints";
+        String ENDPOINT_HOST_KEY = "host";
+        String ENDPOINT_PORT_KEY = "port";
+        String ENDPOINT_BASE_URL_KEY = "baseUrl";
     }
 
     interface ContextKeys {
@@ -128,6 +139,10 @@ interface Defaults {
         Duration DEFAULT_RESUME_STREAM_TIMEOUT = Duration.ofHours(1);
         Duration DEFAULT_KEEP_ALIVE_INTERVAL = Duration.ofSeconds(20);
         Duration DEFAULT_KEEP_ALIVE_MAX_LIFE_TIME = Duration.ofSeconds(90);
+        int DEFAULT_POOL_SIZE = 1;
+        Duration DEFAULT_BALANCER_EJECTION_PERIOD = Duration.ofSeconds(30);
+        double DEFAULT_BALANCER_LATENCY_WEIGHT = 0.2;
+        int DEFAULT_BALANCER_EJECTION_ERRORS = 3;
     }
 
     interface Fields {
@@ -194,6 +209,21 @@ public static PayloadDecoderMode rsocketPayloadDecoder(String decoder, PayloadDe
         }
     }
 
+    @Getter
+    @AllArgsConstructor
+    enum BalancerStrategy {
+        LEAST_LOADED("leastLoaded"),
+        POWER_OF_TWO_CHOICES("powerOfTwoChoices");
+
+        private final String strategy;
+
+        public static BalancerStrategy rsocketBalancerStrategy(String strategy, BalancerStrategy fallback) {
+            if (LEAST_LOADED.strategy.equalsIgnoreCase(strategy)) return LEAST_LOADED;
+            if (POWER_OF_TWO_CHOICES.strategy.equalsIgnoreCase(strategy)) return POWER_OF_TWO_CHOICES;
+            return fallback;
+        }
+    }
+
     enum CommunicationMode {
         FIRE_AND_FORGET,
         REQUEST_RESPONSE,
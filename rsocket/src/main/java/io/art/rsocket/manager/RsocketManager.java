@@ -30,6 +30,7 @@
 import static io.art.core.wrapper.ExceptionWrapper.*;
 import static io.art.logging.module.LoggingModule.*;
 import static io.art.rsocket.constants.RsocketModuleConstants.RsocketProtocol.*;
+import static io.art.rsocket.module.RsocketModule.*;
 import static lombok.AccessLevel.*;
 
 public class RsocketManager {
@@ -57,6 +58,7 @@ public void disposeCommunicators() {
                 .getByProtocol(RSOCKET)
                 .values()
                 .forEach(proxy -> proxy.getActions().values().forEach(CommunicatorAction::dispose));
+        rsocketModule().state().disposeConnectionPools();
     }
 
     public void initializeServer() {
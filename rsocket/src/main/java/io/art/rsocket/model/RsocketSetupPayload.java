@@ -30,6 +30,7 @@
 import static io.art.value.immutable.Entity.*;
 import static io.art.value.mapping.ServiceMethodMapping.*;
 
+@Getter
 @ToString
 @Builder(toBuilder = true)
 public class RsocketSetupPayload {
@@ -0,0 +1,116 @@
+/*
+ * ART
+ *
+ * Copyright 2019-2021 ART
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.art.rsocket.routing;
+
+import io.art.rsocket.model.*;
+import io.netty.buffer.*;
+import static io.art.rsocket.routing.RsocketRouting.*;
+import static io.rsocket.metadata.WellKnownMimeType.*;
+import static java.util.Objects.*;
+import java.util.*;
+
+public class RsocketRouteTable {
+    private static final int WELL_KNOWN_MIME_TYPE_FLAG = 0x80;
+    private static final int WELL_KNOWN_MIME_TYPE_MASK = 0x7F;
+    private static final int CONTENT_LENGTH_SIZE = 3;
+
+    private final RsocketRoute[] routes;
+    private final byte[][] keys;
+    private final int mask;
+
+    public RsocketRouteTable(Collection<RsocketRoute> source) {
+        int capacity = 2;
+        while (capacity < source.size() * 2) {
+            capacity <<= 1;
+        }
+        mask = capacity - 1;
+        routes = new RsocketRoute[capacity];
+        keys = new byte[capacity][];
+        for (RsocketRoute route : source) {
+            byte[] key = writeRouteContent(route.getSetupPayload().getServiceMethod());
+            int slot = spread(hash(key, 0, key.length)) & mask;
+            while (nonNull(routes[slot])) {
+                slot = (slot + 1) & mask;
+            }
+            routes[slot] = route;
+            keys[slot] = key;
+        }
+    }
+
+    public RsocketRoute find(ByteBuf metadata, RsocketRoute fallback) {
+        int index = metadata.readerIndex();
+        int end = metadata.writerIndex();
+        while (index < end) {
+            int header = metadata.getUnsignedByte(index++);
+            boolean routing = false;
+            if ((header & WELL_KNOWN_MIME_TYPE_FLAG) != 0) {
+                routing = (header & WELL_KNOWN_MIME_TYPE_MASK) == MESSAGE_RSOCKET_ROUTING.getIdentifier();
+            } else {
+                index += header + 1;
+            }
+            if (index + CONTENT_LENGTH_SIZE > end) {
+                return fallback;
+            }
+            int length = metadata.getUnsignedMedium(index);
+            index += CONTENT_LENGTH_SIZE;
+            if (routing) {
+                return find(metadata, index, length);
+            }
+            index += length;
+        }
+        return fallback;
+    }
+
+    private RsocketRoute find(ByteBuf buffer, int offset, int length) {
+        for (int slot = spread(hash(buffer, offset, length)) & mask; nonNull(routes[slot]); slot = (slot + 1) & mask) {
+            if (matches(keys[slot], buffer, offset, length)) {
+                return routes[slot];
+            }
+        }
+        return null;
+    }
+
+    private static boolean matches(byte[] key, ByteBuf buffer, int offset, int length) {
+        if (key.length != length) return false;
+        for (int index = 0; index < length; index++) {
+            if (key[index] != buffer.getByte(offset + index)) return false;
+        }
+        return true;
+    }
+
+    private static int hash(byte[] buffer, int offset, int length) {
+        int hash = 0;
+        for (int index = offset; index < offset + length; index++) {
+            hash = 31 * hash + buffer[index];
+        }
+        return hash;
+    }
+
+    private static int hash(ByteBuf buffer, int offset, int length) {
+        int hash = 0;
+        for (int index = offset; index < offset + length; index++) {
+            hash = 31 * hash + buffer.getByte(index);
+        }
+        return hash;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
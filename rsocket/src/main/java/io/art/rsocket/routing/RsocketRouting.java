@@ -0,0 +1,66 @@
+/*
+ * ART
+ *
+ * Copyright 2019-2021 ART
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.art.rsocket.routing;
+
+import io.art.core.model.*;
+import io.art.rsocket.model.*;
+import io.art.server.configuration.*;
+import io.art.server.specification.*;
+import io.netty.buffer.*;
+import lombok.experimental.*;
+import static io.art.core.extensions.NettyBufferExtensions.*;
+import static io.art.core.factory.ArrayFactory.*;
+import static io.netty.buffer.ByteBufAllocator.*;
+import static io.netty.buffer.Unpooled.*;
+import static io.rsocket.metadata.CompositeMetadataCodec.*;
+import static io.rsocket.metadata.TaggingMetadataCodec.*;
+import static io.rsocket.metadata.WellKnownMimeType.*;
+
+@UtilityClass
+public class RsocketRouting {
+    public static byte[] writeRoute(ServiceMethodIdentifier serviceMethodId) {
+        CompositeByteBuf metadata = DEFAULT.compositeBuffer();
+        try {
+            encodeAndAddMetadata(metadata, DEFAULT, MESSAGE_RSOCKET_ROUTING, wrappedBuffer(writeRouteContent(serviceMethodId)));
+            return toByteArray(metadata);
+        } finally {
+            metadata.release();
+        }
+    }
+
+    public static byte[] writeRouteContent(ServiceMethodIdentifier serviceMethodId) {
+        ByteBuf content = createTaggingContent(DEFAULT, fixedArrayOf(serviceMethodId.getServiceId(), serviceMethodId.getMethodId()));
+        try {
+            return toByteArray(content);
+        } finally {
+            content.release();
+        }
+    }
+
+    public static RsocketRoute rsocketRoute(ServiceMethodSpecification specification, RsocketSetupPayload setupPayload) {
+        ServiceMethodIdentifier serviceMethodId = setupPayload.getServiceMethod();
+        ServerModuleConfiguration configuration = specification.getConfiguration();
+        return RsocketRoute.builder()
+                .setupPayload(setupPayload)
+                .specification(specification)
+                .reader(configuration.getReader(serviceMethodId, setupPayload.getDataFormat()))
+                .writer(configuration.getWriter(serviceMethodId, setupPayload.getDataFormat()))
+                .build();
+    }
+}
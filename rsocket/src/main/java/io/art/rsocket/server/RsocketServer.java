@@ -24,9 +24,12 @@
 import io.art.logging.logger.*;
 import io.art.rsocket.configuration.*;
 import io.art.rsocket.interceptor.*;
+import io.art.rsocket.model.*;
 import io.art.rsocket.refresher.*;
+import io.art.rsocket.routing.*;
 import io.art.rsocket.socket.*;
 import io.art.server.*;
+import io.art.server.specification.*;
 import io.rsocket.*;
 import io.rsocket.core.*;
 import io.rsocket.plugins.*;
@@ -38,6 +41,9 @@
 import reactor.netty.http.server.*;
 import reactor.netty.tcp.*;
 import static io.art.core.checker.NullityChecker.*;
+import static io.art.core.factory.ListFactory.*;
+import static io.art.core.factory.MapFactory.*;
+import static io.art.core.model.ServiceMethodIdentifier.*;
 import static io.art.core.property.Property.*;
 import static io.art.core.wrapper.ExceptionWrapper.*;
 import static io.art.logging.module.LoggingModule.*;
@@ -45,6 +51,9 @@
 import static io.art.rsocket.constants.RsocketModuleConstants.*;
 import static io.art.rsocket.constants.RsocketModuleConstants.TransportMode.*;
 import static io.art.rsocket.manager.RsocketManager.*;
+import static io.art.rsocket.routing.RsocketRouting.*;
+import static io.art.server.module.ServerModule.*;
+import static io.art.value.constants.ValueModuleConstants.*;
 import static java.text.MessageFormat.*;
 import static java.util.Optional.*;
 import static lombok.AccessLevel.*;
@@ -59,6 +68,7 @@ public class RsocketServer implements Server {
 
     private final RsocketModuleConfiguration configuration;
     private final Property<CloseableChannel> channel;
+    private final Map<DataFormat, RsocketRouteTable> routeTables = concurrentMap();
     private volatile Mono<Void> closer;
 
     public RsocketServer(RsocketModuleRefresher refresher, RsocketModuleConfiguration configuration) {
@@ -85,6 +95,7 @@ public boolean available() {
 
     private CloseableChannel createServer() {
         RsocketServerConfiguration configuration = this.configuration.getServerConfiguration();
+        routeTables.clear();
         TransportMode transportMode = configuration.getTransport();
         int fragmentationMtu = configuration.getFragmentationMtu();
         RSocketServer server = RSocketServer.create(this::createAcceptor)
@@ -134,10 +145,30 @@ private Mono<RSocket> createAcceptor(ConnectionSetupPayload payload, RSocket req
     }
 
     private void createSocket(ConnectionSetupPayload payload, RSocket requester, MonoSink<RSocket> emitter) {
-        ExceptionRunnable createRsocket = () -> emitter.success(new ServingRsocket(payload, requester, configuration.getServerConfiguration()));
+        ExceptionRunnable createRsocket = () -> emitter.success(new ServingRsocket(payload, requester, configuration.getServerConfiguration(), this::routeTable));
         ignoreException(createRsocket, throwable -> getLogger().error(throwable.getMessage(), throwable));
     }
 
+    private RsocketRouteTable routeTable(DataFormat dataFormat) {
+        return routeTables.computeIfAbsent(dataFormat, this::createRouteTable);
+    }
+
+    private RsocketRouteTable createRouteTable(DataFormat dataFormat) {
+        DataFormat metaDataFormat = configuration.getServerConfiguration().getDefaultMetaDataFormat();
+        List<RsocketRoute> routes = linkedList();
+        for (ServiceSpecification service : specifications().getServices().values()) {
+            for (ServiceMethodSpecification method : service.getMethods().values()) {
+                RsocketSetupPayload setupPayload = RsocketSetupPayload.builder()
+                        .dataFormat(dataFormat)
+                        .metadataFormat(metaDataFormat)
+                        .serviceMethod(serviceMethod(method.getServiceId(), method.getMethodId()))
+                        .build();
+                routes.add(rsocketRoute(method, setupPayload));
+            }
+        }
+        return new RsocketRouteTable(routes);
+    }
+
     private void setupCloser(CloseableChannel channel) {
         this.closer = channel.onClose();
         if (configuration.getServerConfiguration().isLogging()) {
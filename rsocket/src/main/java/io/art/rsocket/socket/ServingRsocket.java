@@ -24,8 +24,8 @@
 import io.art.rsocket.configuration.*;
 import io.art.rsocket.exception.*;
 import io.art.rsocket.model.*;
+import io.art.rsocket.routing.*;
 import io.art.rsocket.state.*;
-import io.art.server.configuration.*;
 import io.art.server.specification.*;
 import io.art.transport.payload.*;
 import io.art.value.immutable.*;
@@ -34,12 +34,14 @@
 import org.reactivestreams.*;
 import reactor.core.publisher.*;
 import reactor.util.context.*;
+import static io.art.core.checker.NullityChecker.*;
 import static io.art.rsocket.constants.RsocketModuleConstants.ContextKeys.*;
 import static io.art.rsocket.constants.RsocketModuleConstants.*;
 import static io.art.rsocket.constants.RsocketModuleConstants.ExceptionMessages.*;
 import static io.art.rsocket.model.RsocketSetupPayload.*;
 import static io.art.rsocket.module.RsocketModule.*;
 import static io.art.rsocket.reader.RsocketPayloadReader.*;
+import static io.art.rsocket.routing.RsocketRouting.*;
 import static io.art.rsocket.state.RsocketModuleState.RsocketThreadLocalState.*;
 import static io.art.server.module.ServerModule.*;
 import static io.art.value.constants.ValueModuleConstants.*;
@@ -47,87 +49,108 @@
 import static io.art.value.immutable.Value.*;
 import static io.art.value.mapping.ServiceMethodMapping.*;
 import static io.art.value.mime.MimeTypeDataFormatMapper.*;
+import static io.rsocket.metadata.WellKnownMimeType.*;
 import static java.text.MessageFormat.*;
 import static java.util.Objects.*;
 import static reactor.core.publisher.Flux.*;
 import java.util.function.*;
 
 public class ServingRsocket implements RSocket {
-    private final TransportPayloadReader dataReader;
-    private final TransportPayloadWriter dataWriter;
     private final RSocket requesterSocket;
     private final RsocketModuleState moduleState = rsocketModule().state();
+    private final DataFormat dataFormat;
     private final RsocketSetupPayload setupPayload;
-    private final ServiceMethodSpecification specification;
+    private final RsocketRoute defaultRoute;
+    private final RsocketRouteTable routeTable;
+    private final boolean routing;
 
-    public ServingRsocket(ConnectionSetupPayload payload, RSocket requesterSocket, RsocketServerConfiguration serverConfiguration) {
+    public ServingRsocket(ConnectionSetupPayload payload, RSocket requesterSocket, RsocketServerConfiguration serverConfiguration, Function<DataFormat, RsocketRouteTable> routeTables) {
         moduleState.registerRequester(this.requesterSocket = requesterSocket);
-        DataFormat dataFormat = fromMimeType(MimeType.valueOf(payload.dataMimeType()), serverConfiguration.getDefaultDataFormat());
+        dataFormat = fromMimeType(MimeType.valueOf(payload.dataMimeType()), serverConfiguration.getDefaultDataFormat());
         DataFormat metaDataFormat = fromMimeType(MimeType.valueOf(payload.metadataMimeType()), serverConfiguration.getDefaultMetaDataFormat());
+        routing = MESSAGE_RSOCKET_COMPOSITE_METADATA.getString().equals(payload.metadataMimeType());
+        routeTable = routing ? routeTables.apply(dataFormat) : null;
         Function<DataFormat, TransportPayloadReader> setupReader = serverModule().configuration().getReader();
         TransportPayload setupPayloadData = setupReader.apply(dataFormat).read(payload.sliceData());
         RsocketSetupPayloadBuilder setupPayloadBuilder = RsocketSetupPayload.builder()
                 .dataFormat(dataFormat)
                 .metadataFormat(metaDataFormat);
+        ServiceMethodIdentifier serviceMethodId = null;
         Entity serviceIdentifiers;
         if (!setupPayloadData.isEmpty() && isEntity(setupPayloadData.getValue()) && nonNull(serviceIdentifiers = asEntity(asEntity(setupPayloadData.getValue()).get(SERVICE_METHOD_IDENTIFIERS_KEY)))) {
-            ServiceMethodIdentifier serviceMethodId = toServiceMethod(serviceIdentifiers);
-            if (nonNull(serviceMethodId)) {
-                setupPayload = setupPayloadBuilder.serviceMethod(serviceMethodId).build();
-                specification = findSpecification(serviceMethodId);
-                ServerModuleConfiguration configuration = specification.getConfiguration();
-                dataReader = configuration.getReader(serviceMethodId, dataFormat);
-                dataWriter = configuration.getWriter(serviceMethodId, dataFormat);
-                return;
-            }
+            serviceMethodId = toServiceMethod(serviceIdentifiers);
+        }
+        if (isNull(serviceMethodId)) {
+            serviceMethodId = serverConfiguration.getDefaultServiceMethod();
         }
-        ServiceMethodIdentifier defaultServiceMethod = serverConfiguration.getDefaultServiceMethod();
-        if (nonNull(defaultServiceMethod)) {
-            setupPayload = setupPayloadBuilder.serviceMethod(defaultServiceMethod).build();
-            specification = findSpecification(defaultServiceMethod);
-            ServerModuleConfiguration configuration = specification.getConfiguration();
-            dataReader = configuration.getReader(defaultServiceMethod, dataFormat);
-            dataWriter = configuration.getWriter(defaultServiceMethod, dataFormat);
-            return;
+        setupPayload = setupPayloadBuilder.serviceMethod(serviceMethodId).build();
+        defaultRoute = let(serviceMethodId, id -> rsocketRoute(findSpecification(id), setupPayload));
+        if (isNull(defaultRoute) && !routing) {
+            throw new ImpossibleSituationException();
         }
-        throw new ImpossibleSituationException();
     }
 
     @Override
     public Mono<Void> fireAndForget(Payload payload) {
-        TransportPayload payloadValue = readRsocketPayload(dataReader, payload);
-        Flux<Value> input = addContext(payloadValue.isEmpty() ? empty() : just(payloadValue.getValue()));
-        return specification.serve(input).then();
+        RsocketRoute route = route(payload);
+        if (isNull(route)) {
+            return Mono.error(routeNotFound(payload));
+        }
+        TransportPayload payloadValue = readRsocketPayload(route.getReader(), payload);
+        Flux<Value> input = addContext(route, payloadValue.isEmpty() ? empty() : just(payloadValue.getValue()));
+        return route.getSpecification().serve(input).then();
     }
 
     @Override
     public Mono<Payload> requestResponse(Payload payload) {
-        TransportPayload payloadValue = readRsocketPayload(dataReader, payload);
-        Flux<Value> input = addContext(payloadValue.isEmpty() ? empty() : just(payloadValue.getValue()));
-        return specification.serve(input).map(value -> ByteBufPayload.create(dataWriter.write(value))).last(EMPTY_PAYLOAD);
+        RsocketRoute route = route(payload);
+        if (isNull(route)) {
+            return Mono.error(routeNotFound(payload));
+        }
+        TransportPayload payloadValue = readRsocketPayload(route.getReader(), payload);
+        Flux<Value> input = addContext(route, payloadValue.isEmpty() ? empty() : just(payloadValue.getValue()));
+        TransportPayloadWriter writer = route.getWriter();
+        return route.getSpecification().serve(input).map(value -> ByteBufPayload.create(writer.write(value))).last(EMPTY_PAYLOAD);
     }
 
     @Override
     public Flux<Payload> requestStream(Payload payload) {
-        TransportPayload payloadValue = readRsocketPayload(dataReader, payload);
-        Flux<Value> input = addContext(payloadValue.isEmpty() ? empty() : just(payloadValue.getValue()));
-        return specification.serve(input).map(value -> ByteBufPayload.create(dataWriter.write(value)));
+        RsocketRoute route = route(payload);
+        if (isNull(route)) {
+            return error(routeNotFound(payload));
+        }
+        TransportPayload payloadValue = readRsocketPayload(route.getReader(), payload);
+        Flux<Value> input = addContext(route, payloadValue.isEmpty() ? empty() : just(payloadValue.getValue()));
+        TransportPayloadWriter writer = route.getWriter();
+        return route.getSpecification().serve(input).map(value -> ByteBufPayload.create(writer.write(value)));
     }
 
     @Override
     public Flux<Payload> requestChannel(Publisher<Payload> payloads) {
-        Flux<Value> input = addContext(from(payloads)
-                .map(data -> readRsocketPayload(dataReader, data))
-                .filter(data -> !data.isEmpty())
-                .map(TransportPayload::getValue));
-        return specification.serve(input).map(value -> ByteBufPayload.create(dataWriter.write(value)));
+        return from(payloads).switchOnFirst((first, flux) -> {
+            RsocketRoute route = first.hasValue() ? route(first.get()) : defaultRoute;
+            if (isNull(route)) {
+                return flux.take(1).doOnNext(Payload::release).thenMany(error(new RsocketException(ROUTE_NOT_FOUND)));
+            }
+            TransportPayloadReader reader = route.getReader();
+            TransportPayloadWriter writer = route.getWriter();
+            Flux<Value> input = addContext(route, flux
+                    .map(data -> readRsocketPayload(reader, data))
+                    .filter(data -> !data.isEmpty())
+                    .map(TransportPayload::getValue));
+            return route.getSpecification().serve(input).map(value -> ByteBufPayload.create(writer.write(value)));
+        });
     }
 
     @Override
     public Mono<Void> metadataPush(Payload payload) {
-        TransportPayload payloadValue = readRsocketPayload(dataReader, payload);
-        Flux<Value> input = addContext(payloadValue.isEmpty() ? empty() : just(payloadValue.getValue()));
-        return specification.serve(input).then();
+        RsocketRoute route = route(payload);
+        if (isNull(route)) {
+            return Mono.error(routeNotFound(payload));
+        }
+        TransportPayload payloadValue = readRsocketPayload(route.getReader(), payload);
+        Flux<Value> input = addContext(route, payloadValue.isEmpty() ? empty() : just(payloadValue.getValue()));
+        return route.getSpecification().serve(input).then();
     }
 
     @Override
@@ -135,23 +158,35 @@ public void dispose() {
         moduleState.removeRequester(this);
     }
 
+    private RsocketRoute route(Payload payload) {
+        if (routing && payload.hasMetadata()) {
+            return routeTable.find(payload.sliceMetadata(), defaultRoute);
+        }
+        return defaultRoute;
+    }
+
+    private RsocketException routeNotFound(Payload payload) {
+        payload.release();
+        return new RsocketException(ROUTE_NOT_FOUND);
+    }
+
     private ServiceMethodSpecification findSpecification(ServiceMethodIdentifier serviceMethodId) {
         return specifications()
                 .findMethodById(serviceMethodId)
                 .orElseThrow(() -> new RsocketException(format(SPECIFICATION_NOT_FOUND, serviceMethodId)));
     }
 
-    private <T> Flux<T> addContext(Flux<T> flux) {
-        return flux.doOnEach(signal -> loadContext(signal.getContextView())).contextWrite(this::saveContext);
+    private <T> Flux<T> addContext(RsocketRoute route, Flux<T> flux) {
+        return flux.doOnEach(signal -> loadContext(signal.getContextView())).contextWrite(context -> saveContext(route, context));
     }
 
     private void loadContext(ContextView context) {
         moduleState.localState(fromContext(context));
     }
 
-    private Context saveContext(Context context) {
+    private Context saveContext(RsocketRoute route, Context context) {
         return context
                 .putNonNull(REQUESTER_RSOCKET_KEY, requesterSocket)
-                .putNonNull(SETUP_PAYLOAD_KEY, setupPayload);
+                .putNonNull(SETUP_PAYLOAD_KEY, route.getSetupPayload());
     }
 }
@@ -18,20 +18,30 @@
 
 package io.art.rsocket.state;
 
+import io.art.core.changes.*;
 import io.art.core.collection.*;
 import io.art.core.module.*;
+import io.art.rsocket.communicator.*;
+import io.art.rsocket.configuration.*;
+import io.art.rsocket.manager.*;
 import io.art.rsocket.model.*;
 import io.rsocket.*;
 import lombok.*;
 import reactor.util.context.*;
+import static io.art.core.checker.NullityChecker.*;
 import static io.art.core.factory.ArrayFactory.*;
 import static io.art.core.factory.ListFactory.*;
+import static io.art.core.factory.MapFactory.*;
+import static io.art.core.factory.SetFactory.*;
 import static io.art.rsocket.constants.RsocketModuleConstants.ContextKeys.*;
+import static java.util.Objects.*;
 import java.util.*;
 import java.util.function.*;
 
 public class RsocketModuleState implements ModuleState {
     private final List<RSocket> requesters = linkedListOf();
+    private final Map<String, RsocketConnectionPool> connectionPools = concurrentMap();
+    private final Set<String> listenedConnectors = concurrentSet();
     private final ThreadLocal<RsocketThreadLocalState> threadLocalState = new ThreadLocal<>();
 
     public void registerRequester(RSocket socket) {
@@ -46,6 +56,28 @@ public ImmutableArray<RSocket> getRequesters() {
         return immutableArrayOf(requesters);
     }
 
+    public RsocketConnectionPool connectionPool(RsocketConnectorConfiguration configuration, ChangesConsumer connectorConsumer) {
+        String connectorId = configuration.getConnectorId();
+        if (listenedConnectors.add(connectorId)) {
+            connectorConsumer.consume(() -> detachConnectionPool(connectorId));
+        }
+        return connectionPools.compute(connectorId, (id, current) -> {
+            if (nonNull(current) && !current.isDisposed()) {
+                return current.retain();
+            }
+            return new RsocketConnectionPool(configuration).retain();
+        });
+    }
+
+    public void detachConnectionPool(String connectorId) {
+        apply(connectionPools.remove(connectorId), RsocketConnectionPool::detach);
+    }
+
+    public void disposeConnectionPools() {
+        connectionPools.values().forEach(RsocketManager::disposeRsocket);
+        connectionPools.clear();
+    }
+
 
     public void localState(Function<RsocketThreadLocalState, RsocketThreadLocalState> functor) {
         threadLocalState.set(functor.apply(threadLocalState.get()));
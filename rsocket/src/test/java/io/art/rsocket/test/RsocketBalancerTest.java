@@ -0,0 +1,195 @@
+package io.art.rsocket.test;
+
+import io.art.json.module.*;
+import io.art.logging.module.*;
+import io.art.rsocket.communicator.*;
+import io.art.rsocket.module.*;
+import io.art.rsocket.refresher.*;
+import io.art.rsocket.test.source.*;
+import io.rsocket.*;
+import io.rsocket.core.*;
+import io.rsocket.transport.netty.server.*;
+import io.rsocket.util.*;
+import org.junit.jupiter.api.*;
+import reactor.core.publisher.*;
+import static io.art.core.context.TestingContext.*;
+import static io.art.core.factory.ArrayFactory.*;
+import static io.art.core.factory.MapFactory.*;
+import static io.art.rsocket.configuration.RsocketConnectorConfiguration.*;
+import static io.art.rsocket.constants.RsocketModuleConstants.ConfigurationKeys.*;
+import static io.art.rsocket.constants.RsocketModuleConstants.TransportMode.*;
+import static java.time.Duration.*;
+import static org.assertj.core.api.Assertions.*;
+import java.net.*;
+import java.util.*;
+import java.util.concurrent.atomic.*;
+
+public class RsocketBalancerTest {
+    private static final String CONNECTOR_ID = "balanced";
+    private static final int SERVERS = 3;
+    private static final int SLOW_SERVER = SERVERS - 1;
+    private static final int REQUESTS = 300;
+    private static final int CONCURRENCY = 8;
+    private static final long FAST_DELAY = 5;
+    private static final long SLOW_DELAY = 150;
+    private static final AtomicIntegerArray hits = new AtomicIntegerArray(SERVERS);
+    private static final AtomicLong slowDelay = new AtomicLong();
+    private static final List<CloseableChannel> servers = dynamicArray();
+
+    @BeforeAll
+    public static void setup() {
+        testing(JsonModule::new, LoggingModule::new, RsocketModule::new);
+        for (int server = 0; server < SERVERS; server++) {
+            servers.add(RSocketServer.create(SocketAcceptor.with(responder(server))).bind(TcpServerTransport.create(0)).block());
+        }
+    }
+
+    @AfterAll
+    public static void shutdown() {
+        servers.forEach(CloseableChannel::dispose);
+    }
+
+    @BeforeEach
+    public void reset() {
+        slowDelay.set(SLOW_DELAY);
+        resetHits();
+    }
+
+    @Test
+    public void testLeastLoadedDistribution() {
+        testDistribution("leastLoaded");
+    }
+
+    @Test
+    public void testPowerOfTwoChoicesDistribution() {
+        testDistribution("powerOfTwoChoices");
+    }
+
+    @Test
+    public void testReadmission() {
+        RsocketConnectionPool pool = pool("leastLoaded", "1s");
+        try {
+            send(pool, REQUESTS);
+            resetHits();
+            send(pool, REQUESTS);
+            assertThat(hits.get(SLOW_SERVER)).isZero();
+
+            slowDelay.set(FAST_DELAY);
+            sleep(1500);
+            resetHits();
+            send(pool, REQUESTS);
+            assertThat(hits.get(SLOW_SERVER)).isGreaterThan(REQUESTS / SERVERS / 2);
+        } finally {
+            pool.dispose();
+        }
+    }
+
+    @Test
+    public void testClosedEndpointEjected() {
+        CloseableChannel closed = RSocketServer.create(SocketAcceptor.with(responder(0))).bind(TcpServerTransport.create(0)).block();
+        InetSocketAddress closedAddress = closed.address();
+        closed.dispose();
+        closed.onClose().block();
+        List<InetSocketAddress> addresses = addresses();
+        addresses.add(closedAddress);
+        RsocketConnectionPool pool = pool("leastLoaded", "30s", addresses);
+        try {
+            AtomicInteger failures = new AtomicInteger();
+            Flux.range(0, REQUESTS)
+                    .flatMap(index -> pool.requestResponse(Mono.fromSupplier(() -> DefaultPayload.create(String.valueOf(index))))
+                            .doOnNext(Payload::release)
+                            .onErrorResume(error -> {
+                                failures.incrementAndGet();
+                                return Mono.empty();
+                            }), CONCURRENCY)
+                    .blockLast(ofSeconds(30));
+            assertThat(failures.get()).isLessThan(REQUESTS / 10);
+            int served = 0;
+            for (int server = 0; server < SERVERS; server++) {
+                served += hits.get(server);
+            }
+            assertThat(served).isEqualTo(REQUESTS - failures.get());
+        } finally {
+            pool.dispose();
+        }
+    }
+
+    private void testDistribution(String strategy) {
+        RsocketConnectionPool pool = pool(strategy, "30s");
+        try {
+            send(pool, REQUESTS);
+            assertThat(hits.get(SLOW_SERVER)).isLessThan(REQUESTS / SERVERS / 4);
+            for (int server = 0; server < SLOW_SERVER; server++) {
+                assertThat(hits.get(server)).isGreaterThan(REQUESTS / SERVERS);
+            }
+        } finally {
+            pool.dispose();
+        }
+    }
+
+    private static RSocket responder(int server) {
+        return new RSocket() {
+            @Override
+            public Mono<Payload> requestResponse(Payload payload) {
+                payload.release();
+                hits.incrementAndGet(server);
+                long delay = server == SLOW_SERVER ? slowDelay.get() : FAST_DELAY;
+                return Mono.<Payload>just(DefaultPayload.create(String.valueOf(server))).delayElement(ofMillis(delay));
+            }
+        };
+    }
+
+    private static RsocketConnectionPool pool(String strategy, String ejectionPeriod) {
+        return pool(strategy, ejectionPeriod, addresses());
+    }
+
+    private static RsocketConnectionPool pool(String strategy, String ejectionPeriod, List<InetSocketAddress> addresses) {
+        List<Map<String, Object>> endpoints = dynamicArray();
+        for (InetSocketAddress address : addresses) {
+            Map<String, Object> endpoint = map();
+            endpoint.put(ENDPOINT_HOST_KEY, address.getHostString());
+            endpoint.put(ENDPOINT_PORT_KEY, address.getPort());
+            endpoints.add(endpoint);
+        }
+        Map<String, Object> balancer = map();
+        balancer.put(BALANCER_STRATEGY_KEY, strategy);
+        balancer.put(BALANCER_EJECTION_LATENCY_KEY, "50ms");
+        balancer.put(BALANCER_EJECTION_PERIOD_KEY, ejectionPeriod);
+        balancer.put(BALANCER_ENDPOINTS_KEY, endpoints);
+        Map<String, Object> transport = map();
+        transport.put("mode", TCP.getTransport());
+        Map<String, Object> connector = map();
+        connector.put(BALANCER_SECTION, balancer);
+        connector.put(TRANSPORT_SECTION, transport);
+        MapConfigurationSource source = new MapConfigurationSource(CONNECTOR_ID, connector);
+        return new RsocketConnectionPool(rsocketConnector(new RsocketModuleRefresher(), defaults(), source));
+    }
+
+    private static List<InetSocketAddress> addresses() {
+        List<InetSocketAddress> addresses = dynamicArray();
+        for (CloseableChannel server : servers) {
+            addresses.add(server.address());
+        }
+        return addresses;
+    }
+
+    private static void send(RsocketConnectionPool pool, int count) {
+        Flux.range(0, count)
+                .flatMap(index -> pool.requestResponse(Mono.fromSupplier(() -> DefaultPayload.create(String.valueOf(index)))).doOnNext(Payload::release), CONCURRENCY)
+                .blockLast(ofSeconds(30));
+    }
+
+    private static void resetHits() {
+        for (int server = 0; server < SERVERS; server++) {
+            hits.set(server, 0);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
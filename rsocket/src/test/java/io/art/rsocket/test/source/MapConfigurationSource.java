@@ -0,0 +1,85 @@
+package io.art.rsocket.test.source;
+
+import io.art.core.collection.*;
+import io.art.core.source.*;
+import lombok.*;
+import static io.art.core.caster.Caster.*;
+import static io.art.core.collection.ImmutableArray.*;
+import static io.art.core.collection.ImmutableSet.*;
+import static io.art.core.combiner.SectionCombiner.*;
+import static io.art.core.constants.StringConstants.*;
+import static io.art.core.factory.SetFactory.*;
+import static java.util.Objects.*;
+import java.util.*;
+import java.util.function.*;
+
+@Getter
+@RequiredArgsConstructor
+public class MapConfigurationSource implements NestedConfiguration {
+    private final String section;
+    private final ModuleConfigurationSourceType type = () -> 0;
+    private final String path = MapConfigurationSource.class.getSimpleName();
+    private final Object value;
+
+    @Override
+    public Boolean asBool() {
+        if (value instanceof Boolean) {
+            return (Boolean) value;
+        }
+        return isNull(asString()) ? null : Boolean.parseBoolean(asString());
+    }
+
+    @Override
+    public String asString() {
+        if (isNull(value) || value instanceof Map || value instanceof List) {
+            return null;
+        }
+        return value.toString();
+    }
+
+    @Override
+    public ImmutableArray<NestedConfiguration> asArray() {
+        return asArray(element -> element);
+    }
+
+    @Override
+    public <T> ImmutableArray<T> asArray(Function<NestedConfiguration, T> mapper) {
+        if (!(value instanceof List)) {
+            return emptyImmutableArray();
+        }
+        ImmutableArray.Builder<T> elements = immutableArrayBuilder();
+        for (Object element : (List<?>) value) {
+            elements.add(mapper.apply(new MapConfigurationSource(section, element)));
+        }
+        return elements.build();
+    }
+
+    @Override
+    public NestedConfiguration getNested(String path) {
+        Object nested = value;
+        for (String key : path.split(ESCAPED_DOT)) {
+            if (!(nested instanceof Map)) {
+                return null;
+            }
+            nested = ((Map<?, ?>) nested).get(key);
+        }
+        if (isNull(nested)) {
+            return null;
+        }
+        return new MapConfigurationSource(combine(section, path), nested);
+    }
+
+    @Override
+    public ImmutableSet<String> getKeys() {
+        if (!(value instanceof Map)) {
+            return emptyImmutableSet();
+        }
+        Map<String, ?> map = cast(value);
+        return immutableSetOf(map.keySet());
+    }
+
+    @Override
+    public String dump() {
+        return String.valueOf(value);
+    }
+}
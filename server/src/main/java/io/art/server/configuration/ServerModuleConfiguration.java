@@ -22,6 +22,7 @@
 import io.art.core.model.*;
 import io.art.core.module.*;
 import io.art.core.source.*;
+import io.art.resilience.configuration.*;
 import io.art.server.model.*;
 import io.art.server.refresher.*;
 import io.art.server.registry.*;
@@ -85,6 +86,22 @@ public TransportPayloadWriter getWriter(ServiceMethodIdentifier id, DataFormat d
                         .orElse(writer)).apply(dataFormat);
     }
 
+    public ResilienceConfiguration getResilienceConfiguration(ServiceMethodIdentifier id) {
+        return getMethodConfiguration(id)
+                .map(ServiceMethodConfiguration::getResilienceConfiguration)
+                .orElseGet(() -> ofNullable(configurations.get(id.getServiceId()))
+                        .map(ServiceConfiguration::getResilienceConfiguration)
+                        .orElse(ResilienceConfiguration.builder().build()));
+    }
+
+    public ConcurrencyLimitConfiguration getConcurrencyLimitConfiguration(ServiceMethodIdentifier id) {
+        return getMethodConfiguration(id)
+                .map(ServiceMethodConfiguration::getConcurrencyLimitConfiguration)
+                .orElseGet(() -> ofNullable(configurations.get(id.getServiceId()))
+                        .map(ServiceConfiguration::getConcurrencyLimitConfiguration)
+                        .orElse(null));
+    }
+
     public Optional<ServiceMethodConfiguration> getMethodConfiguration(ServiceMethodIdentifier id) {
         return ofNullable(configurations.get(id.getServiceId())).map(configuration -> configuration.getMethods().get(id.getMethodId()));
     }
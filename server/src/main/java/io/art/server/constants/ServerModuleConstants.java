@@ -27,6 +27,10 @@
 public interface ServerModuleConstants {
     interface Defaults {
         LazyProperty<Scheduler> DEFAULT_SERVICE_METHOD_BLOCKING_SCHEDULER = lazy(() -> newBoundedElastic(DEFAULT_THREAD_POOL_SIZE, Integer.MAX_VALUE, "(b):service-method"));
+        int DEFAULT_CONCURRENCY_INITIAL_LIMIT = 20;
+        int DEFAULT_CONCURRENCY_MIN_LIMIT = 1;
+        int DEFAULT_CONCURRENCY_MAX_LIMIT = 1000;
+        double DEFAULT_CONCURRENCY_BACKOFF_RATIO = 0.9;
     }
 
     interface ConfigurationKeys {
@@ -36,6 +40,12 @@ interface ConfigurationKeys {
         String LOGGING_KEY = "logging";
         String VALIDATING_KEY = "validating";
         String METHODS_KEY = "methods";
+        String CONCURRENCY_LIMIT_SECTION = "concurrencyLimit";
+        String CONCURRENCY_LIMIT_INITIAL_LIMIT_KEY = "initialLimit";
+        String CONCURRENCY_LIMIT_MIN_LIMIT_KEY = "minLimit";
+        String CONCURRENCY_LIMIT_MAX_LIMIT_KEY = "maxLimit";
+        String CONCURRENCY_LIMIT_BACKOFF_RATIO_KEY = "backoffRatio";
+        String CONCURRENCY_LIMIT_LATENCY_THRESHOLD_KEY = "latencyThreshold";
     }
 
     interface ValidationExpressionType {
@@ -65,6 +75,10 @@ interface LoggingMessages {
     }
 
     interface ExceptionMessages {
+        String SERVICE_OVERLOADED_MESSAGE = "Service ''{0}.{1}'' overloaded. Concurrency limit: {2}";
+        String INVALID_CONCURRENCY_MIN_LIMIT = "Concurrency limit ''{0}'': minLimit must be at least 1, but was {1}";
+        String INVALID_CONCURRENCY_MAX_LIMIT = "Concurrency limit ''{0}'': maxLimit must be at least minLimit ({2}), but was {1}";
+        String INVALID_CONCURRENCY_BACKOFF_RATIO = "Concurrency limit ''{0}'': backoffRatio must be between 0 and 1 exclusive, but was {1}";
     }
 
     interface ValidationErrorPatterns {
@@ -0,0 +1,104 @@
+/*
+ * ART
+ *
+ * Copyright 2019-2021 ART
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.art.server.decorator;
+
+import io.art.core.model.*;
+import io.art.core.property.*;
+import io.art.resilience.configuration.*;
+import io.art.server.configuration.*;
+import io.art.server.limiter.*;
+import io.art.server.model.*;
+import io.art.server.specification.*;
+import io.github.resilience4j.bulkhead.*;
+import io.github.resilience4j.ratelimiter.*;
+import io.github.resilience4j.reactor.bulkhead.operator.*;
+import io.github.resilience4j.reactor.ratelimiter.operator.*;
+import org.reactivestreams.*;
+import reactor.core.publisher.*;
+import static io.art.core.model.ServiceMethodIdentifier.*;
+import static io.art.core.property.Property.*;
+import static io.art.resilience.module.ResilienceModule.*;
+import static io.art.server.module.ServerModule.*;
+import static java.util.Objects.*;
+import static java.util.function.Function.*;
+import static reactor.core.publisher.Flux.*;
+import java.util.function.*;
+
+public class ServiceResilienceDecorator implements UnaryOperator<Flux<Object>> {
+    private final ServiceMethodIdentifier serviceMethodId;
+    private final Property<ResilienceConfiguration> resilienceConfiguration;
+    private final Property<ConcurrencyLimitConfiguration> concurrencyLimitConfiguration;
+    private final Property<Function<Publisher<Object>, Publisher<Object>>> pipeline;
+    private final String id;
+
+    public ServiceResilienceDecorator(ServiceMethodSpecification specification) {
+        serviceMethodId = serviceMethod(specification.getServiceId(), specification.getMethodId());
+        id = serviceMethodId.toString();
+        resilienceConfiguration = property(resilienceConfiguration(serviceMethodId)).listenConsumer(() -> configuration()
+                .getConsumer()
+                .resilienceConsumer());
+        concurrencyLimitConfiguration = property(concurrencyLimitConfiguration(serviceMethodId)).listenConsumer(() -> configuration()
+                .getConsumer()
+                .resilienceConsumer());
+        pipeline = property(this::createPipeline, ignore -> resilienceModule().state().reset(id))
+                .listenProperties(resilienceConfiguration, concurrencyLimitConfiguration);
+    }
+
+    @Override
+    public Flux<Object> apply(Flux<Object> input) {
+        return from(pipeline.get().apply(input));
+    }
+
+    private Function<Publisher<Object>, Publisher<Object>> createPipeline() {
+        ResilienceConfiguration configuration = resilienceConfiguration.get();
+        ConcurrencyLimitConfiguration concurrencyLimit = concurrencyLimitConfiguration.get();
+
+        RateLimiterConfig rateLimiter = configuration.getRateLimiter();
+        BulkheadConfig bulkhead = configuration.getBulkhead();
+
+        Function<Publisher<Object>, Publisher<Object>> decorator = identity();
+
+        if (nonNull(rateLimiter)) {
+            decorator = decorator.andThen(RateLimiterOperator.of(rateLimiter(id, rateLimiter)));
+        }
+
+        if (nonNull(concurrencyLimit)) {
+            ServiceConcurrencyLimiter limiter = new ServiceConcurrencyLimiter(serviceMethodId, concurrencyLimit);
+            decorator = decorator.andThen(publisher -> limiter.apply(from(publisher)));
+        }
+
+        if (nonNull(bulkhead)) {
+            decorator = decorator.andThen(BulkheadOperator.of(bulkhead(id, bulkhead)));
+        }
+
+        return decorator;
+    }
+
+    private ServerModuleConfiguration configuration() {
+        return serverModule().configuration();
+    }
+
+    private Supplier<ResilienceConfiguration> resilienceConfiguration(ServiceMethodIdentifier serviceMethodId) {
+        return () -> configuration().getResilienceConfiguration(serviceMethodId);
+    }
+
+    private Supplier<ConcurrencyLimitConfiguration> concurrencyLimitConfiguration(ServiceMethodIdentifier serviceMethodId) {
+        return () -> configuration().getConcurrencyLimitConfiguration(serviceMethodId);
+    }
+}
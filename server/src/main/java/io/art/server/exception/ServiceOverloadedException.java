@@ -0,0 +1,36 @@
+/*
+ * ART
+ *
+ * Copyright 2019-2021 ART
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.art.server.exception;
+
+import io.art.core.model.*;
+import lombok.*;
+import static io.art.server.constants.ServerModuleConstants.ExceptionMessages.*;
+import static java.text.MessageFormat.*;
+
+@Getter
+public class ServiceOverloadedException extends RuntimeException {
+    private final ServiceMethodIdentifier id;
+    private final int limit;
+
+    public ServiceOverloadedException(ServiceMethodIdentifier id, int limit) {
+        super(format(SERVICE_OVERLOADED_MESSAGE, id.getServiceId(), id.getMethodId(), limit));
+        this.id = id;
+        this.limit = limit;
+    }
+}
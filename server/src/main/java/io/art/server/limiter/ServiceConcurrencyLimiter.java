@@ -0,0 +1,102 @@
+/*
+ * ART
+ *
+ * Copyright 2019-2021 ART
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.art.server.limiter;
+
+import io.art.core.model.*;
+import io.art.server.exception.*;
+import io.art.server.model.*;
+import reactor.core.publisher.*;
+import static java.lang.Math.*;
+import static java.lang.System.*;
+import static java.util.Objects.*;
+import static reactor.core.publisher.Flux.*;
+import static reactor.core.publisher.SignalType.*;
+import java.time.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+
+public class ServiceConcurrencyLimiter implements UnaryOperator<Flux<Object>> {
+    private final ServiceMethodIdentifier id;
+    private final ConcurrencyLimitConfiguration configuration;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile double limit;
+
+    public ServiceConcurrencyLimiter(ServiceMethodIdentifier id, ConcurrencyLimitConfiguration configuration) {
+        this.id = id;
+        this.configuration = configuration;
+        this.limit = min(max(configuration.getInitialLimit(), configuration.getMinLimit()), configuration.getMaxLimit());
+    }
+
+    @Override
+    public Flux<Object> apply(Flux<Object> input) {
+        return defer(() -> {
+            if (!tryAcquire()) {
+                return error(new ServiceOverloadedException(id, (int) limit));
+            }
+            long start = nanoTime();
+            return input.doFinally(signal -> release(signal, nanoTime() - start));
+        });
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private boolean tryAcquire() {
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= (int) limit) {
+                return false;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    private void release(SignalType signal, long latency) {
+        int current = inFlight.getAndDecrement();
+        if (signal == CANCEL) {
+            return;
+        }
+        if (signal == ON_ERROR || exceeded(latency)) {
+            decrease();
+            return;
+        }
+        if (signal == ON_COMPLETE && current * 2 >= limit) {
+            increase();
+        }
+    }
+
+    private boolean exceeded(long latency) {
+        Duration threshold = configuration.getLatencyThreshold();
+        return nonNull(threshold) && latency > threshold.toNanos();
+    }
+
+    private synchronized void increase() {
+        limit = min(configuration.getMaxLimit(), limit + 1);
+    }
+
+    private synchronized void decrease() {
+        limit = max(configuration.getMinLimit(), limit * configuration.getBackoffRatio());
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * ART
+ *
+ * Copyright 2019-2021 ART
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.art.server.model;
+
+import io.art.core.changes.*;
+import io.art.core.exception.*;
+import io.art.core.source.*;
+import lombok.*;
+import static io.art.core.checker.NullityChecker.*;
+import static io.art.server.constants.ServerModuleConstants.ConfigurationKeys.*;
+import static io.art.server.constants.ServerModuleConstants.Defaults.*;
+import static io.art.server.constants.ServerModuleConstants.ExceptionMessages.*;
+import static java.text.MessageFormat.*;
+import java.time.*;
+
+@Getter
+@Builder(toBuilder = true)
+public class ConcurrencyLimitConfiguration {
+    private final int initialLimit;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final Duration latencyThreshold;
+
+    public static ConcurrencyLimitConfiguration from(ChangesListener listener, ConfigurationSource source) {
+        int minLimit = orElse(source.getInt(CONCURRENCY_LIMIT_MIN_LIMIT_KEY), DEFAULT_CONCURRENCY_MIN_LIMIT);
+        if (minLimit < 1) {
+            throw new InternalRuntimeException(format(INVALID_CONCURRENCY_MIN_LIMIT, source.getSection(), String.valueOf(minLimit)));
+        }
+        int maxLimit = orElse(source.getInt(CONCURRENCY_LIMIT_MAX_LIMIT_KEY), DEFAULT_CONCURRENCY_MAX_LIMIT);
+        if (maxLimit < minLimit) {
+            throw new InternalRuntimeException(format(INVALID_CONCURRENCY_MAX_LIMIT, source.getSection(), String.valueOf(maxLimit), String.valueOf(minLimit)));
+        }
+        double backoffRatio = orElse(source.getDouble(CONCURRENCY_LIMIT_BACKOFF_RATIO_KEY), DEFAULT_CONCURRENCY_BACKOFF_RATIO);
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new InternalRuntimeException(format(INVALID_CONCURRENCY_BACKOFF_RATIO, source.getSection(), String.valueOf(backoffRatio)));
+        }
+        return ConcurrencyLimitConfiguration.builder()
+                .initialLimit(listener.emit(orElse(source.getInt(CONCURRENCY_LIMIT_INITIAL_LIMIT_KEY), DEFAULT_CONCURRENCY_INITIAL_LIMIT)))
+                .minLimit(listener.emit(minLimit))
+                .maxLimit(listener.emit(maxLimit))
+                .backoffRatio(listener.emit(backoffRatio))
+                .latencyThreshold(listener.emit(source.getDuration(CONCURRENCY_LIMIT_LATENCY_THRESHOLD_KEY)))
+                .build();
+    }
+}
@@ -21,12 +21,14 @@
 import io.art.core.changes.*;
 import io.art.core.collection.*;
 import io.art.core.source.*;
+import io.art.resilience.configuration.*;
 import io.art.server.refresher.*;
 import io.art.transport.payload.*;
 import io.art.value.constants.*;
 import lombok.*;
 import reactor.core.scheduler.*;
 import static io.art.core.checker.NullityChecker.*;
+import static io.art.resilience.constants.ResilienceModuleConstants.ConfigurationKeys.*;
 import static io.art.server.constants.ServerModuleConstants.ConfigurationKeys.*;
 import static io.art.server.constants.ServerModuleConstants.Defaults.*;
 import java.util.function.*;
@@ -37,6 +39,8 @@ public class ServiceConfiguration {
     private boolean logging;
     private boolean validating;
     private Scheduler blockingScheduler;
+    private ResilienceConfiguration resilienceConfiguration;
+    private ConcurrencyLimitConfiguration concurrencyLimitConfiguration;
     private ImmutableMap<String, ServiceMethodConfiguration> methods;
     private Function<ValueModuleConstants.DataFormat, TransportPayloadReader> reader;
     private Function<ValueModuleConstants.DataFormat, TransportPayloadWriter> writer;
@@ -46,11 +50,14 @@ public static ServiceConfiguration from(ServerModuleRefresher refresher, Configu
         ChangesListener deactivationListener = refresher.deactivationListener();
         ChangesListener loggingListener = refresher.loggingListener();
         ChangesListener validationListener = refresher.validationListener();
+        ChangesListener resilienceListener = refresher.resilienceListener();
         configuration.deactivated = deactivationListener.emit(orElse(source.getBool(DEACTIVATED_KEY), false));
         configuration.logging = loggingListener.emit(orElse(source.getBool(LOGGING_KEY), true));
         configuration.validating = validationListener.emit(orElse(source.getBool(VALIDATING_KEY), true));
         configuration.blockingScheduler = DEFAULT_SERVICE_METHOD_BLOCKING_SCHEDULER.get();
-        configuration.methods = source.getNestedMap(METHODS_KEY, method -> ServiceMethodConfiguration.from(refresher, source));
+        configuration.resilienceConfiguration = source.getNested(RESILIENCE_SECTION, resilience -> ResilienceConfiguration.from(resilienceListener, resilience));
+        configuration.concurrencyLimitConfiguration = source.getNested(CONCURRENCY_LIMIT_SECTION, limit -> ConcurrencyLimitConfiguration.from(resilienceListener, limit));
+        configuration.methods = source.getNestedMap(METHODS_KEY, method -> ServiceMethodConfiguration.from(refresher, method));
         configuration.reader = TransportPayloadReader::new;
         configuration.writer = TransportPayloadWriter::new;
         return configuration;
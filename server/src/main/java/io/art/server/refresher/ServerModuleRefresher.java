@@ -12,12 +12,14 @@ public class ServerModuleRefresher implements ModuleRefresher {
     private final ChangesListener deactivationListener = changesListener();
     private final ChangesListener loggingListener = changesListener();
     private final ChangesListener validationListener = changesListener();
+    private final ChangesListener resilienceListener = changesListener();
     private final Consumer consumer = new Consumer();
 
     public void produce() {
         loggingListener.produce();
         deactivationListener.produce();
         validationListener.produce();
+        resilienceListener.produce();
     }
 
     @Getter
@@ -26,5 +28,6 @@ public class Consumer {
         private final ChangesConsumer loggingConsumer = loggingListener.consumer();
         private final ChangesConsumer deactivationConsumer = deactivationListener.consumer();
         private final ChangesConsumer validationConsumer = validationListener.consumer();
+        private final ChangesConsumer resilienceConsumer = resilienceListener.consumer();
     }
 }
@@ -90,6 +90,8 @@ public class ServiceMethodSpecification {
             new ServiceDeactivationDecorator(this)
     );
 
+    private final UnaryOperator<Flux<Object>> resilienceDecorator = new ServiceResilienceDecorator(this);
+
     @Singular("inputDecorator")
     private final List<UnaryOperator<Flux<Object>>> inputDecorators;
 
@@ -113,10 +115,11 @@ public class ServiceMethodSpecification {
 
 
     public Flux<Value> serve(Flux<Value> input) {
-        return input
+        Flux<Value> output = input
                 .transform(this::transformInput)
                 .transform(getAdoptServe())
                 .transform(this::transformOutput);
+        return cast(resilienceDecorator.apply(cast(output)));
     }
 
 
@@ -0,0 +1,96 @@
+package io.art.server.test;
+
+import io.art.server.exception.*;
+import io.art.server.limiter.*;
+import io.art.server.model.*;
+import org.junit.jupiter.api.*;
+import reactor.core.*;
+import reactor.core.publisher.*;
+import static io.art.core.model.ServiceMethodIdentifier.*;
+import static java.time.Duration.*;
+import static org.assertj.core.api.Assertions.*;
+import java.time.*;
+
+public class ServiceConcurrencyLimiterTest {
+    @Test
+    public void testRejectsOverLimit() {
+        ServiceConcurrencyLimiter limiter = limiter(2, 1, 10, 0.5, null);
+        Disposable first = limiter.apply(Flux.never()).subscribe();
+        Disposable second = limiter.apply(Flux.never()).subscribe();
+        assertThat(limiter.getInFlight()).isEqualTo(2);
+        assertThatThrownBy(() -> limiter.apply(Flux.just(1)).blockLast()).isInstanceOf(ServiceOverloadedException.class);
+        assertThat(limiter.getInFlight()).isEqualTo(2);
+        first.dispose();
+        second.dispose();
+        assertThat(limiter.getInFlight()).isZero();
+        assertThat(limiter.apply(Flux.just(1)).blockLast()).isEqualTo(1);
+    }
+
+    @Test
+    public void testIncreasesOnCompletionUnderLoad() {
+        ServiceConcurrencyLimiter limiter = limiter(2, 1, 3, 0.5, null);
+        Disposable pending = limiter.apply(Flux.never()).subscribe();
+        limiter.apply(Flux.just(1)).blockLast();
+        assertThat(limiter.getLimit()).isEqualTo(3);
+        limiter.apply(Flux.just(1)).blockLast();
+        assertThat(limiter.getLimit()).isEqualTo(3);
+        pending.dispose();
+    }
+
+    @Test
+    public void testKeepsLimitOnCompletionWithoutLoad() {
+        ServiceConcurrencyLimiter limiter = limiter(10, 1, 20, 0.5, null);
+        limiter.apply(Flux.just(1)).blockLast();
+        assertThat(limiter.getLimit()).isEqualTo(10);
+    }
+
+    @Test
+    public void testDecreasesOnError() {
+        ServiceConcurrencyLimiter limiter = limiter(8, 3, 10, 0.5, null);
+        fail(limiter);
+        assertThat(limiter.getLimit()).isEqualTo(4);
+        fail(limiter);
+        assertThat(limiter.getLimit()).isEqualTo(3);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    public void testDecreasesOnSlowCompletion() {
+        ServiceConcurrencyLimiter limiter = limiter(8, 1, 10, 0.5, ofMillis(1));
+        limiter.apply(Flux.just((Object) 1).delayElements(ofMillis(50))).blockLast();
+        long deadline = System.nanoTime() + ofSeconds(1).toNanos();
+        while (limiter.getLimit() == 8 && System.nanoTime() < deadline) {
+            Thread.yield();
+        }
+        assertThat(limiter.getLimit()).isEqualTo(4);
+    }
+
+    @Test
+    public void testKeepsLimitOnCancel() {
+        ServiceConcurrencyLimiter limiter = limiter(8, 1, 10, 0.5, null);
+        limiter.apply(Flux.never()).subscribe().dispose();
+        assertThat(limiter.getLimit()).isEqualTo(8);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    public void testClampsInitialLimit() {
+        assertThat(limiter(0, 2, 10, 0.5, null).getLimit()).isEqualTo(2);
+        assertThat(limiter(50, 2, 10, 0.5, null).getLimit()).isEqualTo(10);
+    }
+
+    private static void fail(ServiceConcurrencyLimiter limiter) {
+        assertThatThrownBy(() -> limiter.apply(Flux.error(new IllegalStateException())).blockLast()).isInstanceOf(IllegalStateException.class);
+    }
+
+    private static ServiceConcurrencyLimiter limiter(int initialLimit, int minLimit, int maxLimit, double backoffRatio, Duration latencyThreshold) {
+        ConcurrencyLimitConfiguration configuration = ConcurrencyLimitConfiguration.builder()
+                .initialLimit(initialLimit)
+                .minLimit(minLimit)
+                .maxLimit(maxLimit)
+                .backoffRatio(backoffRatio)
+                .latencyThreshold(latencyThreshold)
+                .build();
+        return new ServiceConcurrencyLimiter(serviceMethod("service", "method"), configuration);
+    }
+}
@@ -24,6 +24,7 @@
 import io.art.core.exception.*;
 import io.art.meta.constants.MetaConstants.*;
 import io.art.meta.model.*;
+import io.art.meta.schema.*;
 import io.art.meta.schema.MetaCreatorTemplate.*;
 import io.art.yaml.exception.*;
 import lombok.*;
@@ -88,8 +89,8 @@ public <T> T read(MetaType<T> type, InputStream yaml) {
     private static Object parseEntity(MetaType<?> type, YAMLParser parser) throws Throwable {
         JsonToken currentToken = parser.nextToken();
         MetaClass<?> definition = type.declaration();
-        MetaCreatorInstance creator = definition.creator().instantiate();
-        ImmutableMap<String, MetaProperty<?>> properties = creator.properties();
+        MetaCreatorInstance creator = definition.creator().acquire();
+        MetaPropertyIndex properties = creator.propertyIndex();
         do {
             if (currentToken == END_OBJECT) {
                 return creator.create();
@@ -103,7 +104,7 @@ private static Object parseEntity(MetaType<?> type, YAMLParser parser) throws Th
                 currentToken = parser.nextToken();
                 continue;
             }
-            MetaProperty<?> property = properties.get(field);
+            MetaProperty<?> property = properties.find(field);
             if (isNull(property)) {
                 currentToken = parser.nextToken();
                 continue;
@@ -20,6 +20,7 @@
 
 import com.fasterxml.jackson.dataformat.yaml.*;
 import io.art.meta.model.*;
+import io.art.meta.schema.*;
 import io.art.meta.schema.MetaProviderTemplate.*;
 import io.art.meta.transformer.*;
 import io.art.yaml.exception.*;
@@ -115,11 +116,13 @@ private static void writeEntity(YAMLGenerator generator, String name, MetaType<?
     }
 
     private static void writeFields(YAMLGenerator generator, MetaType<?> type, Object value) throws Throwable {
-        MetaProviderInstance provider = type.declaration().provider().instantiate(value);
+        MetaProviderTemplate template = type.declaration().provider();
+        MetaProviderInstance provider = template.acquire(value);
         for (MetaProperty<?> property : provider.properties().values()) {
             Object field = provider.getValue(property);
             writeField(generator, property.name(), property.type(), field);
         }
+        template.release(provider);
     }
 
     private static void writeMap(YAMLGenerator generator, MetaType<?> valueType, Map<String, ?> map) throws Throwable {